@@ -0,0 +1,123 @@
+package com.musinsa.test.benchmark;
+
+import com.musinsa.test.MainApplication;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.repository.ItemDictionary;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트와 합성 카탈로그 준비
+ * 임베디드 H2 를 벤치마크마다 별도 이름으로 띄우고 Flyway 스키마(인덱스 포함)를 그대로 사용
+ */
+final class BenchmarkApplication {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    // 합성 카탈로그의 카테고리 수와 브랜드/카테고리당 상품 수
+    static final int CATALOG_CATEGORIES = 8;
+    private static final int ITEMS_PER_BRAND_CATEGORY = 4;
+
+    private BenchmarkApplication() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * 웹 서버 없이 애플리케이션 컨텍스트를 시작
+     *
+     * @param databaseName 인메모리 H2 데이터베이스 이름
+     * @return ConfigurableApplicationContext
+     */
+    static ConfigurableApplicationContext start(String databaseName) {
+        return new SpringApplicationBuilder(MainApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN"
+                )
+                .run();
+    }
+
+    /**
+     * 시드 데이터를 지우고 brands x categories 개의 상품을 입력
+     *
+     * @param context 애플리케이션 컨텍스트
+     * @param brands 브랜드 수
+     * @param categories 카테고리 수
+     */
+    static void seed(ConfigurableApplicationContext context, int brands, int categories) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        ItemDictionary itemDictionary = context.getBean(ItemDictionary.class);
+        jdbcTemplate.update("DELETE FROM items");
+
+        Random random = new Random(42);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+
+        for (int category = 0; category < categories; category++) {
+            for (int brand = 0; brand < brands; brand++) {
+                batch.add(new Object[]{
+                        itemDictionary.brands().register("B" + brand),
+                        itemDictionary.categories().register("C" + category),
+                        1_000 + random.nextInt(100_000)
+                });
+
+                if (batch.size() == BATCH_SIZE) {
+                    insert(jdbcTemplate, batch);
+                    batch.clear();
+                }
+            }
+        }
+
+        insert(jdbcTemplate, batch);
+    }
+
+    /**
+     * 시드 데이터를 지우고 상품 items 개의 합성 카탈로그를 입력한 뒤 조회 인덱스를 다시 적재
+     * 모든 브랜드가 모든 카테고리에 상품을 가지도록 브랜드와 카테고리를 순환 배정
+     *
+     * @param context 애플리케이션 컨텍스트
+     * @param items 상품 수
+     */
+    static void seedCatalog(ConfigurableApplicationContext context, int items) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        ItemDictionary itemDictionary = context.getBean(ItemDictionary.class);
+        jdbcTemplate.update("DELETE FROM items");
+
+        int brands = Math.max(1, items / (CATALOG_CATEGORIES * ITEMS_PER_BRAND_CATEGORY));
+
+        Random random = new Random(42);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+
+        for (int item = 0; item < items; item++) {
+            int category = item % CATALOG_CATEGORIES;
+            int brand = (item / CATALOG_CATEGORIES) % brands;
+            batch.add(new Object[]{
+                    itemDictionary.brands().register("B" + brand),
+                    itemDictionary.categories().register("C" + category),
+                    1_000 + random.nextInt(100_000)
+            });
+
+            if (batch.size() == BATCH_SIZE) {
+                insert(jdbcTemplate, batch);
+                batch.clear();
+            }
+        }
+
+        insert(jdbcTemplate, batch);
+
+        // JdbcTemplate 입력은 outbox 이벤트를 남기지 않으므로 인덱스를 직접 다시 적재
+        context.getBean(ItemIndexManager.class).rebuild();
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO items (brand_id, category_id, price) VALUES (?, ?, ?)", batch);
+    }
+}
@@ -0,0 +1,110 @@
+package com.musinsa.test.benchmark;
+
+import com.musinsa.test.index.BrandLowestPriceIndex;
+import com.musinsa.test.index.BrandLowestPriceIndex.BrandCategoryPrices;
+import com.musinsa.test.index.CategoryLowestPriceIndex;
+import com.musinsa.test.index.CategoryRegistry;
+import com.musinsa.test.index.ItemSnapshot;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDBC 없이 조회 인덱스의 메모리 집계 로직만 측정
+ * - 조회: 카테고리별 최저가, 최저 총액 브랜드, 카테고리 존재 여부
+ * - 갱신: 임의 상품의 가격 변경을 반영했다가 되돌림 (상품 변경 한 건당 비용은 결과의 절반)
+ * - 적재: 전체 상품으로 인덱스를 다시 구성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ItemIndexBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int items;
+
+    private List<ItemSnapshot> snapshots;
+    private CategoryLowestPriceIndex categoryLowestPriceIndex;
+    private BrandLowestPriceIndex brandLowestPriceIndex;
+    private CategoryRegistry categoryRegistry;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int categories = BenchmarkApplication.CATALOG_CATEGORIES;
+        int brands = Math.max(1, items / (categories * 4));
+
+        Random prices = new Random(42);
+        snapshots = new ArrayList<>(items);
+        for (int item = 0; item < items; item++) {
+            snapshots.add(new ItemSnapshot(
+                    (long) item + 1,
+                    "B" + (item / categories) % brands,
+                    "C" + item % categories,
+                    1_000 + prices.nextInt(100_000),
+                    item
+            ));
+        }
+
+        categoryLowestPriceIndex = new CategoryLowestPriceIndex();
+        brandLowestPriceIndex = new BrandLowestPriceIndex();
+        categoryRegistry = new CategoryRegistry();
+
+        categoryLowestPriceIndex.rebuild(snapshots);
+        brandLowestPriceIndex.rebuild(snapshots);
+        categoryRegistry.rebuild(snapshots);
+
+        random = new Random(7);
+    }
+
+    @Benchmark
+    public List<ItemSnapshot> categoryLowestPrice() {
+        return categoryLowestPriceIndex.findLowestPriceItems();
+    }
+
+    @Benchmark
+    public Optional<BrandCategoryPrices> brandLowestPrice() {
+        return brandLowestPriceIndex.findLowestPriceBrand();
+    }
+
+    @Benchmark
+    public boolean categoryExists() {
+        return categoryRegistry.contains("C0");
+    }
+
+    @Benchmark
+    public Optional<BrandCategoryPrices> applyPriceChange() {
+        ItemSnapshot before = snapshots.get(random.nextInt(items));
+        ItemSnapshot after = new ItemSnapshot(before.id(), before.brand(), before.category(), before.price() / 2, before.updatedAt() + 1);
+
+        categoryLowestPriceIndex.apply(before, after);
+        brandLowestPriceIndex.apply(before, after);
+        categoryLowestPriceIndex.apply(after, before);
+        brandLowestPriceIndex.apply(after, before);
+
+        return brandLowestPriceIndex.findLowestPriceBrand();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public void rebuild(Blackhole blackhole) {
+        CategoryLowestPriceIndex categoryIndex = new CategoryLowestPriceIndex();
+        categoryIndex.rebuild(snapshots);
+        blackhole.consume(categoryIndex);
+
+        BrandLowestPriceIndex brandIndex = new BrandLowestPriceIndex();
+        brandIndex.rebuild(snapshots);
+        blackhole.consume(brandIndex);
+    }
+}
@@ -0,0 +1,257 @@
+package com.musinsa.test.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * items 의 브랜드/카테고리를 문자열로 둘 때(V1 ~ V3)와 정수 키 사전 테이블로 분리했을 때(V4)의 DB 조회 비교
+ * - inline: items.brand, items.category 문자열 컬럼 + (category, price), (brand) 인덱스
+ * - dictionary: brands/categories 사전 + items.brand_id, items.category_id + (category_id, price), (brand_id) 인덱스
+ *
+ * 같은 합성 카탈로그를 각 스키마로 입력하고, 조회는 ItemRepository 의 쿼리를 스키마별로 옮긴 SQL 로 실행
+ * 애플리케이션은 사전 키를 메모리에 캐시하므로 dictionary 의 조건 파라미터는 미리 조회한 정수 키를 사용
+ * 테이블/인덱스 크기(DISK_SPACE_USED)는 Setup 에서 출력, 인메모리 DB 는 크기를 0 으로 돌려주므로 임시 디렉터리의 파일 DB 를 사용
+ * 같은 쿼리를 같은 파라미터로 반복하면 H2 가 이전 결과를 재사용하므로 호출마다 카테고리/브랜드/조회 개수를 바꿈
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemSchemaBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int CATEGORIES = 20;
+
+    private static final String BRAND_PREFIX = "BRAND-";
+    private static final String CATEGORY_PREFIX = "CATEGORY-";
+
+    private static final Map<String, Queries> QUERIES = Map.of(
+            "inline", new Queries(
+                    """
+                    SELECT i.brand, i.price FROM items i
+                    WHERE i.category = ?
+                      AND (i.price = (SELECT MIN(l.price) FROM items l WHERE l.category = ?)
+                        OR i.price = (SELECT MAX(h.price) FROM items h WHERE h.category = ?))
+                    ORDER BY i.price ASC, i.updated_at DESC, i.id DESC
+                    """,
+                    """
+                    SELECT i.category, MIN(i.price) FROM items i
+                    WHERE i.brand = ?
+                    GROUP BY i.category ORDER BY i.category ASC
+                    """,
+                    """
+                    SELECT m.brand, SUM(m.min_price) AS total_price
+                    FROM (SELECT i.brand, i.category, MIN(i.price) AS min_price FROM items i GROUP BY i.brand, i.category) m
+                    GROUP BY m.brand
+                    HAVING COUNT(DISTINCT m.category) = (SELECT COUNT(DISTINCT c.category) FROM items c)
+                    ORDER BY total_price ASC, m.brand ASC
+                    LIMIT ?
+                    """
+            ),
+            "dictionary", new Queries(
+                    """
+                    SELECT (SELECT b.name FROM brands b WHERE b.id = i.brand_id) AS brand, i.price FROM items i
+                    WHERE i.category_id = ?
+                      AND (i.price = (SELECT MIN(l.price) FROM items l WHERE l.category_id = ?)
+                        OR i.price = (SELECT MAX(h.price) FROM items h WHERE h.category_id = ?))
+                    ORDER BY i.price ASC, i.updated_at DESC, i.id DESC
+                    """,
+                    """
+                    SELECT (SELECT c.name FROM categories c WHERE c.id = i.category_id) AS category, MIN(i.price) FROM items i
+                    WHERE i.brand_id = ?
+                    GROUP BY i.category_id ORDER BY category ASC
+                    """,
+                    """
+                    SELECT (SELECT b.name FROM brands b WHERE b.id = m.brand_id) AS brand, SUM(m.min_price) AS total_price
+                    FROM (SELECT i.brand_id, i.category_id, MIN(i.price) AS min_price FROM items i GROUP BY i.brand_id, i.category_id) m
+                    GROUP BY m.brand_id
+                    HAVING COUNT(DISTINCT m.category_id) = (SELECT COUNT(DISTINCT c.category_id) FROM items c)
+                    ORDER BY total_price ASC, brand ASC
+                    LIMIT ?
+                    """
+            )
+    );
+
+    @Param({"inline", "dictionary"})
+    private String layout;
+
+    @Param({"100000"})
+    private int items;
+
+    private Path directory;
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private Queries queries;
+
+    // 조회 조건, dictionary 는 정수 키
+    private Object[] categoryKeys;
+    private Object[] brandKeys;
+    private int invocation;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("item_schema_");
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:file:" + directory.resolve(layout) + "", "sa", "", true);
+        dataSource.setDriverClassName("org.h2.Driver");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        queries = QUERIES.get(layout);
+
+        int brands = Math.max(1, items / (CATEGORIES * 5));
+        boolean inline = layout.equals("inline");
+        if (inline) {
+            createInline(brands);
+        } else {
+            createDictionary(brands);
+        }
+
+        categoryKeys = new Object[CATEGORIES];
+        for (int category = 0; category < CATEGORIES; category++) {
+            categoryKeys[category] = inline ? CATEGORY_PREFIX + category : category + 1;
+        }
+        brandKeys = new Object[brands];
+        for (int brand = 0; brand < brands; brand++) {
+            brandKeys[brand] = inline ? BRAND_PREFIX + brand : brand + 1;
+        }
+
+        jdbcTemplate.execute("ANALYZE");
+        jdbcTemplate.execute("CHECKPOINT");
+        for (String table : List.of("items", "brands", "categories")) {
+            Long size = jdbcTemplate.queryForObject(
+                    "SELECT CASE WHEN EXISTS (SELECT 1 FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = ?) " +
+                            "THEN DISK_SPACE_USED(?) END",
+                    Long.class, table.toUpperCase(), table);
+            if (size != null) {
+                System.out.printf("%n[%s] %s 테이블 + 인덱스: %,d bytes%n", layout, table, size);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        dataSource.destroy();
+        try (var files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> {
+                try {
+                    Files.delete(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> categoryLowestHighest() {
+        Object category = categoryKeys[invocation++ % categoryKeys.length];
+        return jdbcTemplate.queryForList(queries.lowestHighest(), category, category, category);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> brandLowestPrices() {
+        return jdbcTemplate.queryForList(queries.brandLowestPrices(), brandKeys[invocation++ % brandKeys.length]);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> completeBrandTotals() {
+        return jdbcTemplate.queryForList(queries.completeBrandTotals(), 10 + invocation++ % 2);
+    }
+
+    private void createInline(int brands) {
+        jdbcTemplate.execute("""
+                CREATE TABLE items (
+                    id BIGINT PRIMARY KEY,
+                    brand VARCHAR(255) NOT NULL,
+                    category VARCHAR(50) NOT NULL,
+                    price INT NOT NULL,
+                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                )
+                """);
+        jdbcTemplate.execute("CREATE INDEX idx_category_price ON items (category, price)");
+        jdbcTemplate.execute("CREATE INDEX idx_brand ON items (brand)");
+
+        insertItems(brands, "INSERT INTO items (id, brand, category, price) VALUES (?, ?, ?, ?)",
+                (brand, category) -> new Object[]{BRAND_PREFIX + brand, CATEGORY_PREFIX + category});
+    }
+
+    private void createDictionary(int brands) {
+        jdbcTemplate.execute("CREATE TABLE brands (id INT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255) NOT NULL UNIQUE)");
+        jdbcTemplate.execute("CREATE TABLE categories (id INT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(50) NOT NULL UNIQUE)");
+        jdbcTemplate.execute("""
+                CREATE TABLE items (
+                    id BIGINT PRIMARY KEY,
+                    brand_id INT NOT NULL,
+                    category_id INT NOT NULL,
+                    price INT NOT NULL,
+                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                )
+                """);
+        jdbcTemplate.execute("CREATE INDEX idx_category_price ON items (category_id, price)");
+        jdbcTemplate.execute("CREATE INDEX idx_brand ON items (brand_id)");
+
+        // V4 와 같은 순서로 외래 키 추가, H2 는 외래 키마다 참조 컬럼 인덱스를 따로 만듦
+        jdbcTemplate.execute("ALTER TABLE items ADD CONSTRAINT fk_items_brand FOREIGN KEY (brand_id) REFERENCES brands (id)");
+        jdbcTemplate.execute("ALTER TABLE items ADD CONSTRAINT fk_items_category FOREIGN KEY (category_id) REFERENCES categories (id)");
+
+        // 키는 1 부터 (번호 + 1)
+        List<Object[]> brandRows = new ArrayList<>(brands);
+        for (int brand = 0; brand < brands; brand++) {
+            brandRows.add(new Object[]{BRAND_PREFIX + brand});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO brands (name) VALUES (?)", brandRows);
+
+        List<Object[]> categoryRows = new ArrayList<>(CATEGORIES);
+        for (int category = 0; category < CATEGORIES; category++) {
+            categoryRows.add(new Object[]{CATEGORY_PREFIX + category});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO categories (name) VALUES (?)", categoryRows);
+
+        insertItems(brands, "INSERT INTO items (id, brand_id, category_id, price) VALUES (?, ?, ?, ?)",
+                (brand, category) -> new Object[]{brand + 1, category + 1});
+    }
+
+    // 두 스키마에 같은 (브랜드, 카테고리, 가격) 순서로 입력
+    private void insertItems(int brands, String sql, KeyColumns keyColumns) {
+        Random random = new Random(42);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+
+        for (int item = 0; item < items; item++) {
+            int category = item % CATEGORIES;
+            int brand = (item / CATEGORIES) % brands;
+            Object[] keys = keyColumns.of(brand, category);
+            batch.add(new Object[]{item + 1L, keys[0], keys[1], 1_000 + random.nextInt(100_000)});
+
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    @FunctionalInterface
+    private interface KeyColumns {
+        Object[] of(int brand, int category);
+    }
+
+    private record Queries(String lowestHighest, String brandLowestPrices, String completeBrandTotals) {
+    }
+}
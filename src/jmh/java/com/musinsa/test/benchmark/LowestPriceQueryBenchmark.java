@@ -0,0 +1,68 @@
+package com.musinsa.test.benchmark;
+
+import com.musinsa.test.domain.Item;
+import com.musinsa.test.dto.CategoryLowestPriceProjection;
+import com.musinsa.test.repository.ItemRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카테고리별 최저가 DB 조회 방식 비교
+ * - perCategory: findCategories + 카테고리마다 findFirstByCategoryOrderByPriceAscUpdatedAtDesc (1 + N 쿼리)
+ * - windowFunction: ROW_NUMBER() 윈도우 함수 쿼리 1회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LowestPriceQueryBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int categories;
+
+    @Param({"20"})
+    private int brands;
+
+    private ConfigurableApplicationContext context;
+    private ItemRepository itemRepository;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("lowest_price_query_" + categories);
+        BenchmarkApplication.seed(context, brands, categories);
+
+        itemRepository = context.getBean(ItemRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Item> perCategory() {
+        return readOnlyTransaction.execute(status -> {
+            List<Item> lowestPriceItems = new ArrayList<>();
+            for (String category : itemRepository.findCategories()) {
+                itemRepository.findFirstByCategoryOrderByPriceAscUpdatedAtDesc(category).ifPresent(lowestPriceItems::add);
+            }
+            return lowestPriceItems;
+        });
+    }
+
+    @Benchmark
+    public List<CategoryLowestPriceProjection> windowFunction() {
+        return readOnlyTransaction.execute(status -> itemRepository.findLowestPriceItemsByCategory());
+    }
+}
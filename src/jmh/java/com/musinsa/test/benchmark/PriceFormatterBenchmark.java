@@ -0,0 +1,56 @@
+package com.musinsa.test.benchmark;
+
+import com.musinsa.test.util.PriceFormatter;
+import org.openjdk.jmh.annotations.*;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PriceFormatter 와 기존 구현(호출마다 NumberFormat.getNumberInstance(Locale.KOREA)) 비교
+ * - 34100: 캐시 대상 가격 (100원 단위, 100만원 미만)
+ * - 12345, 1000000000: 캐시 대상이 아닌 가격
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceFormatterBenchmark {
+
+    @Param({"34100", "12345", "1000000000"})
+    private int price;
+
+    private StringBuilder builder;
+    private byte[] buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        builder = new StringBuilder(PriceFormatter.MAX_LENGTH);
+        buffer = new byte[PriceFormatter.MAX_LENGTH];
+    }
+
+    @Benchmark
+    public String numberFormat() {
+        return NumberFormat.getNumberInstance(Locale.KOREA).format(price);
+    }
+
+    @Benchmark
+    public String korFormat() {
+        return PriceFormatter.KorFormat(price);
+    }
+
+    @Benchmark
+    public StringBuilder appendKorFormat() {
+        builder.setLength(0);
+        return PriceFormatter.appendKorFormat(builder, price);
+    }
+
+    @Benchmark
+    public byte[] writeKorFormat() {
+        PriceFormatter.writeKorFormat(buffer, 0, price);
+        return buffer;
+    }
+}
@@ -0,0 +1,79 @@
+package com.musinsa.test.benchmark;
+
+import com.musinsa.test.dto.BrandLowestPriceResponseDto;
+import com.musinsa.test.dto.LowestHighestResponseDto;
+import com.musinsa.test.dto.LowestPriceResponseDto;
+import com.musinsa.test.service.BrandPriceService;
+import com.musinsa.test.service.LowestHighestService;
+import com.musinsa.test.service.LowestPriceService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 가격 조회 서비스 벤치마크 (임베디드 H2, 상품 10^3 ~ 10^6 개)
+ * - index: 트랜잭션 밖에서 호출해서 조회 인덱스로 응답
+ * - database: 쓰기 트랜잭션 안에서 호출해서 인덱스 대신 DB 쿼리로 응답
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PricingServiceBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int items;
+
+    @Param({"index", "database"})
+    private String source;
+
+    private ConfigurableApplicationContext context;
+    private LowestPriceService lowestPriceService;
+    private BrandPriceService brandPriceService;
+    private LowestHighestService lowestHighestService;
+    private TransactionTemplate readWriteTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("pricing_service_" + items + "_" + source);
+        BenchmarkApplication.seedCatalog(context, items);
+
+        lowestPriceService = context.getBean(LowestPriceService.class);
+        brandPriceService = context.getBean(BrandPriceService.class);
+        lowestHighestService = context.getBean(LowestHighestService.class);
+        readWriteTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public LowestPriceResponseDto lowestPrice() {
+        return call(lowestPriceService::getLowestPrice);
+    }
+
+    @Benchmark
+    public BrandLowestPriceResponseDto lowestPriceBrand() {
+        return call(brandPriceService::getLowestPriceBrand);
+    }
+
+    @Benchmark
+    public LowestHighestResponseDto lowestHighestPrice() {
+        return call(() -> lowestHighestService.findLowestHighestPrice("C0"));
+    }
+
+    private <T> T call(Supplier<T> query) {
+        if ("index".equals(source)) {
+            return query.get();
+        }
+        return readWriteTransaction.execute(status -> query.get());
+    }
+}
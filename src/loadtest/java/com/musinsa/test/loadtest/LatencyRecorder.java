@@ -0,0 +1,43 @@
+package com.musinsa.test.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 작업 스레드 하나의 엔드포인트별 지연 시간(ns) 기록, 스레드 간 공유하지 않으므로 동기화 없음
+ */
+final class LatencyRecorder {
+
+    final Map<String, Samples> samplesByEndpoint = new TreeMap<>();
+
+    void record(String endpoint, long latencyNanos, boolean success) {
+        samplesByEndpoint.computeIfAbsent(endpoint, key -> new Samples()).add(latencyNanos, success);
+    }
+
+    static final class Samples {
+
+        long[] latencies = new long[1_024];
+        int count;
+        int errors;
+
+        void add(long latencyNanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + other.count));
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+    }
+}
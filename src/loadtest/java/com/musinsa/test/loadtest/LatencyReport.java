@@ -0,0 +1,67 @@
+package com.musinsa.test.loadtest;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 모든 작업 스레드의 기록을 합쳐서 엔드포인트별 처리량과 p50/p99/p999 지연 시간을 계산
+ */
+final class LatencyReport {
+
+    private static final String TOTAL = "total";
+
+    private final Map<String, LatencyRecorder.Samples> samplesByEndpoint;
+    private final long elapsedNanos;
+
+    private LatencyReport(Map<String, LatencyRecorder.Samples> samplesByEndpoint, long elapsedNanos) {
+        this.samplesByEndpoint = samplesByEndpoint;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    static LatencyReport merge(Collection<LatencyRecorder> recorders, long elapsedNanos) {
+        Map<String, LatencyRecorder.Samples> merged = new TreeMap<>();
+        LatencyRecorder.Samples total = new LatencyRecorder.Samples();
+
+        for (LatencyRecorder recorder : recorders) {
+            recorder.samplesByEndpoint.forEach((endpoint, samples) -> {
+                merged.computeIfAbsent(endpoint, key -> new LatencyRecorder.Samples()).addAll(samples);
+                total.addAll(samples);
+            });
+        }
+
+        merged.put(TOTAL, total);
+        merged.values().forEach(samples -> Arrays.sort(samples.latencies, 0, samples.count));
+        return new LatencyReport(merged, elapsedNanos);
+    }
+
+    void print(PrintStream out) {
+        double elapsedSeconds = elapsedNanos / 1e9;
+
+        out.printf("%-20s %10s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        samplesByEndpoint.forEach((endpoint, samples) -> out.printf("%-20s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                endpoint,
+                samples.count,
+                samples.errors,
+                samples.count / elapsedSeconds,
+                percentile(samples, 0.50),
+                percentile(samples, 0.99),
+                percentile(samples, 0.999),
+                percentile(samples, 1.0)
+        ));
+    }
+
+    /**
+     * nearest-rank 방식 백분위 (ms)
+     */
+    private static double percentile(LatencyRecorder.Samples samples, double percentile) {
+        if (samples.count == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * samples.count);
+        return samples.latencies[Math.max(rank, 1) - 1] / 1e6;
+    }
+}
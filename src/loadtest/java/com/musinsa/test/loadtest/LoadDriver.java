@@ -0,0 +1,215 @@
+package com.musinsa.test.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 실행 중인 서버에 구현 1~4 API 의 읽기/쓰기 요청을 섞어서 보내고 지연 시간 분포와 처리량을 출력하는 로컬 부하 도구
+ *
+ * 실행: ./gradlew loadTest -Pload.args="--base-url=http://localhost:8080 --duration=30 --concurrency=64 --write-ratio=0.1"
+ * - 요청마다 가상 스레드 하나가 담당하는 closed-loop 방식 (동시 요청 수 = concurrency)
+ * - 읽기 요청은 --reads 로 지정한 API 중에서 고름 (기본값 implement1,implement2,implement3)
+ * - 쓰기 요청은 상품 생성 -> 갱신 -> 삭제 순서로 보내서 카탈로그 크기를 유지
+ * - warmup 구간의 요청은 집계하지 않음
+ */
+public final class LoadDriver {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Pattern CREATED_ID = Pattern.compile("ID: (\\d+)");
+    private static final List<String> READ_ENDPOINTS = List.of("implement1", "implement2", "implement3", "implement4.list");
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final List<String> categories;
+    private final List<String> reads;
+
+    private LoadDriver(HttpClient httpClient, String baseUrl, List<String> categories, List<String> reads) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.categories = categories;
+        this.reads = reads;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        double writeRatio = Double.parseDouble(options.getOrDefault("write-ratio", "0.1"));
+        List<String> reads = List.of(options.getOrDefault("reads", "implement1,implement2,implement3").split(","));
+        if (!READ_ENDPOINTS.containsAll(reads)) {
+            throw new IllegalArgumentException("--reads 는 " + READ_ENDPOINTS + " 중에서 지정해야 합니다: " + reads);
+        }
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        LoadDriver driver = new LoadDriver(httpClient, baseUrl, fetchCategories(httpClient, baseUrl), reads);
+
+        System.out.printf("base-url=%s, duration=%ds, warmup=%ds, concurrency=%d, write-ratio=%.2f, reads=%s, categories=%d%n",
+                baseUrl, durationSeconds, warmupSeconds, concurrency, writeRatio, reads, driver.categories.size());
+
+        driver.run(Duration.ofSeconds(warmupSeconds), concurrency, writeRatio);
+        LatencyReport report = driver.run(Duration.ofSeconds(durationSeconds), concurrency, writeRatio);
+        report.print(System.out);
+    }
+
+    private LatencyReport run(Duration duration, int concurrency, double writeRatio) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<LatencyRecorder> recorders = new ArrayList<>(concurrency);
+
+        long startedAt = System.nanoTime();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                LatencyRecorder recorder = new LatencyRecorder();
+                recorders.add(recorder);
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        if (ThreadLocalRandom.current().nextDouble() < writeRatio) {
+                            write(recorder);
+                        } else {
+                            read(recorder);
+                        }
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - startedAt;
+
+        return LatencyReport.merge(recorders, elapsed);
+    }
+
+    private void read(LatencyRecorder recorder) {
+        String endpoint = reads.get(ThreadLocalRandom.current().nextInt(reads.size()));
+        switch (endpoint) {
+            case "implement1" -> send(recorder, endpoint, get("/api/implement1/category_lowest_price"));
+            case "implement2" -> send(recorder, endpoint, get("/api/implement2/lowest_price_brand"));
+            case "implement3" -> send(recorder, endpoint, get("/api/implement3/lowest_highest?category="
+                    + URLEncoder.encode(randomCategory(), StandardCharsets.UTF_8)));
+            // 인덱스를 거치지 않고 매번 DB 를 조회하는 읽기
+            default -> send(recorder, endpoint, get("/api/implement4/items?size=100"));
+        }
+    }
+
+    private void write(LatencyRecorder recorder) {
+        String category = randomCategory();
+        int price = 1_000 + ThreadLocalRandom.current().nextInt(100_000);
+
+        String created = send(recorder, "implement4.create", post("/api/implement4/item", itemJson(category, price)));
+        Matcher matcher = created == null ? null : CREATED_ID.matcher(created);
+        if (matcher == null || !matcher.find()) {
+            return;
+        }
+
+        String itemPath = "/api/implement4/item/" + matcher.group(1);
+        send(recorder, "implement4.update", put(itemPath, itemJson(category, price + 100)));
+        send(recorder, "implement4.delete", delete(itemPath));
+    }
+
+    /**
+     * 요청 하나를 보내고 지연 시간을 기록
+     *
+     * @return 2xx 응답 본문, 실패 시 null
+     */
+    private String send(LatencyRecorder recorder, String endpoint, HttpRequest request) {
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean success = response.statusCode() / 100 == 2;
+            recorder.record(endpoint, System.nanoTime() - startedAt, success);
+            return success ? response.body() : null;
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - startedAt, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private String randomCategory() {
+        return categories.get(ThreadLocalRandom.current().nextInt(categories.size()));
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return request(path).header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private HttpRequest put(String path, String body) {
+        return request(path).header("Content-Type", "application/json").PUT(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private HttpRequest delete(String path) {
+        return request(path).DELETE().build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+    }
+
+    private static String itemJson(String category, int price) {
+        Map<String, Object> item = Map.of("brand", "LOAD-TEST", "category", category, "price", price);
+        try {
+            return OBJECT_MAPPER.writeValueAsString(item);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 구현 1 응답에서 카테고리 목록을 가져옴
+     */
+    private static List<String> fetchCategories(HttpClient httpClient, String baseUrl) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/implement1/category_lowest_price")).GET().build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("카테고리 목록 조회 실패: HTTP " + response.statusCode());
+        }
+
+        List<String> categories = new ArrayList<>();
+        for (JsonNode item : OBJECT_MAPPER.readTree(response.body()).path("lowestPriceItems")) {
+            categories.add(item.path("category").asText());
+        }
+        if (categories.isEmpty()) {
+            throw new IllegalStateException("상품이 없어 부하를 보낼 수 없습니다.");
+        }
+        return categories;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
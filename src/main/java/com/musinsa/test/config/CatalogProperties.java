@@ -0,0 +1,109 @@
+package com.musinsa.test.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 상품 조회 관련 설정 (application.properties 의 catalog.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog")
+public class CatalogProperties {
+
+    private final LowestPrice lowestPrice = new LowestPrice();
+    private final Generator generator = new Generator();
+    private final ItemImport itemImport = new ItemImport();
+    private final Replica replica = new Replica();
+    private final Outbox outbox = new Outbox();
+    private final Reactive reactive = new Reactive();
+
+    @Getter
+    @Setter
+    public static class LowestPrice {
+
+        // 인덱스를 사용할 수 없을 때의 DB 조회 방식
+        private LowestPriceQueryMode queryMode = LowestPriceQueryMode.PER_CATEGORY;
+    }
+
+    @Getter
+    @Setter
+    public static class ItemImport {
+
+        // flush 후 영속성 컨텍스트를 비우는 단위, hibernate.jdbc.batch_size 의 배수로 설정
+        private int batchSize = 500;
+
+        // 응답에 담는 최대 오류 수, 초과분은 개수만 집계
+        private int maxErrors = 1_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Generator {
+
+        // 기동 시 합성 카탈로그 생성 여부
+        private boolean enabled = false;
+
+        // 생성 전에 기존 상품(시드 데이터 포함)을 모두 삭제
+        private boolean clearExisting = true;
+
+        private int brands = 100;
+        private int categories = 8;
+        private int itemsPerPair = 10;
+
+        // 가격 분포의 치우침 (로그 정규 분포의 표준편차), 클수록 고가 상품 꼬리가 길어짐
+        private double priceSkew = 0.6;
+
+        private long seed = 42L;
+        private int batchSize = 1_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        // 읽기 전용 트랜잭션을 복제본으로 보낼지 여부
+        private boolean enabled = false;
+
+        private String url = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1;LAZY_QUERY_EXECUTION=TRUE";
+        private String username = "sa";
+        private String password = "";
+
+        // 복제 지연이 이 값을 넘으면 읽기 전용 트랜잭션도 원본으로 보냄
+        private Duration maxStaleness = Duration.ofSeconds(1);
+
+        // 로컬 확인용 인위적인 복제 지연, 커밋 후 이 시간이 지나야 복제본에 반영
+        private Duration replicationDelay = Duration.ZERO;
+
+        // 복제본에 한 번에 반영하는 변경 수
+        private int batchSize = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Outbox {
+
+        // 한 번에 소비자에게 전달하는 이벤트 수
+        private int batchSize = 100;
+
+        // 커밋 알림이 없어도 outbox 를 확인하는 주기 (전달 실패 재시도, 재기동 전 남은 이벤트)
+        private Duration pollInterval = Duration.ofSeconds(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Reactive {
+
+        // 리액티브 조회 서버 포트, 서블릿 서버(server.port)와 별도 (0 이면 임의 포트)
+        private int port = 8081;
+
+        // R2DBC 커넥션 풀 크기, 쿼리를 실행하는 전용 스레드 수도 같음
+        private int poolSize = 8;
+
+        // 요청 하나가 카테고리별 최저가 조회를 동시에 실행하는 최대 수
+        private int maxConcurrency = 4;
+    }
+}
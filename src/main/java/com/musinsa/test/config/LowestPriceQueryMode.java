@@ -0,0 +1,13 @@
+package com.musinsa.test.config;
+
+/**
+ * 인덱스를 사용할 수 없을 때 카테고리별 최저가를 DB 에서 조회하는 방식
+ */
+public enum LowestPriceQueryMode {
+
+    // 카테고리 목록 조회 후 카테고리마다 최저가 상품을 조회 (1 + N 쿼리)
+    PER_CATEGORY,
+
+    // ROW_NUMBER() 윈도우 함수로 모든 카테고리의 최저가 상품을 한 번에 조회 (1 쿼리)
+    WINDOW_FUNCTION
+}
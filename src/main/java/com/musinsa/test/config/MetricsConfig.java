@@ -0,0 +1,27 @@
+package com.musinsa.test.config;
+
+import com.musinsa.test.metrics.QueryCounter;
+import com.musinsa.test.util.PriceFormatter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 서비스 메서드 시간(@Timed, catalog.service)은 management.observations.annotations.enabled 로 활성화
+ */
+@Configuration
+public class MetricsConfig {
+
+    // 요청당 SQL 문 수(전체, ItemRepository 호출 안) 집계를 위해 Hibernate 에 QueryCounter 등록
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer(QueryCounter queryCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCounter);
+    }
+
+    @Bean
+    public MeterBinder priceFormatterCacheMetrics() {
+        return PriceFormatter.cacheMetrics();
+    }
+}
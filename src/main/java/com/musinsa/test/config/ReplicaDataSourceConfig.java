@@ -0,0 +1,75 @@
+package com.musinsa.test.config;
+
+import com.musinsa.test.replica.ReadWriteRoutingDataSource;
+import com.musinsa.test.replica.ReplicaSynchronizer;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 분리 설정 (catalog.replica.enabled=true 일 때만 사용)
+ * - 원본: spring.datasource.*, 복제본: catalog.replica.*
+ * - 애플리케이션이 사용하는 DataSource 는 두 DataSource 를 라우팅하는 프록시
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "catalog.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(CatalogProperties catalogProperties) {
+        CatalogProperties.Replica properties = catalogProperties.getReplica();
+
+        HikariDataSource replicaDataSource = new HikariDataSource();
+        replicaDataSource.setPoolName("replica");
+        replicaDataSource.setJdbcUrl(properties.getUrl());
+        replicaDataSource.setUsername(properties.getUsername());
+        replicaDataSource.setPassword(properties.getPassword());
+
+        DatabasePopulatorUtils.execute(
+                new ResourceDatabasePopulator(new ClassPathResource("db/replica/schema.sql")), replicaDataSource);
+
+        return replicaDataSource;
+    }
+
+    @Bean
+    public ReplicaSynchronizer replicaSynchronizer(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                   @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                   CatalogProperties catalogProperties) {
+        CatalogProperties.Replica properties = catalogProperties.getReplica();
+
+        return new ReplicaSynchronizer(
+                new JdbcTemplate(primaryDataSource),
+                new JdbcTemplate(replicaDataSource),
+                properties.getMaxStaleness(),
+                properties.getReplicationDelay(),
+                properties.getBatchSize()
+        );
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaSynchronizer replicaSynchronizer) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaSynchronizer));
+    }
+}
@@ -3,15 +3,10 @@ package com.musinsa.test.controller;
 import com.musinsa.test.domain.Item;
 import com.musinsa.test.dto.*;
 import com.musinsa.test.exception.RecordNotFoundException;
-import com.musinsa.test.service.BrandPriceService;
+import com.musinsa.test.service.CoalescingReadService;
 import com.musinsa.test.service.ItemService;
 import com.musinsa.test.service.LowestHighestService;
-import com.musinsa.test.service.LowestPriceService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -20,8 +15,7 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class PageController {
 
-    private final LowestPriceService lowestPriceService;
-    private final BrandPriceService brandPriceService;
+    private final CoalescingReadService coalescingReadService;
     private final LowestHighestService lowestHighestService;
     private final ItemService itemService;
 
@@ -33,7 +27,7 @@ public class PageController {
 
     @GetMapping("/implement1")
     public String implement1(Model model) {
-        LowestPriceResponseDto lowestPrice = lowestPriceService.getLowestPrice();
+        LowestPriceResponseDto lowestPrice = coalescingReadService.getLowestPrice();
         model.addAttribute("lowestPrice", lowestPrice);
 
         return "implement1";
@@ -41,7 +35,7 @@ public class PageController {
 
     @GetMapping("/implement2")
     public String implement2(Model model) {
-        BrandLowestPriceResponseDto lowestPriceBrand = brandPriceService.getLowestPriceBrand();
+        BrandLowestPriceResponseDto lowestPriceBrand = coalescingReadService.getLowestPriceBrand();
         model.addAttribute("lowestPriceBrand", lowestPriceBrand);
 
         return "implement2";
@@ -60,7 +54,7 @@ public class PageController {
         }
 
         try {
-            LowestHighestResponseDto lowestHighest = lowestHighestService.findLowestHighestPrice(categoryName);
+            LowestHighestResponseDto lowestHighest = coalescingReadService.findLowestHighestPrice(categoryName);
             model.addAttribute("lowestHighest", lowestHighest);
         } catch (RecordNotFoundException e) {
             model.addAttribute("error", e.getMessage());
@@ -71,13 +65,24 @@ public class PageController {
         return "implement3";
     }
 
+    /**
+     * 상품이 많아도 일정한 응답 시간을 위해 offset/count 대신 keyset(커서) 방식으로 조회
+     */
     @GetMapping("/implement4")
     public String implement4List(
-            Model model, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size
+            Model model, @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "10") int size
     ) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("id").descending());
-        Page<ItemAdminDto> itemPage = itemService.getList(pageable);
-        model.addAttribute("itemPage", itemPage);
+        ItemScrollDto itemScroll;
+        try {
+            itemScroll = itemService.getListByCursor(cursor, size);
+        } catch (IllegalArgumentException e) {
+            // 올바르지 않은 커서나 페이지 크기는 첫 페이지로
+            return "redirect:/implement4";
+        }
+
+        model.addAttribute("itemScroll", itemScroll);
+        model.addAttribute("size", size);
+        model.addAttribute("firstPage", cursor == null || cursor.isBlank());
         return "implement4";
     }
 
@@ -2,7 +2,9 @@ package com.musinsa.test.controller.api;
 
 import com.musinsa.test.dto.ErrorResponseDto;
 import com.musinsa.test.dto.LowestPriceResponseDto;
-import com.musinsa.test.service.LowestPriceService;
+import com.musinsa.test.service.CoalescingReadService;
+import com.musinsa.test.service.ResponseSnapshotService;
+import com.musinsa.test.service.ResponseSnapshotService.ResponseSnapshot;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -16,11 +18,14 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Optional;
+
 /**
  * 1. 고객은 카테고리 별로 최저가격인 브랜드와 가격을 조회하고 총액이 얼마인지 확인할 수 있어야 합니다.
  * API 실패 시, 실패값과 실패 사유를 전달해야 합니다.
  *
  * 핵심 조건:
+ * - 응답은 상품 변경(카탈로그 버전)이 있을 때만 다시 만들고, ETag 로 변경이 없으면 304 응답
  * - 각 카테고리마다 가장 저렴한 최저가 상품 찾기
  *   - 만약 동일한 최저가 상품이 존재한다면 최근에 업데이트된 상품으로 리턴
  * - 최저가 상품들의 가격 합산
@@ -31,19 +36,27 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class Implement1Controller {
 
-    private final LowestPriceService lowestPriceService;
+    private final CoalescingReadService coalescingReadService;
+    private final ResponseSnapshotService responseSnapshotService;
 
     @Operation(summary = "카테고리 별 최저가격 브랜드와 상품 가격, 총액을 조회", description = "")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "성공",
                     content = @Content(schema = @Schema(implementation = LowestPriceResponseDto.class))),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 와 같은 응답", content = @Content),
             @ApiResponse(responseCode = "400", description = "실패",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
     })
     @GetMapping("/category_lowest_price")
     public ResponseEntity<?> categoryLowestPrice() {
         try {
-            LowestPriceResponseDto response = lowestPriceService.getLowestPrice();
+            // 인덱스로 응답할 수 있으면 카탈로그 버전별로 직렬화해 둔 응답을 ETag 와 함께 반환
+            Optional<ResponseSnapshot> snapshot = responseSnapshotService.getSnapshot("category_lowest_price", coalescingReadService::getLowestPrice);
+            if (snapshot.isPresent()) {
+                return snapshot.get().toResponseEntity();
+            }
+
+            LowestPriceResponseDto response = coalescingReadService.getLowestPrice();
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             int status = HttpStatus.BAD_REQUEST.value();
@@ -1,8 +1,13 @@
 package com.musinsa.test.controller.api;
 
 import com.musinsa.test.dto.BrandLowestPriceResponseDto;
+import com.musinsa.test.dto.BrandRankDto;
+import com.musinsa.test.dto.BrandRankingResponseDto;
 import com.musinsa.test.dto.ErrorResponseDto;
-import com.musinsa.test.service.BrandPriceService;
+import com.musinsa.test.exception.RecordNotFoundException;
+import com.musinsa.test.service.CoalescingReadService;
+import com.musinsa.test.service.ResponseSnapshotService;
+import com.musinsa.test.service.ResponseSnapshotService.ResponseSnapshot;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,17 +18,23 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Optional;
+
 /**
  * 2. 고객은 단일 브랜드로 전체 카테고리 상품을 구매할 경우 최저가격인 브랜드와 총액이 얼마인지 확인할 수 있어야 합니다.
  * API 실패 시, 실패값과 실패 사유를 전달해야 합니다.
  *
  * 핵심 조건:
+ * - 응답은 상품 변경(카탈로그 버전)이 있을 때만 다시 만들고, ETag 로 변경이 없으면 304 응답
  * - 하나의 브랜드에서 모든 카테고리 상품을 구매
  * - 선택된 브랜드는 시스템 내 모든 카테고리의 상품을 보유해야됨
  * - 각 카테고리에서는 해당 브랜드의 가장 저렴한 상품을 기준으로 총액 계산
+ * - 순위는 같은 조건의 브랜드를 총액 오름차순, 총액이 같으면 브랜드명 오름차순으로 매김
  */
 @RestController
 @RequestMapping("/api/implement2")
@@ -31,19 +42,27 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class Implement2Controller {
 
-    private final BrandPriceService brandPriceService;
+    private final CoalescingReadService coalescingReadService;
+    private final ResponseSnapshotService responseSnapshotService;
 
     @Operation(summary = "단일 브랜드로 모든 카테고리 상품을 구매할 때 최저가격에 판매하는 브랜드와 카테고리의 상품가격, 총액을 조회", description = "")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "성공",
                     content = @Content(schema = @Schema(implementation = BrandLowestPriceResponseDto.class))),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 와 같은 응답", content = @Content),
             @ApiResponse(responseCode = "400", description = "실패",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
     })
     @GetMapping("/lowest_price_brand")
     public ResponseEntity<?> lowestPriceBrand() {
         try {
-            BrandLowestPriceResponseDto response = brandPriceService.getLowestPriceBrand();
+            // 인덱스로 응답할 수 있으면 카탈로그 버전별로 직렬화해 둔 응답을 ETag 와 함께 반환
+            Optional<ResponseSnapshot> snapshot = responseSnapshotService.getSnapshot("lowest_price_brand", coalescingReadService::getLowestPriceBrand);
+            if (snapshot.isPresent()) {
+                return snapshot.get().toResponseEntity();
+            }
+
+            BrandLowestPriceResponseDto response = coalescingReadService.getLowestPriceBrand();
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             int status = HttpStatus.BAD_REQUEST.value();
@@ -54,4 +73,60 @@ public class Implement2Controller {
             return ResponseEntity.status(status).body(errorResponse);
         }
     }
+
+    @Operation(summary = "모든 카테고리 상품을 보유한 브랜드를 총액이 낮은 순으로 상위 size 개 조회", description = "")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "성공",
+                    content = @Content(schema = @Schema(implementation = BrandRankingResponseDto.class))),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 와 같은 응답", content = @Content),
+            @ApiResponse(responseCode = "400", description = "올바르지 않은 조회 개수",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+    })
+    @GetMapping("/brand_ranking")
+    public ResponseEntity<?> brandRanking(@RequestParam(defaultValue = "10") int size) {
+        try {
+            Optional<ResponseSnapshot> snapshot = responseSnapshotService.getSnapshot("brand_ranking:" + size, () -> coalescingReadService.getBrandRanking(size));
+            if (snapshot.isPresent()) {
+                return snapshot.get().toResponseEntity();
+            }
+
+            BrandRankingResponseDto response = coalescingReadService.getBrandRanking(size);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            ErrorResponseDto errorResponse = new ErrorResponseDto(
+                    "Error",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST.value()).body(errorResponse);
+        }
+    }
+
+    @Operation(summary = "브랜드의 최저 총액 순위를 조회", description = "")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "성공",
+                    content = @Content(schema = @Schema(implementation = BrandRankDto.class))),
+            @ApiResponse(responseCode = "400", description = "실패",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "404", description = "모든 카테고리 상품을 보유하지 않은 브랜드",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+    })
+    @GetMapping("/brand_ranking/{brand}")
+    public ResponseEntity<?> brandRank(@PathVariable String brand) {
+        try {
+            BrandRankDto response = coalescingReadService.getBrandRank(brand);
+            return ResponseEntity.ok(response);
+        } catch ( RecordNotFoundException e ) {
+            ErrorResponseDto errorResponse = new ErrorResponseDto(
+                    "Not Found",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.NOT_FOUND.value()).body(errorResponse);
+        } catch ( Exception e ) {
+            ErrorResponseDto errorResponse = new ErrorResponseDto(
+                    "Error",
+                    "데이터 조회에 실패했습니다. 잠시 후 다시 시도해주세요."
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST.value()).body(errorResponse);
+        }
+    }
 }
@@ -2,8 +2,11 @@ package com.musinsa.test.controller.api;
 
 import com.musinsa.test.dto.ErrorResponseDto;
 import com.musinsa.test.dto.LowestHighestResponseDto;
+import com.musinsa.test.dto.PriceRangeResponseDto;
 import com.musinsa.test.exception.RecordNotFoundException;
+import com.musinsa.test.service.CoalescingReadService;
 import com.musinsa.test.service.LowestHighestService;
+import com.musinsa.test.service.PriceRangeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -26,7 +29,8 @@ import org.springframework.web.bind.annotation.RestController;
  * - 주어진 카테고리명으로 검색 범위를 제한
  *   - 카테고리가 존재하지 않으면 에러 발생
  * - 해당 카테고리의 최저가 브랜드와 가격 및 최고가 브랜드와 가격 찾기
- *   - 최저/최고가 상품은 결과가 여러 개일 수 있는 구조로 보였으나 명확한 기준이 없어 최근 업데이트된 상품 1개로 응답을 고정
+ *   - 최저/최고가가 같은 상품이 여러 개이면 해당 브랜드를 모두 응답 (최저가는 최근 업데이트 순, 최고가는 오래된 업데이트 순)
+ * - 가격 범위 조회는 범위 안의 상품을 가격 오름차순으로 응답, 범위를 지정하지 않으면 최저가 순 상위 상품
  */
 @RestController
 @RequestMapping("/api/implement3")
@@ -35,6 +39,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class Implement3Controller {
 
     private final LowestHighestService lowestHighestService;
+    private final PriceRangeService priceRangeService;
+    private final CoalescingReadService coalescingReadService;
 
     @Operation(summary = "카테고리 이름으로 최저, 최고 가격 브랜드와 상품 가격을 조회", description = "")
     @ApiResponses({
@@ -58,7 +64,7 @@ public class Implement3Controller {
         }
 
         try {
-            LowestHighestResponseDto response = lowestHighestService.findLowestHighestPrice(category);
+            LowestHighestResponseDto response = coalescingReadService.findLowestHighestPrice(category);
             return ResponseEntity.ok(response);
         } catch ( RecordNotFoundException e ) {
             ErrorResponseDto errorResponse = new ErrorResponseDto(
@@ -74,4 +80,41 @@ public class Implement3Controller {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST.value()).body(errorResponse);
         }
     }
+
+    @Operation(summary = "카테고리에서 가격 범위 안의 상품을 가격이 낮은 순으로 조회",
+            description = "minPrice, maxPrice 는 포함 범위이며 지정하지 않으면 제한 없음. 둘 다 없으면 최저가 순 상위 size 개")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "성공",
+                    content = @Content(schema = @Schema(implementation = PriceRangeResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "올바르지 않은 가격 범위 또는 조회 개수",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 카테고리",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+    })
+    @GetMapping("/price_range")
+    public ResponseEntity<?> priceRange(
+            @RequestParam String category,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        if (!lowestHighestService.isValidCategory(category)) {
+            ErrorResponseDto errorResponse = new ErrorResponseDto(
+                    "Not Found",
+                    "존재하지 않는 카테고리 입니다."
+            );
+            return ResponseEntity.status(HttpStatus.NOT_FOUND.value()).body(errorResponse);
+        }
+
+        try {
+            PriceRangeResponseDto response = priceRangeService.findByPriceRange(category, minPrice, maxPrice, size);
+            return ResponseEntity.ok(response);
+        } catch ( Exception e ) {
+            ErrorResponseDto errorResponse = new ErrorResponseDto(
+                    "Error",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST.value()).body(errorResponse);
+        }
+    }
 }
@@ -4,6 +4,8 @@ import com.musinsa.test.domain.Item;
 import com.musinsa.test.dto.*;
 import com.musinsa.test.exception.RecordNotFoundException;
 import com.musinsa.test.service.ItemService;
+import com.musinsa.test.util.ItemExportWriter;
+import com.musinsa.test.util.ItemImportReader;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,13 +13,26 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 4. 운영자는 새로운 브랜드를 등록하고, 모든 브랜드의 상품을 추가, 변경, 삭제할 수 있어야 합니다.
  *
@@ -28,6 +43,11 @@ import org.springframework.web.bind.annotation.*;
  *   - ID 존재 유무만 체크
  * - 삭제
  *   - ID 존재 유무만 체크
+ * - 목록
+ *   - keyset(커서) 방식과 count 쿼리 없는 Slice 방식 제공, 둘 다 ID 내림차순
+ * - 대량 생성
+ *   - CSV(text/csv) 또는 NDJSON(application/x-ndjson) 본문을 스트리밍으로 읽어서 배치 insert
+ *   - 잘못된 줄은 건너뛰고 줄 번호별 오류를 응답에 담음
  */
 @RestController
 @RequestMapping("/api/implement4")
@@ -76,6 +96,124 @@ public class Implement4Controller {
         }
     }
 
+    @Operation(summary = "상품 목록을 커서 방식으로 조회한다.",
+            description = "응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회한다. 첫 페이지는 cursor 없이 조회한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "성공",
+                    content = @Content(schema = @Schema(implementation = ItemScrollDto.class))),
+            @ApiResponse(responseCode = "400", description = "올바르지 않은 커서 또는 페이지 크기",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+    })
+    @GetMapping("/items")
+    public ResponseEntity<?> list(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        try {
+            ItemScrollDto response = itemService.getListByCursor(cursor, size);
+            return ResponseEntity.ok(response);
+        } catch ( Exception e ) {
+            ErrorResponseDto errorResponse = new ErrorResponseDto(
+                    "Error",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST.value()).body(errorResponse);
+        }
+    }
+
+    @Operation(summary = "상품 목록을 전체 개수 없이 페이지 번호로 조회한다.", description = "")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "성공",
+                    content = @Content(schema = @Schema(implementation = ItemSliceDto.class))),
+            @ApiResponse(responseCode = "400", description = "올바르지 않은 페이지 크기",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+    })
+    @GetMapping("/items/slice")
+    public ResponseEntity<?> slice(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        try {
+            ItemSliceDto response = itemService.getSlice(PageRequest.of(page, size, Sort.by("id").descending()));
+            return ResponseEntity.ok(response);
+        } catch ( Exception e ) {
+            ErrorResponseDto errorResponse = new ErrorResponseDto(
+                    "Error",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST.value()).body(errorResponse);
+        }
+    }
+
+    @Operation(summary = "상품을 대량으로 추가한다.",
+            description = "CSV 는 첫 줄에 brand,category,price 헤더가 필요하고, NDJSON 은 한 줄에 상품 JSON 하나를 입력한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "성공 (줄별 오류, 실패한 배치 포함)",
+                    content = @Content(schema = @Schema(implementation = ItemImportResultDto.class))),
+            @ApiResponse(responseCode = "400", description = "실패",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+    })
+    @PostMapping(value = "/items/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<?> importItems(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body
+    ) {
+        Charset charset = Optional.ofNullable(contentType.getCharset()).orElse(StandardCharsets.UTF_8);
+
+        try (ItemImportReader reader = ItemImportReader.of(contentType, new InputStreamReader(body, charset)).orElseThrow()) {
+            ItemImportResultDto response = itemService.importItems(reader);
+            return ResponseEntity.status(HttpStatus.OK.value()).body(response);
+        } catch ( Exception e ) {
+            ErrorResponseDto errorResponse = new ErrorResponseDto(
+                    "Error",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST.value()).body(errorResponse);
+        }
+    }
+
+    @Operation(summary = "전체 상품을 내보낸다.",
+            description = "Accept 헤더로 형식을 선택한다. application/x-ndjson(기본값) 또는 text/csv, ID 오름차순")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "성공"),
+            @ApiResponse(responseCode = "406", description = "지원하지 않는 형식"),
+    })
+    @GetMapping(value = "/items/export", produces = {"application/x-ndjson", "text/csv"})
+    public void exportItems(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            HttpServletResponse response
+    ) throws IOException {
+        MediaType mediaType = exportMediaType(accept);
+        String extension = mediaType.equals(ItemImportReader.TEXT_CSV) ? "csv" : "ndjson";
+
+        // 응답 본문을 버퍼에 모으지 않고 출력 스트림에 바로 씀
+        response.setContentType(mediaType + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"items." + extension + "\"");
+
+        try (ItemExportWriter writer = ItemExportWriter.of(mediaType, response.getOutputStream()).orElseThrow()) {
+            itemService.exportItems(writer);
+        }
+    }
+
+    /**
+     * Accept 헤더에서 먼저 나온 형식을 선택, 와일드카드나 헤더가 없으면 NDJSON
+     *
+     * @param accept Accept 헤더
+     * @return text/csv 또는 application/x-ndjson
+     */
+    private static MediaType exportMediaType(String accept) {
+        List<MediaType> acceptedTypes = accept == null ? List.of() : MediaType.parseMediaTypes(accept);
+        for (MediaType acceptedType : acceptedTypes) {
+            if (acceptedType.isWildcardType() || acceptedType.includes(ItemImportReader.APPLICATION_NDJSON)) {
+                return ItemImportReader.APPLICATION_NDJSON;
+            }
+            if (acceptedType.includes(ItemImportReader.TEXT_CSV)) {
+                return ItemImportReader.TEXT_CSV;
+            }
+        }
+        return ItemImportReader.APPLICATION_NDJSON;
+    }
+
     @Operation(summary = "기존의 상품을 갱신 한다.", description = "")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "성공",
@@ -0,0 +1,25 @@
+package com.musinsa.test.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 카테고리 사전, items.category_id 가 참조하는 이름
+ * 조회/추가는 ItemDictionary 가 담당하고 행은 수정/삭제되지 않음
+ */
+@Entity
+@Table(name = "categories")
+@Immutable
+@Getter
+@NoArgsConstructor
+public class Category {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, unique = true, length = 50)
+    private String name;
+}
@@ -1,5 +1,8 @@
 package com.musinsa.test.domain;
 
+import com.musinsa.test.repository.BrandIdConverter;
+import com.musinsa.test.repository.CategoryIdConverter;
+import com.musinsa.test.repository.ItemDictionaryListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,6 +14,7 @@ import java.util.Date;
 
 @Entity
 @Table(name = "items")
+@EntityListeners(ItemDictionaryListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,18 +22,33 @@ import java.util.Date;
 @Builder
 public class Item {
 
+    // 시퀀스 한 번 조회로 할당받는 ID 개수 (items_seq 의 INCREMENT BY 와 같아야 함)
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+    @SequenceGenerator(name = "items_seq", sequenceName = "items_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
+    // 이름은 brands/categories 사전에 두고 items 에는 정수 키만 저장
+    @Convert(converter = BrandIdConverter.class)
+    @Column(name = "brand_id", nullable = false)
     private String brand;
+
+    @Convert(converter = CategoryIdConverter.class)
+    @Column(name = "category_id", nullable = false)
     private String category;
+
     private int price;
 
     @Column(updatable = false)
     private Date createdAt;
     private Date updatedAt;
 
+    // 갱신마다 1 씩 증가, 같은 상품의 커밋된 변경 순서를 정하는 데 사용 (ItemChanged.itemVersion)
+    @Version
+    private long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = new Date();
@@ -0,0 +1,8 @@
+package com.musinsa.test.domain;
+
+/**
+ * 상품 변경 종류
+ */
+public enum ItemChangeType {
+    CREATED, UPDATED, DELETED
+}
@@ -0,0 +1,52 @@
+package com.musinsa.test.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * 상품 변경 outbox 레코드, 상품 변경과 같은 트랜잭션에서 저장되고 전달이 끝나면 삭제됨
+ * 생성은 old_* 가 null, 삭제는 new_* 가 null
+ */
+@Entity
+@Table(name = "item_outbox")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItemOutboxEvent {
+
+    // 시퀀스 한 번 조회로 할당받는 ID 개수 (item_outbox_seq 의 INCREMENT BY 와 같아야 함)
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_outbox_seq")
+    @SequenceGenerator(name = "item_outbox_seq", sequenceName = "item_outbox_seq", allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long itemId;
+
+    // 상품 행 버전 (생성/갱신은 변경 후, 삭제는 삭제된 행의 버전)
+    @Column(nullable = false)
+    private Long itemVersion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ItemChangeType changeType;
+
+    private String oldBrand;
+    private String oldCategory;
+    private Integer oldPrice;
+
+    private String newBrand;
+    private String newCategory;
+    private Integer newPrice;
+
+    @Column(nullable = false)
+    private Date occurredAt;
+}
@@ -0,0 +1,9 @@
+package com.musinsa.test.dto;
+
+/**
+ * 브랜드와 가격 조회용 프로젝션
+ */
+public interface BrandPriceProjection {
+    String getBrand();
+    Integer getPrice();
+}
@@ -0,0 +1,16 @@
+package com.musinsa.test.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BrandRankDto {
+    private int 순위;
+    private String 브랜드;
+    private String 총액;
+}
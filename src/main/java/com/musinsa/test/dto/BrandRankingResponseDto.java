@@ -0,0 +1,16 @@
+package com.musinsa.test.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BrandRankingResponseDto {
+    private List<BrandRankDto> 순위;
+}
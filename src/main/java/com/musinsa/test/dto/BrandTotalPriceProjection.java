@@ -0,0 +1,9 @@
+package com.musinsa.test.dto;
+
+/**
+ * 브랜드별 카테고리 최저가 합계 조회용 프로젝션
+ */
+public interface BrandTotalPriceProjection {
+    String getBrand();
+    Long getTotalPrice();
+}
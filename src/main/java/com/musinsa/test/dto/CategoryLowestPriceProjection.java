@@ -0,0 +1,11 @@
+package com.musinsa.test.dto;
+
+/**
+ * 카테고리별 최저가 조회용 프로젝션
+ * Item 엔티티를 만들지 않고 필요한 컬럼만 조회
+ */
+public interface CategoryLowestPriceProjection {
+    String getCategory();
+    String getBrand();
+    Integer getPrice();
+}
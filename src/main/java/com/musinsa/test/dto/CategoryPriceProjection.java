@@ -0,0 +1,9 @@
+package com.musinsa.test.dto;
+
+/**
+ * 카테고리별 가격 조회용 프로젝션
+ */
+public interface CategoryPriceProjection {
+    String getCategory();
+    Integer getPrice();
+}
@@ -0,0 +1,16 @@
+package com.musinsa.test.dto;
+
+import java.util.Date;
+
+/**
+ * 상품 내보내기용 프로젝션, 엔티티가 아니므로 영속성 컨텍스트에 보관되지 않음
+ *
+ * @param id 상품 ID
+ * @param brand 브랜드
+ * @param category 카테고리
+ * @param price 가격
+ * @param createdAt 생성 시각
+ * @param updatedAt 수정 시각
+ */
+public record ItemExportRow(Long id, String brand, String category, int price, Date createdAt, Date updatedAt) {
+}
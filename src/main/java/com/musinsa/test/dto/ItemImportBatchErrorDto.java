@@ -0,0 +1,20 @@
+package com.musinsa.test.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemImportBatchErrorDto {
+    // 1 부터 시작하는 배치 번호
+    private long batch;
+    private long fromLine;
+    private long toLine;
+    // 롤백된 줄 수
+    private int rows;
+    private String message;
+}
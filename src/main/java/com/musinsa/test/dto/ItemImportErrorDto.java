@@ -0,0 +1,15 @@
+package com.musinsa.test.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemImportErrorDto {
+    private long line;
+    private String message;
+}
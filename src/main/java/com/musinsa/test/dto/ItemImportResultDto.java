@@ -0,0 +1,28 @@
+package com.musinsa.test.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemImportResultDto {
+    private long total;
+    private long imported;
+    private long failed;
+    private List<ItemImportErrorDto> errors;
+
+    // 커밋된 배치 수
+    private long committedBatches;
+
+    // 저장에 실패해서 롤백된 배치, 배치의 줄은 모두 failed 에 포함
+    private List<ItemImportBatchErrorDto> failedBatches;
+
+    // 오류 또는 실패한 배치가 catalog.item-import.max-errors 를 넘어서 일부만 담겼는지 여부
+    private boolean errorsTruncated;
+}
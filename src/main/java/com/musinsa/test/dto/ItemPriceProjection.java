@@ -0,0 +1,10 @@
+package com.musinsa.test.dto;
+
+/**
+ * 상품 ID, 브랜드, 가격 조회용 프로젝션
+ */
+public interface ItemPriceProjection {
+    Long getId();
+    String getBrand();
+    Integer getPrice();
+}
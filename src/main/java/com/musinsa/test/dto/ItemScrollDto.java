@@ -0,0 +1,20 @@
+package com.musinsa.test.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemScrollDto {
+    private List<ItemAdminDto> items;
+    private boolean hasNext;
+
+    // 다음 페이지 조회용 커서, 마지막 페이지면 null
+    private String nextCursor;
+}
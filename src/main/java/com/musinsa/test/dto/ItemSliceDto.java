@@ -0,0 +1,19 @@
+package com.musinsa.test.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemSliceDto {
+    private List<ItemAdminDto> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
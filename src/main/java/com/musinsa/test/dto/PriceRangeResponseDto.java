@@ -0,0 +1,21 @@
+package com.musinsa.test.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceRangeResponseDto {
+    private String category;
+
+    // size 와 무관한 가격 범위 안의 전체 상품 수
+    private long totalCount;
+
+    private List<ItemPriceDto> items;
+}
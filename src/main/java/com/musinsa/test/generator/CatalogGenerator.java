@@ -0,0 +1,163 @@
+package com.musinsa.test.generator;
+
+import com.musinsa.test.config.CatalogProperties;
+import com.musinsa.test.domain.Item;
+import com.musinsa.test.repository.ItemDictionary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 합성 카탈로그 생성 (브랜드 x 카테고리 x 조합당 상품 수)
+ *
+ * 핵심 조건:
+ * - 가격은 카테고리 기준가 x 브랜드 가격대 x 상품 편차로 만들고, 각 요소를 로그 정규 분포로 뽑아 고가 쪽으로 치우치게 함
+ * - 같은 seed 면 항상 같은 카탈로그가 생성됨
+ * - JPA 를 거치지 않고 JdbcTemplate 배치 입력으로 저장하므로 조회 인덱스는 입력 후 다시 적재해야 함
+ * - ID 는 JPA 와 같은 items_seq 시퀀스에서 블록 단위로 할당
+ * - 브랜드/카테고리는 ItemDictionary 로 사전에 추가하고 정수 키로 입력
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogGenerator {
+
+    static final List<String> BASE_CATEGORIES = List.of("상의", "아우터", "바지", "스니커즈", "가방", "모자", "양말", "액세서리");
+
+    private static final String INSERT_SQL = "INSERT INTO items (id, brand_id, category_id, price, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, 0)";
+
+    // 가격 단위와 범위 (원)
+    private static final int PRICE_UNIT = 100;
+    private static final int MIN_PRICE = 100;
+    private static final int MAX_PRICE = 100_000_000;
+
+    // 수정 시각을 흩뿌리는 범위, 동일 가격 상품의 정렬을 확인하기 위함
+    private static final long UPDATED_AT_SPREAD_MILLIS = 30L * 24 * 60 * 60 * 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ItemDictionary itemDictionary;
+    private final CatalogProperties catalogProperties;
+
+    /**
+     * 설정(catalog.generator.*)에 따라 합성 카탈로그를 생성
+     *
+     * @return 생성한 상품 수
+     */
+    @Transactional
+    public long generate() {
+        CatalogProperties.Generator generator = catalogProperties.getGenerator();
+        validate(generator);
+
+        if (generator.isClearExisting()) {
+            jdbcTemplate.update("DELETE FROM items");
+        }
+
+        Random random = new Random(generator.getSeed());
+        double skew = generator.getPriceSkew();
+
+        List<String> categories = categoryNames(generator.getCategories());
+        int[] categoryIds = categories.stream().mapToInt(itemDictionary.categories()::register).toArray();
+
+        // 카테고리별 기준가 1,000 ~ 수십만 원, 브랜드별 가격대는 기준가 대비 배율
+        double[] categoryBasePrices = new double[categories.size()];
+        for (int category = 0; category < categoryBasePrices.length; category++) {
+            categoryBasePrices[category] = 10_000 * Math.exp(random.nextGaussian());
+        }
+
+        double[] brandFactors = new double[generator.getBrands()];
+        for (int brand = 0; brand < brandFactors.length; brand++) {
+            brandFactors[brand] = Math.exp(random.nextGaussian() * skew);
+        }
+
+        IdBlock ids = new IdBlock();
+        long now = System.currentTimeMillis();
+        long generated = 0;
+        List<Object[]> batch = new ArrayList<>(generator.getBatchSize());
+
+        for (int brand = 0; brand < brandFactors.length; brand++) {
+            int brandId = itemDictionary.brands().register(brandName(brand));
+
+            for (int category = 0; category < categories.size(); category++) {
+                for (int item = 0; item < generator.getItemsPerPair(); item++) {
+                    double price = categoryBasePrices[category] * brandFactors[brand] * Math.exp(random.nextGaussian() * skew / 2);
+                    Timestamp updatedAt = new Timestamp(now - (long) (random.nextDouble() * UPDATED_AT_SPREAD_MILLIS));
+
+                    batch.add(new Object[]{ids.next(), brandId, categoryIds[category], roundPrice(price), updatedAt, updatedAt});
+
+                    if (batch.size() == generator.getBatchSize()) {
+                        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                        generated += batch.size();
+                        batch.clear();
+                    }
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+            generated += batch.size();
+        }
+
+        log.info("합성 카탈로그 생성 완료: 브랜드 {}, 카테고리 {}, 상품 {}", brandFactors.length, categories.size(), generated);
+        return generated;
+    }
+
+    private void validate(CatalogProperties.Generator generator) {
+        if (generator.getBrands() < 1 || generator.getCategories() < 1 || generator.getItemsPerPair() < 1) {
+            throw new IllegalArgumentException("브랜드, 카테고리, 조합당 상품 수는 1 이상이어야 합니다.");
+        }
+        if (generator.getBatchSize() < 1) {
+            throw new IllegalArgumentException("배치 크기는 1 이상이어야 합니다.");
+        }
+        if (generator.getPriceSkew() < 0) {
+            throw new IllegalArgumentException("가격 분포 치우침은 0 이상이어야 합니다.");
+        }
+    }
+
+    /**
+     * 기본 카테고리 8개 이후는 "카테고리-번호" 로 생성
+     */
+    static List<String> categoryNames(int categories) {
+        List<String> names = new ArrayList<>(categories);
+        for (int category = 0; category < categories; category++) {
+            names.add(category < BASE_CATEGORIES.size()
+                    ? BASE_CATEGORIES.get(category)
+                    : "카테고리-" + (category + 1));
+        }
+        return names;
+    }
+
+    static String brandName(int brand) {
+        return "BRAND-" + (brand + 1);
+    }
+
+    /**
+     * Hibernate pooled 옵티마이저와 같은 방식으로 items_seq 에서 ID 를 블록 단위로 할당
+     * 시퀀스 값 v 를 받으면 (v - 할당 크기 + 1) ~ v 를 사용하므로 JPA 로 저장되는 상품과 ID 가 겹치지 않음
+     */
+    private class IdBlock {
+
+        private long next = 1;
+        private long last = 0;
+
+        private long next() {
+            if (next > last) {
+                last = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR items_seq", Long.class);
+                next = Math.max(1, last - Item.ID_ALLOCATION_SIZE + 1);
+            }
+            return next++;
+        }
+    }
+
+    private static int roundPrice(double price) {
+        long rounded = Math.round(price / PRICE_UNIT) * PRICE_UNIT;
+        return (int) Math.clamp(rounded, MIN_PRICE, MAX_PRICE);
+    }
+}
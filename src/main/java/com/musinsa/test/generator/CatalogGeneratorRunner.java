@@ -0,0 +1,24 @@
+package com.musinsa.test.generator;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * catalog.generator.enabled=true 일 때 기동 시 합성 카탈로그를 생성
+ * ApplicationRunner 는 ApplicationReadyEvent 전에 실행되므로 조회 인덱스는 생성된 카탈로그로 적재됨
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "catalog.generator", name = "enabled", havingValue = "true")
+public class CatalogGeneratorRunner implements ApplicationRunner {
+
+    private final CatalogGenerator catalogGenerator;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        catalogGenerator.generate();
+    }
+}
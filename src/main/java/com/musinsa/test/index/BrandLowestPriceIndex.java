@@ -0,0 +1,251 @@
+package com.musinsa.test.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 단일 브랜드로 모든 카테고리를 구매할 때의 최저 총액 브랜드 인덱스
+ *
+ * 핵심 조건:
+ * - 브랜드별/카테고리별 가격을 멀티셋(가격 -> 상품 수)으로 보관해서 최저가 상품이 빠져도 다음 최저가를 바로 찾음
+ * - 브랜드 순위는 (보유 카테고리 수 내림차순, 총액 오름차순, 브랜드명 오름차순)으로 정렬
+ *   - 전체 카테고리를 보유한 브랜드가 항상 앞에 오므로 카테고리가 새로 생기거나 없어져도 재정렬이 필요 없음
+ * - 상품 변경 하나는 O(log n) 으로 반영되고 최저 총액 브랜드 조회는 첫 번째 순위 확인으로 끝남
+ * - 순위는 서브트리 크기를 가진 트리로 보관해서 상위 K 개 조회는 O(log n + K), 특정 브랜드의 순위 조회는 O(log n)
+ */
+@Component
+public class BrandLowestPriceIndex implements ItemIndex {
+
+    private static final Comparator<BrandRank> RANK_ORDER = Comparator
+            .comparingInt(BrandRank::coverage).reversed()
+            .thenComparingInt(BrandRank::totalPrice)
+            .thenComparing(BrandRank::brand);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, BrandPrices> brands = new HashMap<>();
+    private final OrderStatisticTree<BrandRank> ranking = new OrderStatisticTree<>(RANK_ORDER);
+
+    // 카테고리별 전체 상품 수, 키의 개수가 시스템 내 전체 카테고리 수
+    private final Map<String, Integer> itemCountByCategory = new HashMap<>();
+
+    @Override
+    public void rebuild(Collection<ItemSnapshot> items) {
+        lock.writeLock().lock();
+        try {
+            brands.clear();
+            ranking.clear();
+            itemCountByCategory.clear();
+            items.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void apply(ItemSnapshot before, ItemSnapshot after) {
+        lock.writeLock().lock();
+        try {
+            if (before != null) {
+                remove(before);
+            }
+            if (after != null) {
+                add(after);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 카테고리를 보유한 브랜드 중 총액이 가장 낮은 브랜드를 조회
+     *
+     * @return 최저 총액 브랜드, 조건을 만족하는 브랜드가 없으면 empty
+     */
+    public Optional<BrandCategoryPrices> findLowestPriceBrand() {
+        lock.readLock().lock();
+        try {
+            if (ranking.isEmpty()) {
+                return Optional.empty();
+            }
+
+            BrandRank first = ranking.first();
+            if (first.coverage() != itemCountByCategory.size()) {
+                return Optional.empty();
+            }
+
+            return Optional.of(brands.get(first.brand()).toCategoryPrices());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 카테고리를 보유한 브랜드를 총액 오름차순(같으면 브랜드명 오름차순)으로 최대 limit 개 조회
+     *
+     * @param limit 최대 브랜드 수
+     * @return 1 부터 시작하는 순위를 포함한 브랜드 목록
+     */
+    public List<RankedBrand> findTopBrands(int limit) {
+        lock.readLock().lock();
+        try {
+            int categoryCount = itemCountByCategory.size();
+
+            List<RankedBrand> topBrands = new ArrayList<>();
+            for (BrandRank rank : ranking.head(limit)) {
+                // 전체 카테고리를 보유한 브랜드가 앞에 모여 있으므로 보유 카테고리 수가 모자란 브랜드가 나오면 중단
+                if (rank.coverage() != categoryCount) {
+                    break;
+                }
+                topBrands.add(new RankedBrand(topBrands.size() + 1, rank.brand(), rank.totalPrice()));
+            }
+            return topBrands;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 브랜드의 순위 조회
+     *
+     * @param brand 브랜드
+     * @return 순위와 총액, 모든 카테고리를 보유하지 않은 브랜드면 empty
+     */
+    public Optional<RankedBrand> findBrandRank(String brand) {
+        lock.readLock().lock();
+        try {
+            BrandPrices brandPrices = brands.get(brand);
+            if (brandPrices == null || brandPrices.rank.coverage() != itemCountByCategory.size()) {
+                return Optional.empty();
+            }
+
+            BrandRank rank = brandPrices.rank;
+            return Optional.of(new RankedBrand(ranking.rank(rank) + 1, rank.brand(), rank.totalPrice()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(ItemSnapshot item) {
+        itemCountByCategory.merge(item.category(), 1, Integer::sum);
+
+        BrandPrices brandPrices = brands.computeIfAbsent(item.brand(), BrandPrices::new);
+        ranking.remove(brandPrices.rank);
+        brandPrices.add(item.category(), item.price());
+        ranking.add(brandPrices.rank);
+    }
+
+    private void remove(ItemSnapshot item) {
+        itemCountByCategory.computeIfPresent(item.category(), (category, count) -> count == 1 ? null : count - 1);
+
+        BrandPrices brandPrices = brands.get(item.brand());
+        if (brandPrices == null) {
+            return;
+        }
+
+        ranking.remove(brandPrices.rank);
+        brandPrices.remove(item.category(), item.price());
+
+        if (brandPrices.isEmpty()) {
+            brands.remove(item.brand());
+        } else {
+            ranking.add(brandPrices.rank);
+        }
+    }
+
+    /**
+     * 브랜드와 카테고리별 최저가, 총액
+     *
+     * @param brand 브랜드
+     * @param lowestPriceByCategory 카테고리명 순서의 카테고리별 최저가
+     * @param totalPrice 카테고리별 최저가의 합
+     */
+    public record BrandCategoryPrices(String brand, SortedMap<String, Integer> lowestPriceByCategory, int totalPrice) {
+    }
+
+    /**
+     * 최저 총액 순위
+     *
+     * @param rank 1 부터 시작하는 순위
+     * @param brand 브랜드
+     * @param totalPrice 카테고리별 최저가의 합
+     */
+    public record RankedBrand(int rank, String brand, int totalPrice) {
+    }
+
+    /**
+     * 순위 정렬용 불변 키, 브랜드 가격이 바뀔 때마다 새로 만들어서 교체
+     */
+    private record BrandRank(String brand, int coverage, int totalPrice) {
+    }
+
+    /**
+     * 브랜드 하나의 카테고리별 가격 멀티셋
+     */
+    private static class BrandPrices {
+
+        private final String brand;
+        private final TreeMap<String, NavigableMap<Integer, Integer>> pricesByCategory = new TreeMap<>();
+        private int totalPrice;
+        private BrandRank rank;
+
+        private BrandPrices(String brand) {
+            this.brand = brand;
+            this.rank = new BrandRank(brand, 0, 0);
+        }
+
+        private void add(String category, int price) {
+            NavigableMap<Integer, Integer> prices = pricesByCategory.computeIfAbsent(category, key -> new TreeMap<>());
+            Integer lowestBefore = prices.isEmpty() ? null : prices.firstKey();
+
+            prices.merge(price, 1, Integer::sum);
+
+            updateTotal(lowestBefore, prices.firstKey());
+        }
+
+        private void remove(String category, int price) {
+            NavigableMap<Integer, Integer> prices = pricesByCategory.get(category);
+            if (prices == null || !prices.containsKey(price)) {
+                return;
+            }
+
+            Integer lowestBefore = prices.firstKey();
+            prices.computeIfPresent(price, (key, count) -> count == 1 ? null : count - 1);
+
+            if (prices.isEmpty()) {
+                pricesByCategory.remove(category);
+                updateTotal(lowestBefore, null);
+            } else {
+                updateTotal(lowestBefore, prices.firstKey());
+            }
+        }
+
+        private void updateTotal(Integer lowestBefore, Integer lowestAfter) {
+            totalPrice += (lowestAfter == null ? 0 : lowestAfter) - (lowestBefore == null ? 0 : lowestBefore);
+            rank = new BrandRank(brand, pricesByCategory.size(), totalPrice);
+        }
+
+        private boolean isEmpty() {
+            return pricesByCategory.isEmpty();
+        }
+
+        private BrandCategoryPrices toCategoryPrices() {
+            TreeMap<String, Integer> lowestPriceByCategory = new TreeMap<>();
+            pricesByCategory.forEach((category, prices) -> lowestPriceByCategory.put(category, prices.firstKey()));
+
+            return new BrandCategoryPrices(brand, Collections.unmodifiableSortedMap(lowestPriceByCategory), totalPrice);
+        }
+    }
+}
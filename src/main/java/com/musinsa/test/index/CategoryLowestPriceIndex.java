@@ -0,0 +1,127 @@
+package com.musinsa.test.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 카테고리별 최저가 상품 인덱스
+ *
+ * 핵심 조건:
+ * - findFirstByCategoryOrderByPriceAscUpdatedAtDesc 와 같은 순서(가격 오름차순, 최근 수정 우선)로 정렬
+ *   - 가격과 수정 시각까지 같으면 ID 가 큰(나중에 생성된) 상품을 우선
+ * - 최저가 상품이 삭제되거나 가격이 올라가도 다음 최저가를 바로 찾을 수 있도록 카테고리의 전체 상품을 정렬된 상태로 보관
+ * - 같은 정렬이 구현 3 최저가/최고가 조회(ItemRepository.findLowestHighestPriceItems)의 순서이므로 양 끝 가격의 상품도 여기서 조회
+ */
+@Component
+public class CategoryLowestPriceIndex implements ItemIndex {
+
+    static final Comparator<ItemSnapshot> LOWEST_PRICE_ORDER = Comparator
+            .comparingInt(ItemSnapshot::price)
+            .thenComparing(Comparator.comparingLong(ItemSnapshot::updatedAt).reversed())
+            .thenComparing(Comparator.comparing(ItemSnapshot::id).reversed());
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 카테고리명 오름차순 (findCategories 와 같은 순서)
+    private final TreeMap<String, NavigableSet<ItemSnapshot>> itemsByCategory = new TreeMap<>();
+
+    @Override
+    public void rebuild(Collection<ItemSnapshot> items) {
+        lock.writeLock().lock();
+        try {
+            itemsByCategory.clear();
+            items.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void apply(ItemSnapshot before, ItemSnapshot after) {
+        lock.writeLock().lock();
+        try {
+            if (before != null) {
+                remove(before);
+            }
+            if (after != null) {
+                add(after);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 카테고리명 순서로 각 카테고리의 최저가 상품을 하나씩 반환
+     *
+     * @return 카테고리별 최저가 상품 목록
+     */
+    public List<ItemSnapshot> findLowestPriceItems() {
+        lock.readLock().lock();
+        try {
+            List<ItemSnapshot> lowestPriceItems = new ArrayList<>(itemsByCategory.size());
+            for (NavigableSet<ItemSnapshot> items : itemsByCategory.values()) {
+                lowestPriceItems.add(items.first());
+            }
+            return lowestPriceItems;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 카테고리의 최저가 상품과 최고가 상품을 동일 가격 상품까지 모두 반환
+     * ItemRepository.findLowestHighestPriceItems 와 같이 가격 오름차순, 같은 가격 안에서는 최근 수정 우선(같으면 ID 큰 순)
+     *
+     * @param category 카테고리
+     * @return 최저가/최고가 상품, 상품이 없는 카테고리면 빈 목록
+     */
+    public List<ItemSnapshot> findLowestHighestPriceItems(String category) {
+        lock.readLock().lock();
+        try {
+            NavigableSet<ItemSnapshot> items = itemsByCategory.get(category);
+            if (items == null) {
+                return List.of();
+            }
+
+            // 같은 가격 안에서 가장 앞/뒤에 정렬되는 경계값으로 양 끝 가격의 구간만 읽음
+            int lowestPrice = items.first().price();
+            int highestPrice = items.last().price();
+            List<ItemSnapshot> lowestHighestItems = new ArrayList<>(
+                    items.headSet(new ItemSnapshot(Long.MIN_VALUE, null, category, lowestPrice, Long.MIN_VALUE), true));
+            if (highestPrice != lowestPrice) {
+                lowestHighestItems.addAll(
+                        items.tailSet(new ItemSnapshot(Long.MAX_VALUE, null, category, highestPrice, Long.MAX_VALUE), true));
+            }
+            return lowestHighestItems;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(ItemSnapshot item) {
+        itemsByCategory.computeIfAbsent(item.category(), category -> new TreeSet<>(LOWEST_PRICE_ORDER)).add(item);
+    }
+
+    private void remove(ItemSnapshot item) {
+        NavigableSet<ItemSnapshot> items = itemsByCategory.get(item.category());
+        if (items == null) {
+            return;
+        }
+
+        items.remove(item);
+
+        // 마지막 상품이 빠진 카테고리는 결과에서 제외
+        if (items.isEmpty()) {
+            itemsByCategory.remove(item.category());
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.musinsa.test.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 카테고리별 가격 범위/최저가 순 상품 조회 인덱스
+ *
+ * 핵심 조건:
+ * - 카테고리마다 (가격, ID) 오름차순으로 정렬된 int[] 가격, long[] ID, String[] 브랜드 배열을 보관하고 상품 객체는 보관하지 않음
+ * - 가격 범위 조회는 이진 탐색 두 번으로 시작/끝 위치를 찾고, 결과 배열만 새로 할당
+ * - 상품 변경은 이진 탐색으로 위치를 찾아 배열을 한 칸씩 밀거나 당겨서 반영 (카테고리 상품 수에 비례하는 복사)
+ */
+@Component
+public class CategoryPriceRangeIndex implements ItemIndex {
+
+    private static final Comparator<ItemSnapshot> PRICE_ORDER = Comparator
+            .comparingInt(ItemSnapshot::price)
+            .thenComparingLong(ItemSnapshot::id);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, PriceColumn> columns = new HashMap<>();
+
+    @Override
+    public void rebuild(Collection<ItemSnapshot> items) {
+        Map<String, List<ItemSnapshot>> itemsByCategory = new HashMap<>();
+        items.forEach(item -> itemsByCategory.computeIfAbsent(item.category(), category -> new ArrayList<>()).add(item));
+
+        Map<String, PriceColumn> rebuilt = new HashMap<>();
+        itemsByCategory.forEach((category, categoryItems) -> {
+            categoryItems.sort(PRICE_ORDER);
+            rebuilt.put(category, PriceColumn.of(categoryItems));
+        });
+
+        lock.writeLock().lock();
+        try {
+            columns.clear();
+            columns.putAll(rebuilt);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void apply(ItemSnapshot before, ItemSnapshot after) {
+        lock.writeLock().lock();
+        try {
+            if (before != null) {
+                PriceColumn column = columns.get(before.category());
+                if (column != null && column.remove(before.price(), before.id()) && column.size == 0) {
+                    columns.remove(before.category());
+                }
+            }
+            if (after != null) {
+                columns.computeIfAbsent(after.category(), category -> new PriceColumn())
+                        .insert(after.price(), after.id(), after.brand());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 카테고리에서 가격이 minPrice 이상 maxPrice 이하인 상품을 가격 오름차순(같으면 ID 오름차순)으로 최대 limit 개 조회
+     *
+     * @param category 카테고리
+     * @param minPrice 최소 가격 (포함)
+     * @param maxPrice 최대 가격 (포함)
+     * @param limit 최대 상품 수
+     * @return 범위 안의 전체 상품 수와 앞에서부터 limit 개의 상품
+     */
+    public PriceRange findByPriceRange(String category, int minPrice, int maxPrice, int limit) {
+        lock.readLock().lock();
+        try {
+            PriceColumn column = columns.get(category);
+            if (column == null || minPrice > maxPrice) {
+                return PriceRange.EMPTY;
+            }
+
+            int from = column.lowerBound(minPrice);
+            int to = maxPrice == Integer.MAX_VALUE ? column.size : column.lowerBound(maxPrice + 1);
+            return column.slice(from, to, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 카테고리에서 가격이 낮은 순으로 최대 limit 개 조회
+     *
+     * @param category 카테고리
+     * @param limit 최대 상품 수
+     * @return 카테고리 전체 상품 수와 최저가 순 limit 개의 상품
+     */
+    public PriceRange findCheapest(String category, int limit) {
+        return findByPriceRange(category, Integer.MIN_VALUE, Integer.MAX_VALUE, limit);
+    }
+
+    /**
+     * 가격 범위 조회 결과, i 번째 상품은 ids[i], brands[i], prices[i]
+     *
+     * @param totalCount limit 과 무관한 범위 안의 전체 상품 수
+     * @param ids 상품 ID
+     * @param brands 브랜드
+     * @param prices 가격
+     */
+    public record PriceRange(int totalCount, long[] ids, String[] brands, int[] prices) {
+
+        private static final PriceRange EMPTY = new PriceRange(0, new long[0], new String[0], new int[0]);
+
+        public int size() {
+            return ids.length;
+        }
+    }
+
+    /**
+     * 카테고리 하나의 (가격, ID) 순 정렬 배열, 뒤쪽은 여유 공간
+     */
+    private static class PriceColumn {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private int[] prices = new int[INITIAL_CAPACITY];
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private String[] brands = new String[INITIAL_CAPACITY];
+        private int size;
+
+        private static PriceColumn of(List<ItemSnapshot> sortedItems) {
+            PriceColumn column = new PriceColumn();
+            column.grow(sortedItems.size());
+            for (ItemSnapshot item : sortedItems) {
+                column.prices[column.size] = item.price();
+                column.ids[column.size] = item.id();
+                column.brands[column.size] = item.brand();
+                column.size++;
+            }
+            return column;
+        }
+
+        private void insert(int price, long id, String brand) {
+            int position = search(price, id);
+            if (position >= 0) {
+                brands[position] = brand;
+                return;
+            }
+            position = -position - 1;
+
+            grow(size + 1);
+            System.arraycopy(prices, position, prices, position + 1, size - position);
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            System.arraycopy(brands, position, brands, position + 1, size - position);
+
+            prices[position] = price;
+            ids[position] = id;
+            brands[position] = brand;
+            size++;
+        }
+
+        private boolean remove(int price, long id) {
+            int position = search(price, id);
+            if (position < 0) {
+                return false;
+            }
+
+            System.arraycopy(prices, position + 1, prices, position, size - position - 1);
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            System.arraycopy(brands, position + 1, brands, position, size - position - 1);
+            size--;
+            brands[size] = null;
+            return true;
+        }
+
+        // (price, id) 의 위치, 없으면 -(들어갈 위치) - 1
+        private int search(int price, long id) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int compared = prices[mid] != price ? Integer.compare(prices[mid], price) : Long.compare(ids[mid], id);
+                if (compared < 0) {
+                    low = mid + 1;
+                } else if (compared > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        // 가격이 price 이상인 첫 위치
+        private int lowerBound(int price) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (prices[mid] < price) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private PriceRange slice(int from, int to, int limit) {
+            int count = Math.max(0, Math.min(to - from, limit));
+
+            long[] sliceIds = new long[count];
+            String[] sliceBrands = new String[count];
+            int[] slicePrices = new int[count];
+            System.arraycopy(ids, from, sliceIds, 0, count);
+            System.arraycopy(brands, from, sliceBrands, 0, count);
+            System.arraycopy(prices, from, slicePrices, 0, count);
+
+            return new PriceRange(Math.max(0, to - from), sliceIds, sliceBrands, slicePrices);
+        }
+
+        private void grow(int minCapacity) {
+            if (minCapacity <= prices.length) {
+                return;
+            }
+
+            int capacity = Math.max(minCapacity, prices.length + (prices.length >> 1));
+            prices = Arrays.copyOf(prices, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+            brands = Arrays.copyOf(brands, capacity);
+        }
+    }
+}
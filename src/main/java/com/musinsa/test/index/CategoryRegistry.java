@@ -0,0 +1,47 @@
+package com.musinsa.test.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 시스템에 존재하는 카테고리 목록
+ *
+ * 핵심 조건:
+ * - 카테고리별 상품 수를 해시맵으로 보관해서 카테고리 존재 여부를 O(1) 로 확인
+ * - 카테고리의 첫 상품이 생성되면 추가되고 마지막 상품이 삭제되면 제거됨
+ */
+@Component
+public class CategoryRegistry implements ItemIndex {
+
+    private volatile ConcurrentHashMap<String, Integer> itemCountByCategory = new ConcurrentHashMap<>();
+
+    @Override
+    public void rebuild(Collection<ItemSnapshot> items) {
+        ConcurrentHashMap<String, Integer> rebuilt = new ConcurrentHashMap<>();
+        items.forEach(item -> rebuilt.merge(item.category(), 1, Integer::sum));
+
+        itemCountByCategory = rebuilt;
+    }
+
+    @Override
+    public void apply(ItemSnapshot before, ItemSnapshot after) {
+        if (after != null) {
+            itemCountByCategory.merge(after.category(), 1, Integer::sum);
+        }
+        if (before != null) {
+            itemCountByCategory.computeIfPresent(before.category(), (category, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    /**
+     * 카테고리 존재 여부 확인
+     *
+     * @param category 카테고리
+     * @return 상품이 하나 이상 있는 카테고리이면 true
+     */
+    public boolean contains(String category) {
+        return itemCountByCategory.containsKey(category);
+    }
+}
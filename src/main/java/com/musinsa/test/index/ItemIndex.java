@@ -0,0 +1,26 @@
+package com.musinsa.test.index;
+
+import java.util.Collection;
+
+/**
+ * 커밋된 상품 데이터를 기반으로 유지되는 인메모리 인덱스
+ * 변경 적용은 ItemIndexManager 가 직렬화해서 호출하므로 구현체는 읽기와 쓰기 사이의 동시성만 보장하면 됨
+ */
+public interface ItemIndex {
+
+    /**
+     * 전체 상품으로 인덱스를 새로 구성
+     *
+     * @param items 커밋된 전체 상품 스냅샷
+     */
+    void rebuild(Collection<ItemSnapshot> items);
+
+    /**
+     * 커밋된 변경 하나를 반영
+     * 생성은 before 가 null, 삭제는 after 가 null
+     *
+     * @param before 변경 전 스냅샷
+     * @param after 변경 후 스냅샷
+     */
+    void apply(ItemSnapshot before, ItemSnapshot after);
+}
@@ -0,0 +1,186 @@
+package com.musinsa.test.index;
+
+import com.musinsa.test.outbox.ItemChangeConsumer;
+import com.musinsa.test.outbox.ItemChanged;
+import com.musinsa.test.outbox.ItemChanged.ItemValues;
+import com.musinsa.test.repository.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * outbox 로 전달받은 커밋된 상품 변경(ItemChanged)을 등록된 모든 ItemIndex 에 반영하는 ItemChangeConsumer
+ *
+ * 핵심 조건:
+ * - 커밋된 변경만 전달받으므로 롤백된 변경은 인덱스에 반영하지 않음
+ * - 커밋한 스레드가 커밋 직후 전달(ItemOutbox)하므로 쓰기 직후의 조회에도 반영됨
+ * - 인덱스는 애플리케이션 기동 시 DB 에서 한 번 적재하고 이후에는 변경분만 반영
+ *   (ItemService 를 거치지 않고 ItemRepository 나 JDBC 로 직접 쓴 변경은 이벤트가 없으므로 rebuild 로 다시 적재)
+ * - 쓰기 트랜잭션 안의 조회는 아직 커밋되지 않은 변경을 봐야 하므로 인덱스 대신 DB 를 사용
+ * - 이벤트는 커밋 순서와 다르게 도착하거나 다시 전달될 수 있으므로 같은 상품의 변경은 상품 행 버전(ItemChanged.itemVersion)으로
+ *   순서를 정하고, 이미 반영된 변경보다 오래된 변경은 버림
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemIndexManager implements ItemChangeConsumer {
+
+    private final ItemRepository itemRepository;
+    private final List<ItemIndex> itemIndexes;
+
+    // 가상 스레드 pinning 을 피하기 위해 synchronized 대신 ReentrantLock 사용
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 인덱스에 반영된 상품의 최신 스냅샷, 변경 전 값을 정확히 계산하기 위해 사용
+    private final Map<Long, ItemSnapshot> snapshots = new HashMap<>();
+
+    // 삭제된 상품의 삭제 시점 버전, 삭제보다 늦게 도착한 이전 갱신이 상품을 되살리지 않도록 보관
+    // 상품 ID 는 재사용되지 않으므로 삭제된 상품에는 더 이상 변경이 없고, 항목 하나는 ID 와 버전뿐이라 기동 후 삭제 수만큼만 늘어남
+    private final Map<Long, Long> removedVersions = new HashMap<>();
+
+    private volatile boolean ready;
+
+    // 인덱스에 변경이 반영될 때마다 증가하는 카탈로그 버전, 모든 인덱스 반영이 끝난 뒤에 증가
+    private volatile long version;
+
+    /**
+     * DB 의 전체 상품으로 모든 인덱스를 다시 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.lock();
+        try {
+            List<ItemSnapshot> items = itemRepository.findAllSnapshots();
+
+            snapshots.clear();
+            removedVersions.clear();
+            items.forEach(item -> snapshots.put(item.id(), item));
+            itemIndexes.forEach(itemIndex -> itemIndex.rebuild(items));
+
+            version++;
+            ready = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 스레드에서 인덱스를 조회해도 되는지 확인
+     * 인덱스는 커밋된 데이터만 가지므로 읽기 전용 트랜잭션이나 트랜잭션 밖에서만 사용
+     *
+     * @return 인덱스 조회 가능 여부
+     */
+    public boolean isReadable() {
+        if (!ready) {
+            return false;
+        }
+
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * 카탈로그 버전 조회
+     * 버전이 같으면 인덱스 내용도 같으므로 인덱스로 만든 응답을 버전 단위로 재사용할 수 있음
+     *
+     * @return 커밋된 변경이 인덱스에 반영될 때마다 증가하는 값
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 커밋된 상품 변경을 인덱스에 반영
+     *
+     * @param events outbox 이벤트 목록
+     */
+    @Override
+    public void accept(List<ItemChanged> events) {
+        apply(events.stream().map(ItemIndexManager::toChange).toList());
+    }
+
+    private static ItemChange toChange(ItemChanged event) {
+        ItemValues after = event.after();
+        if (after == null) {
+            return new ItemChange(event.itemId(), event.itemVersion(), null);
+        }
+
+        return new ItemChange(event.itemId(), event.itemVersion(), new ItemSnapshot(
+                event.itemId(), after.brand(), after.category(), after.price(), event.occurredAt(), event.itemVersion()));
+    }
+
+    private void apply(List<ItemChange> changes) {
+        lock.lock();
+        try {
+            // 적재 전의 변경은 적재 쿼리가 커밋된 결과로 읽어감
+            if (!ready) {
+                return;
+            }
+
+            boolean changed = false;
+            for (ItemChange change : changes) {
+                if (isStale(change)) {
+                    continue;
+                }
+
+                ItemSnapshot before;
+                if (change.after() == null) {
+                    before = snapshots.remove(change.id());
+                    removedVersions.put(change.id(), change.version());
+                } else {
+                    before = snapshots.put(change.id(), change.after());
+                }
+
+                if (before == null && change.after() == null) {
+                    continue;
+                }
+
+                for (ItemIndex itemIndex : itemIndexes) {
+                    itemIndex.apply(before, change.after());
+                }
+                changed = true;
+            }
+
+            if (changed) {
+                version++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 이미 반영된 같은 상품의 변경보다 오래된 변경인지 확인 (ItemChanged.isAfter 와 같은 기준)
+     * 삭제는 삭제 시점의 버전을 가지므로 같은 버전의 갱신보다 나중 변경
+     *
+     * @param change 상품 변경
+     * @return 버려야 하는 변경이면 true
+     */
+    private boolean isStale(ItemChange change) {
+        if (removedVersions.containsKey(change.id())) {
+            return true;
+        }
+
+        ItemSnapshot current = snapshots.get(change.id());
+        if (current == null) {
+            return false;
+        }
+        return change.after() == null ? change.version() < current.version() : change.version() <= current.version();
+    }
+
+    /**
+     * 상품 하나의 변경
+     *
+     * @param id 상품 ID
+     * @param version 변경 후 상품 행 버전, 삭제면 삭제된 행의 버전
+     * @param after 변경 후 스냅샷, 삭제면 null
+     */
+    private record ItemChange(Long id, long version, ItemSnapshot after) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.musinsa.test.index;
+
+import com.musinsa.test.domain.Item;
+
+import java.util.Date;
+
+/**
+ * 인메모리 인덱스가 보관하는 상품의 불변 스냅샷
+ * 영속성 컨텍스트와 분리된 값만 가지므로 여러 스레드에서 안전하게 공유할 수 있음
+ *
+ * @param id 상품 ID
+ * @param brand 브랜드
+ * @param category 카테고리
+ * @param price 가격
+ * @param updatedAt 수정 시각 (epoch millis, 값이 없으면 Long.MIN_VALUE)
+ * @param version 상품 행 버전 (Item.version)
+ */
+public record ItemSnapshot(Long id, String brand, String category, int price, long updatedAt, long version) {
+
+    // JPQL 생성자 표현식(SELECT new ...)에서 사용
+    public ItemSnapshot(Long id, String brand, String category, int price, Date updatedAt, long version) {
+        this(id, brand, category, price, updatedAt == null ? Long.MIN_VALUE : updatedAt.getTime(), version);
+    }
+
+    // 버전으로 변경 순서를 정할 필요가 없는 인덱스 단위 계산용
+    public ItemSnapshot(Long id, String brand, String category, int price, long updatedAt) {
+        this(id, brand, category, price, updatedAt, 0);
+    }
+
+    public static ItemSnapshot of(Item item) {
+        return new ItemSnapshot(item.getId(), item.getBrand(), item.getCategory(), item.getPrice(), item.getUpdatedAt(), item.getVersion());
+    }
+}
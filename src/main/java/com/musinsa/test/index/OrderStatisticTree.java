@@ -0,0 +1,217 @@
+package com.musinsa.test.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * 서브트리 크기를 함께 보관해서 순위 조회가 가능한 정렬 집합 (treap)
+ *
+ * 핵심 조건:
+ * - 추가/삭제/순위 조회는 기대 O(log n), 앞에서부터 k 개 조회는 O(log n + k)
+ * - comparator 기준으로 같은 원소는 하나만 보관
+ * - 동기화하지 않으므로 호출하는 쪽에서 락을 잡아야 함
+ *
+ * @param <T> 원소 타입
+ */
+class OrderStatisticTree<T> {
+
+    private final Comparator<? super T> comparator;
+    private final SplittableRandom random = new SplittableRandom();
+
+    private Node<T> root;
+
+    OrderStatisticTree(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    boolean isEmpty() {
+        return root == null;
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    /**
+     * 원소 추가
+     *
+     * @param value 원소
+     * @return 이미 같은 원소가 있으면 false
+     */
+    boolean add(T value) {
+        if (contains(value)) {
+            return false;
+        }
+
+        Node<T>[] parts = split(root, value);
+        root = merge(merge(parts[0], new Node<>(value, random.nextInt())), parts[1]);
+        return true;
+    }
+
+    /**
+     * 원소 삭제
+     *
+     * @param value 원소
+     * @return 같은 원소가 없었으면 false
+     */
+    boolean remove(T value) {
+        if (!contains(value)) {
+            return false;
+        }
+
+        root = remove(root, value);
+        return true;
+    }
+
+    boolean contains(T value) {
+        Node<T> node = root;
+        while (node != null) {
+            int compared = comparator.compare(value, node.value);
+            if (compared == 0) {
+                return true;
+            }
+            node = compared < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * value 보다 앞에 오는 원소 수, value 가 집합에 없어도 들어갈 위치를 반환
+     *
+     * @param value 기준 원소
+     * @return 0 부터 시작하는 순위
+     */
+    int rank(T value) {
+        int rank = 0;
+        Node<T> node = root;
+        while (node != null) {
+            if (comparator.compare(value, node.value) <= 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    T first() {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+
+        Node<T> node = root;
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.value;
+    }
+
+    /**
+     * 정렬 순서로 앞에서부터 최대 limit 개 조회
+     *
+     * @param limit 최대 개수
+     * @return 정렬된 원소 목록
+     */
+    List<T> head(int limit) {
+        List<T> values = new ArrayList<>(Math.min(limit, size()));
+        Deque<Node<T>> path = new ArrayDeque<>();
+
+        Node<T> node = root;
+        while (values.size() < limit && (node != null || !path.isEmpty())) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+            node = path.pop();
+            values.add(node.value);
+            node = node.right;
+        }
+        return values;
+    }
+
+    // [value 보다 작은 원소, value 이상인 원소] 로 분리
+    private Node<T>[] split(Node<T> node, T value) {
+        @SuppressWarnings("unchecked")
+        Node<T>[] parts = new Node[2];
+        if (node == null) {
+            return parts;
+        }
+
+        if (comparator.compare(node.value, value) < 0) {
+            Node<T>[] right = split(node.right, value);
+            node.right = right[0];
+            parts[0] = node.update();
+            parts[1] = right[1];
+        } else {
+            Node<T>[] left = split(node.left, value);
+            node.left = left[1];
+            parts[0] = left[0];
+            parts[1] = node.update();
+        }
+        return parts;
+    }
+
+    // less 의 모든 원소가 greater 의 원소보다 앞에 있어야 함
+    private Node<T> merge(Node<T> less, Node<T> greater) {
+        if (less == null) {
+            return greater;
+        }
+        if (greater == null) {
+            return less;
+        }
+
+        if (less.priority > greater.priority) {
+            less.right = merge(less.right, greater);
+            return less.update();
+        }
+        greater.left = merge(less, greater.left);
+        return greater.update();
+    }
+
+    private Node<T> remove(Node<T> node, T value) {
+        int compared = comparator.compare(value, node.value);
+        if (compared == 0) {
+            return merge(node.left, node.right);
+        }
+
+        if (compared < 0) {
+            node.left = remove(node.left, value);
+        } else {
+            node.right = remove(node.right, value);
+        }
+        return node.update();
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static class Node<T> {
+
+        private final T value;
+        private final int priority;
+        private Node<T> left;
+        private Node<T> right;
+        private int size = 1;
+
+        private Node(T value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+
+        private Node<T> update() {
+            size = size(left) + size(right) + 1;
+            return this;
+        }
+    }
+}
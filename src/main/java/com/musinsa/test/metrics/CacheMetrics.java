@@ -0,0 +1,58 @@
+package com.musinsa.test.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시 적중/미적중 횟수와 적중률
+ * - catalog.cache.requests{cache, result=hit|miss}
+ * - catalog.cache.hit.ratio{cache}
+ */
+public class CacheMetrics implements MeterBinder {
+
+    private final String cacheName;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CacheMetrics(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public void hit() {
+        hits.increment();
+    }
+
+    public void miss() {
+        misses.increment();
+    }
+
+    /**
+     * 지금까지의 적중률
+     *
+     * @return 0 ~ 1, 요청이 없었으면 0
+     */
+    public double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("catalog.cache.requests", hits, LongAdder::sum)
+                .tag("cache", cacheName)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("catalog.cache.requests", misses, LongAdder::sum)
+                .tag("cache", cacheName)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("catalog.cache.hit.ratio", this, CacheMetrics::hitRatio)
+                .tag("cache", cacheName)
+                .register(registry);
+    }
+}
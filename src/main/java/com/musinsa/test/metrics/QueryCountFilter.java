@@ -0,0 +1,60 @@
+package com.musinsa.test.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 실행된 SQL 문 수를 기록 (method, uri 태그)
+ * - catalog.request.queries: ItemRepository 호출 안에서 실행된 SQL 문 수
+ * - catalog.request.statements: 다른 리포지토리, 커밋 시점 flush 를 포함한 전체 SQL 문 수
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final QueryCounter queryCounter;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long statementsBefore = queryCounter.current();
+        long queriesBefore = queryCounter.currentRepository();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // 매핑된 핸들러의 URL 패턴 기준으로 태그를 붙여서 경로 변수마다 태그가 늘어나지 않도록 함
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+            record("catalog.request.queries", "SQL statements executed by ItemRepository calls per request",
+                    request.getMethod(), uri, queryCounter.currentRepository() - queriesBefore);
+            record("catalog.request.statements", "All SQL statements executed per request",
+                    request.getMethod(), uri, queryCounter.current() - statementsBefore);
+        }
+    }
+
+    private void record(String name, String description, String method, String uri, long count) {
+        DistributionSummary.builder(name)
+                .description(description)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(count);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+}
@@ -0,0 +1,59 @@
+package com.musinsa.test.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 가 실행하는 SQL 문 수를 스레드별로 집계
+ * 요청 하나는 한 스레드에서 처리되므로 요청 전후의 값 차이가 요청당 쿼리 수
+ * - 전체 SQL 문 수와 ItemRepository 호출 안에서 실행된 SQL 문 수를 따로 집계
+ * - ItemRepository 호출 구간은 RepositoryMetricsAspect 가 enterRepository/exitRepository 로 알려줌
+ */
+@Component
+public class QueryCounter implements StatementInspector {
+
+    private final ThreadLocal<Counts> counts = ThreadLocal.withInitial(Counts::new);
+
+    @Override
+    public String inspect(String sql) {
+        Counts current = counts.get();
+        current.statements++;
+        if (current.repositoryDepth > 0) {
+            current.repositoryStatements++;
+        }
+        return sql;
+    }
+
+    /**
+     * 현재 스레드에서 지금까지 실행된 SQL 문 수
+     *
+     * @return SQL 문 수
+     */
+    public long current() {
+        return counts.get().statements;
+    }
+
+    /**
+     * 현재 스레드에서 지금까지 ItemRepository 호출 안에서 실행된 SQL 문 수
+     *
+     * @return SQL 문 수
+     */
+    public long currentRepository() {
+        return counts.get().repositoryStatements;
+    }
+
+    // 리포지토리 메서드가 다른 리포지토리 메서드를 호출할 수 있으므로 깊이로 관리
+    void enterRepository() {
+        counts.get().repositoryDepth++;
+    }
+
+    void exitRepository() {
+        counts.get().repositoryDepth--;
+    }
+
+    private static class Counts {
+        private long statements;
+        private long repositoryStatements;
+        private int repositoryDepth;
+    }
+}
@@ -0,0 +1,66 @@
+package com.musinsa.test.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * ItemRepository 의 findAll* 조회가 읽어온 행 수를 catalog.repository.rows 로 기록 (method 태그)
+ * ItemRepository 호출 구간을 QueryCounter 에 알려서 요청당 ItemRepository 쿼리 수(catalog.request.queries)를 집계
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final QueryCounter queryCounter;
+
+    @Around("this(com.musinsa.test.repository.ItemRepository)")
+    public Object countQueries(ProceedingJoinPoint joinPoint) throws Throwable {
+        queryCounter.enterRepository();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            queryCounter.exitRepository();
+        }
+    }
+
+    @AfterReturning(
+            pointcut = "this(com.musinsa.test.repository.ItemRepository) && execution(* findAll*(..))",
+            returning = "result"
+    )
+    public void recordRows(JoinPoint joinPoint, Object result) {
+        DistributionSummary.builder("catalog.repository.rows")
+                .description("Rows loaded by ItemRepository findAll queries")
+                .tag("method", joinPoint.getSignature().getName())
+                .register(meterRegistry)
+                .record(rows(result));
+    }
+
+    private static long rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Iterable<?> iterable) {
+            long rows = 0;
+            for (Object ignored : iterable) {
+                rows++;
+            }
+            return rows;
+        }
+        return result == null ? 0 : 1;
+    }
+}
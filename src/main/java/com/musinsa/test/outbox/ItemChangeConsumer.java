@@ -0,0 +1,21 @@
+package com.musinsa.test.outbox;
+
+import java.util.List;
+
+/**
+ * 커밋된 상품 변경 이벤트를 받는 소비자, 빈으로 등록하면 ItemOutboxDispatcher 가 전달
+ *
+ * - 커밋 직후에는 커밋한 스레드가 트랜잭션 하나의 이벤트를, 그 밖에는 디스패처가 outbox ID 순서로 여러 개씩 묶어서 전달
+ * - 동시에 커밋된 트랜잭션의 이벤트는 outbox ID 순서와 다르게 도착할 수 있으므로 같은 상품의 변경 순서는 ItemChanged.isAfter 로 판단
+ * - 전달은 한 번에 하나씩만 실행되므로 소비자는 동시 호출을 고려하지 않아도 됨
+ * - 전달 중 어느 소비자든 예외를 던지면 같은 묶음을 모든 소비자에게 다시 전달하므로(at-least-once) 중복 수신에 안전해야 함
+ */
+public interface ItemChangeConsumer {
+
+    /**
+     * 이벤트 묶음 처리
+     *
+     * @param events outbox ID 오름차순 이벤트 목록
+     */
+    void accept(List<ItemChanged> events);
+}
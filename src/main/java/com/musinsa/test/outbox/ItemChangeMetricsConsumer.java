@@ -0,0 +1,34 @@
+package com.musinsa.test.outbox;
+
+import com.musinsa.test.domain.ItemChangeType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전달받은 상품 변경 수를 종류별로 catalog.item.changes{type} 에 집계
+ * 다시 전달된 이벤트도 한 번 더 집계되므로 근사값
+ */
+@Component
+public class ItemChangeMetricsConsumer implements ItemChangeConsumer {
+
+    private final Map<ItemChangeType, Counter> counters = new EnumMap<>(ItemChangeType.class);
+
+    public ItemChangeMetricsConsumer(MeterRegistry meterRegistry) {
+        for (ItemChangeType type : ItemChangeType.values()) {
+            counters.put(type, Counter.builder("catalog.item.changes")
+                    .description("Committed item changes delivered through the outbox")
+                    .tag("type", type.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void accept(List<ItemChanged> events) {
+        events.forEach(event -> counters.get(event.type()).increment());
+    }
+}
@@ -0,0 +1,63 @@
+package com.musinsa.test.outbox;
+
+import com.musinsa.test.domain.Item;
+import com.musinsa.test.domain.ItemChangeType;
+import com.musinsa.test.domain.ItemOutboxEvent;
+
+import java.util.Date;
+
+/**
+ * 커밋된 상품 변경 이벤트
+ *
+ * @param eventId outbox ID, 전달 순서이며 같은 상품의 변경이라도 커밋 순서와 같다고 보장하지 않음
+ * @param itemId 상품 ID
+ * @param itemVersion 상품 행 버전, 생성/갱신은 변경 후 버전이고 삭제는 삭제된 행의 버전
+ * @param type 변경 종류
+ * @param before 변경 전 값, 생성이면 null
+ * @param after 변경 후 값, 삭제면 null
+ * @param occurredAt 변경 시각, 생성/갱신은 변경 후 상품의 수정 시각(Item.updatedAt)
+ */
+public record ItemChanged(long eventId, long itemId, long itemVersion, ItemChangeType type,
+                          ItemValues before, ItemValues after, Date occurredAt) {
+
+    static ItemChanged of(ItemOutboxEvent event) {
+        ItemValues before = event.getOldPrice() == null
+                ? null
+                : new ItemValues(event.getOldBrand(), event.getOldCategory(), event.getOldPrice());
+        ItemValues after = event.getNewPrice() == null
+                ? null
+                : new ItemValues(event.getNewBrand(), event.getNewCategory(), event.getNewPrice());
+
+        return new ItemChanged(event.getId(), event.getItemId(), event.getItemVersion(), event.getChangeType(),
+                before, after, event.getOccurredAt());
+    }
+
+    /**
+     * 같은 상품의 다른 변경보다 나중 변경인지 확인
+     * 소비자는 상품마다 마지막으로 처리한 변경을 기억해서 이보다 나중이 아닌 변경(늦게 도착했거나 다시 전달된 변경)을 버릴 수 있음
+     * 삭제는 삭제된 행의 버전을 가지므로 같은 버전의 생성/갱신보다 나중 변경
+     *
+     * @param other 같은 상품의 다른 변경
+     * @return 이 변경이 나중이면 true
+     */
+    public boolean isAfter(ItemChanged other) {
+        if (itemVersion != other.itemVersion) {
+            return itemVersion > other.itemVersion;
+        }
+        return type == ItemChangeType.DELETED && other.type != ItemChangeType.DELETED;
+    }
+
+    /**
+     * 이벤트에 담기는 상품 값
+     *
+     * @param brand 브랜드
+     * @param category 카테고리
+     * @param price 가격
+     */
+    public record ItemValues(String brand, String category, int price) {
+
+        public static ItemValues of(Item item) {
+            return new ItemValues(item.getBrand(), item.getCategory(), item.getPrice());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.musinsa.test.outbox;
+
+import com.musinsa.test.domain.Item;
+import com.musinsa.test.domain.ItemChangeType;
+import com.musinsa.test.domain.ItemOutboxEvent;
+import com.musinsa.test.outbox.ItemChanged.ItemValues;
+import com.musinsa.test.repository.ItemOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 상품 변경을 같은 트랜잭션 안에서 outbox 테이블에 기록
+ * 커밋되면 커밋한 스레드가 ItemOutboxDispatcher 로 트랜잭션의 이벤트를 바로 전달하고, 롤백되면 기록도 함께 사라짐
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class ItemOutbox {
+
+    private final ItemOutboxRepository itemOutboxRepository;
+    private final ItemOutboxDispatcher itemOutboxDispatcher;
+
+    /**
+     * 생성 이벤트 기록, 상품 ID 가 할당된(persist 된) 뒤에 호출
+     *
+     * @param item 생성된 상품
+     */
+    public void recordCreated(Item item) {
+        save(event(item, ItemChangeType.CREATED, null, ItemValues.of(item)));
+    }
+
+    /**
+     * 여러 상품의 생성 이벤트 기록 (대량 입력)
+     *
+     * @param items 생성된 상품 목록
+     */
+    public void recordCreated(List<Item> items) {
+        List<ItemOutboxEvent> events = new ArrayList<>(items.size());
+        items.forEach(item -> events.add(event(item, ItemChangeType.CREATED, null, ItemValues.of(item))));
+
+        itemOutboxRepository.saveAll(events);
+        pendingEvents().addAll(events);
+    }
+
+    /**
+     * 갱신 이벤트 기록, 상품 행을 잠근 뒤 변경 전 값을 읽고 갱신을 flush 해서 버전이 증가한 뒤에 호출
+     *
+     * @param before 변경 전 값
+     * @param item 변경된 상품
+     */
+    public void recordUpdated(ItemValues before, Item item) {
+        save(event(item, ItemChangeType.UPDATED, before, ItemValues.of(item)));
+    }
+
+    /**
+     * 삭제 이벤트 기록
+     *
+     * @param item 삭제된 상품
+     */
+    public void recordDeleted(Item item) {
+        save(event(item, ItemChangeType.DELETED, ItemValues.of(item), null));
+    }
+
+    private void save(ItemOutboxEvent event) {
+        itemOutboxRepository.save(event);
+        pendingEvents().add(event);
+    }
+
+    private static ItemOutboxEvent event(Item item, ItemChangeType type, ItemValues before, ItemValues after) {
+        return ItemOutboxEvent.builder()
+                .itemId(item.getId())
+                .itemVersion(item.getVersion())
+                .changeType(type)
+                .oldBrand(before == null ? null : before.brand())
+                .oldCategory(before == null ? null : before.category())
+                .oldPrice(before == null ? null : before.price())
+                .newBrand(after == null ? null : after.brand())
+                .newCategory(after == null ? null : after.category())
+                .newPrice(after == null ? null : after.price())
+                // 생성/갱신은 상품의 수정 시각과 같은 값이라 소비자가 스냅샷(ItemSnapshot.updatedAt)을 만들 수 있음
+                .occurredAt(after == null ? new Date() : item.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 현재 트랜잭션에서 기록한 이벤트 목록, 트랜잭션마다 처음 기록할 때 한 번만 커밋 후 전달을 등록
+     *
+     * @return 이벤트 목록
+     */
+    private List<ItemOutboxEvent> pendingEvents() {
+        PendingEvents pending = (PendingEvents) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEvents();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+
+        return pending.events;
+    }
+
+    /**
+     * 트랜잭션 하나에서 기록한 이벤트 목록
+     * 트랜잭션이 일시 중단되면 리소스 바인딩도 함께 해제해서 다른 트랜잭션과 섞이지 않도록 함
+     */
+    private class PendingEvents implements TransactionSynchronization {
+
+        private final List<ItemOutboxEvent> events = new ArrayList<>();
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(ItemOutbox.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(ItemOutbox.this, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            itemOutboxDispatcher.beginCommit(events.stream().map(ItemOutboxEvent::getId).toList());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ItemOutbox.this);
+
+            itemOutboxDispatcher.completeCommit(events.stream().map(ItemChanged::of).toList(), status == STATUS_COMMITTED);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.musinsa.test.outbox;
+
+import com.musinsa.test.config.CatalogProperties;
+import com.musinsa.test.domain.ItemOutboxEvent;
+import com.musinsa.test.repository.ItemOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * outbox 에 기록된 상품 변경 이벤트를 등록된 ItemChangeConsumer 에게 전달하는 인프로세스 디스패처
+ *
+ * 핵심 조건:
+ * - 상품 변경을 커밋한 스레드가 커밋 직후 자기 트랜잭션의 이벤트를 바로 전달(ItemOutbox)해서 쓰기 직후의 조회에도 반영되고,
+ *   단일 스레드는 outbox ID 순서로 catalog.outbox.batch-size 개씩 읽어서 아직 전달되지 않은 이벤트만 전달한 뒤 outbox 에서 삭제
+ * - 커밋 중인 트랜잭션의 이벤트는 건너뛰고, 커밋한 스레드가 전달한 이벤트는 다시 전달하지 않고 삭제만 함
+ * - 전달은 한 번에 하나씩만 실행되므로 소비자는 동시에 호출되지 않음
+ * - 전달이 실패하면 삭제하지 않고 다음 실행에서 같은 이벤트를 다시 전달 (at-least-once)
+ * - 커밋 직후 전달이 끝나면 깨워서 바로 실행하고, catalog.outbox.poll-interval 마다도 실행되므로 재기동 전에 남은 이벤트도 전달됨
+ * - 같은 상품의 변경은 상품 행 잠금 이후에 outbox ID 를 받으므로 인스턴스 하나에서는 커밋 순서대로 ID 가 증가하지만,
+ *   ID 는 인스턴스마다의 시퀀스 블록(pooled)에서 할당되므로 여러 인스턴스가 쓰면 커밋 순서와 다를 수 있음
+ *   (같은 상품의 변경 순서는 이벤트의 상품 행 버전 ItemChanged.itemVersion, ItemChanged.isAfter 로 판단)
+ */
+@Slf4j
+@Component
+public class ItemOutboxDispatcher {
+
+    private final ItemOutboxRepository itemOutboxRepository;
+    private final ObjectProvider<ItemChangeConsumer> consumers;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogProperties.Outbox settings;
+    private final Counter deliveredEvents;
+    private final Counter failedDeliveries;
+
+    // 가상 스레드 pinning 을 피하기 위해 synchronized 대신 ReentrantLock 사용
+    private final ReentrantLock deliveryLock = new ReentrantLock();
+
+    // 커밋 중(false)이거나 커밋한 스레드가 전달을 마친(true) 이벤트의 outbox ID, 디스패처가 outbox 에서 삭제하면 제거
+    private final Map<Long, Boolean> commitDeliveries = new ConcurrentHashMap<>();
+
+    private final Semaphore signal = new Semaphore(0);
+    private Thread worker;
+
+    public ItemOutboxDispatcher(ItemOutboxRepository itemOutboxRepository,
+                                ObjectProvider<ItemChangeConsumer> consumers,
+                                PlatformTransactionManager transactionManager,
+                                CatalogProperties catalogProperties,
+                                MeterRegistry meterRegistry) {
+        this.itemOutboxRepository = itemOutboxRepository;
+        this.consumers = consumers;
+        // 읽기/쓰기 분리 시에도 원본에서 읽도록 읽기 전용으로 두지 않음
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.settings = catalogProperties.getOutbox();
+        this.deliveredEvents = Counter.builder("catalog.outbox.delivered")
+                .description("Item change events delivered to all consumers")
+                .register(meterRegistry);
+        this.failedDeliveries = Counter.builder("catalog.outbox.failures")
+                .description("Failed outbox deliveries, retried on the next run")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = Thread.ofPlatform().daemon().name("item-outbox-dispatcher").start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(1));
+    }
+
+    /**
+     * 다음 전달을 바로 실행하도록 요청, 여러 번 호출돼도 한 번만 실행
+     */
+    public void wakeUp() {
+        if (signal.availablePermits() == 0) {
+            signal.release();
+        }
+    }
+
+    /**
+     * 커밋을 시작하는 트랜잭션의 이벤트를 커밋 중으로 표시, 커밋한 스레드가 전달을 마칠 때까지 디스패처가 전달하지 않음
+     *
+     * @param eventIds 트랜잭션에서 기록한 outbox ID
+     */
+    void beginCommit(List<Long> eventIds) {
+        eventIds.forEach(eventId -> commitDeliveries.put(eventId, Boolean.FALSE));
+    }
+
+    /**
+     * 트랜잭션이 끝난 뒤 커밋된 이벤트를 현재 스레드에서 바로 모든 소비자에게 전달
+     * DB 를 사용하지 않으므로 커밋한 트랜잭션의 커넥션을 반환하기 전(afterCompletion)에 호출해도 다른 커넥션을 기다리지 않음
+     * 롤백되었거나 전달이 실패하면 커밋 중 표시만 지우고, 커밋된 이벤트는 다음 실행에서 디스패처가 다시 전달
+     *
+     * @param events outbox ID 오름차순 이벤트 목록
+     * @param committed 커밋 여부
+     */
+    void completeCommit(List<ItemChanged> events, boolean committed) {
+        boolean delivered = false;
+        if (committed) {
+            try {
+                deliver(events);
+                delivered = true;
+            } catch (RuntimeException e) {
+                failedDeliveries.increment();
+                log.warn("커밋 직후 상품 변경 이벤트 전달 실패, 다음 실행에서 다시 전달합니다.", e);
+            }
+        }
+
+        for (ItemChanged event : events) {
+            if (delivered) {
+                commitDeliveries.put(event.eventId(), Boolean.TRUE);
+            } else {
+                commitDeliveries.remove(event.eventId());
+            }
+        }
+
+        // 전달이 끝난 이벤트는 outbox 에서 삭제하도록 바로 실행하고, 실패한 이벤트는 다음 주기에 다시 전달
+        if (delivered) {
+            wakeUp();
+        }
+    }
+
+    /**
+     * outbox 가 빌 때까지 이벤트를 전달
+     * 커밋한 스레드가 이미 전달한 이벤트는 삭제만 하고, 커밋 중인 트랜잭션의 이벤트는 남겨 둠
+     *
+     * @return 디스패처가 전달한 이벤트 수
+     */
+    public int dispatch() {
+        int delivered = 0;
+        long lastEventId = 0;
+        while (true) {
+            long afterEventId = lastEventId;
+            List<ItemChanged> events = transactionTemplate.execute(status ->
+                    itemOutboxRepository.findAllByIdGreaterThanOrderByIdAsc(afterEventId, Limit.of(settings.getBatchSize())).stream()
+                            .map(ItemChanged::of)
+                            .toList());
+            if (events == null || events.isEmpty()) {
+                return delivered;
+            }
+            lastEventId = events.getLast().eventId();
+
+            List<ItemChanged> pending = new ArrayList<>(events.size());
+            List<Long> done = new ArrayList<>(events.size());
+            for (ItemChanged event : events) {
+                Boolean deliveredOnCommit = commitDeliveries.get(event.eventId());
+                if (deliveredOnCommit == null) {
+                    pending.add(event);
+                }
+                if (!Boolean.FALSE.equals(deliveredOnCommit)) {
+                    done.add(event.eventId());
+                }
+            }
+
+            if (!pending.isEmpty()) {
+                deliver(pending);
+                delivered += pending.size();
+            }
+
+            transactionTemplate.executeWithoutResult(status -> itemOutboxRepository.deleteAllByIdInBatch(done));
+            done.forEach(commitDeliveries::remove);
+        }
+    }
+
+    private void deliver(List<ItemChanged> events) {
+        deliveryLock.lock();
+        try {
+            consumers.orderedStream().forEach(consumer -> consumer.accept(events));
+        } finally {
+            deliveryLock.unlock();
+        }
+        deliveredEvents.increment(events.size());
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                dispatch();
+            } catch (RuntimeException e) {
+                failedDeliveries.increment();
+                log.warn("상품 변경 이벤트 전달 실패, 다음 실행에서 다시 전달합니다.", e);
+            }
+
+            try {
+                signal.tryAcquire(settings.getPollInterval().toMillis(), TimeUnit.MILLISECONDS);
+                signal.drainPermits();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.musinsa.test.replica;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본, 그 외는 원본으로 커넥션을 라우팅
+ * 복제본이 maxStaleness 보다 뒤처져 있으면 읽기 전용 트랜잭션도 원본 사용
+ *
+ * 트랜잭션의 읽기 전용 여부는 커넥션을 얻은 뒤에 설정되므로 LazyConnectionDataSourceProxy 로 감싸서
+ * 첫 SQL 실행 시점에 라우팅해야 함
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaSynchronizer replicaSynchronizer;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaSynchronizer replicaSynchronizer) {
+        this.replicaSynchronizer = replicaSynchronizer;
+
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaSynchronizer.isWithinStaleness()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+}
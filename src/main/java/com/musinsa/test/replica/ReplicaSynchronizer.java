@@ -0,0 +1,251 @@
+package com.musinsa.test.replica;
+
+import com.musinsa.test.index.ItemIndex;
+import com.musinsa.test.index.ItemSnapshot;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커밋된 상품 변경 로그를 복제본 DB 에 반영
+ *
+ * 핵심 조건:
+ * - ItemIndexManager 가 커밋 이후에 전달하는 변경을 ItemIndex 로 받아서 큐에 넣고, 별도 스레드가 복제본에 반영
+ * - 변경 로그에는 상품 ID 만 쓰고 반영 시점에 원본의 현재 행을 복사(없으면 삭제)하므로 순서가 바뀌거나 중복돼도 결과가 같음
+ * - 복제 지연은 아직 반영하지 못한 가장 오래된 변경이 큐에 들어온 뒤 지난 시간
+ * - 브랜드/카테고리 사전은 추가만 되므로 상품을 복사하기 전에 복제본에 없는 키(최대 키 이후)만 복사
+ * - 기동 시 전체 복사가 끝나기 전이거나 지연이 maxStaleness 를 넘으면 isWithinStaleness 가 false
+ */
+@Slf4j
+public class ReplicaSynchronizer implements ItemIndex, MeterBinder {
+
+    private static final String SELECT_ITEMS = "SELECT id, brand_id, category_id, price, created_at, updated_at, version FROM items";
+    private static final String UPSERT_ITEM =
+            "MERGE INTO items (id, brand_id, category_id, price, created_at, updated_at, version) KEY (id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final List<String> DICTIONARY_TABLES = List.of("brands", "categories");
+
+    // 반영에 실패하면 잠시 기다렸다가 같은 변경을 다시 반영
+    private static final long RETRY_DELAY_MILLIS = 1_000;
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxStalenessNanos;
+    private final long replicationDelayNanos;
+    private final int batchSize;
+
+    private final ConcurrentLinkedQueue<PendingChange> pending = new ConcurrentLinkedQueue<>();
+    private final Semaphore available = new Semaphore(0);
+
+    private volatile boolean ready;
+    private Thread worker;
+
+    public ReplicaSynchronizer(JdbcTemplate primary, JdbcTemplate replica,
+                               Duration maxStaleness, Duration replicationDelay, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize 는 1 이상이어야 합니다.");
+        }
+
+        this.primary = primary;
+        this.replica = replica;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.replicationDelayNanos = replicationDelay.toNanos();
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = Thread.ofPlatform().daemon().name("replica-synchronizer").start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        worker.interrupt();
+        worker.join(RETRY_DELAY_MILLIS);
+    }
+
+    /**
+     * 원본의 전체 상품을 복제본에 복사
+     * 복사하는 동안은 복제본을 사용하지 않음
+     */
+    @Override
+    public void rebuild(Collection<ItemSnapshot> items) {
+        ready = false;
+
+        replica.update("DELETE FROM items");
+        copyDictionaries();
+
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        primary.query(SELECT_ITEMS, resultSet -> {
+            rows.add(toRow(resultSet));
+            if (rows.size() == batchSize) {
+                replica.batchUpdate(UPSERT_ITEM, rows);
+                rows.clear();
+            }
+        });
+        if (!rows.isEmpty()) {
+            replica.batchUpdate(UPSERT_ITEM, rows);
+        }
+
+        ready = true;
+        log.info("복제본 전체 복사 완료");
+    }
+
+    @Override
+    public void apply(ItemSnapshot before, ItemSnapshot after) {
+        ItemSnapshot item = after != null ? after : before;
+        pending.add(new PendingChange(item.id(), System.nanoTime()));
+        available.release();
+    }
+
+    /**
+     * 읽기 전용 트랜잭션을 복제본으로 보내도 되는지 확인
+     *
+     * @return 전체 복사가 끝났고 복제 지연이 허용 범위 안이면 true
+     */
+    public boolean isWithinStaleness() {
+        return ready && lagNanos() <= maxStalenessNanos;
+    }
+
+    /**
+     * 현재 복제 지연
+     *
+     * @return 반영하지 못한 가장 오래된 변경의 대기 시간, 없으면 0
+     */
+    public Duration getLag() {
+        return Duration.ofNanos(lagNanos());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder("catalog.replica.lag", this, TimeUnit.NANOSECONDS, ReplicaSynchronizer::lagNanos)
+                .description("Age of the oldest change not yet applied to the replica")
+                .register(registry);
+        Gauge.builder("catalog.replica.pending", pending, Collection::size)
+                .description("Changes waiting to be applied to the replica")
+                .register(registry);
+    }
+
+    private long lagNanos() {
+        PendingChange oldest = pending.peek();
+        return oldest == null ? 0 : System.nanoTime() - oldest.enqueuedAt();
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            int count = 0;
+            try {
+                available.acquire();
+                count = 1 + available.drainPermits();
+                if (count > batchSize) {
+                    available.release(count - batchSize);
+                    count = batchSize;
+                }
+
+                List<PendingChange> changes = new ArrayList<>(count);
+                Iterator<PendingChange> iterator = pending.iterator();
+                while (changes.size() < count) {
+                    changes.add(iterator.next());
+                }
+
+                awaitReplicationDelay(changes.getLast());
+                copy(changes);
+
+                // 반영이 끝난 뒤에 큐에서 빼야 반영 중인 변경도 지연 시간에 포함됨
+                for (int i = 0; i < count; i++) {
+                    pending.poll();
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                log.warn("복제본 반영 실패, {}ms 후 다시 시도합니다.", RETRY_DELAY_MILLIS, e);
+                available.release(count);
+                try {
+                    Thread.sleep(RETRY_DELAY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void awaitReplicationDelay(PendingChange latest) throws InterruptedException {
+        long remaining = latest.enqueuedAt() + replicationDelayNanos - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+
+    private void copy(List<PendingChange> changes) {
+        Set<Long> ids = new LinkedHashSet<>();
+        changes.forEach(change -> ids.add(change.id()));
+
+        copyDictionaries();
+
+        List<Object[]> rows = new NamedParameterJdbcTemplate(primary).query(
+                SELECT_ITEMS + " WHERE id IN (:ids)",
+                Map.of("ids", ids),
+                (resultSet, rowNum) -> toRow(resultSet)
+        );
+        replica.batchUpdate(UPSERT_ITEM, rows);
+
+        // 원본에 없는 상품은 삭제된 상품
+        Set<Long> deleted = new HashSet<>(ids);
+        rows.forEach(row -> deleted.remove((Long) row[0]));
+        if (!deleted.isEmpty()) {
+            new NamedParameterJdbcTemplate(replica).update("DELETE FROM items WHERE id IN (:ids)", Map.of("ids", deleted));
+        }
+    }
+
+    // 사전 테이블마다 복제본의 최대 키 이후에 추가된 행만 복사
+    private void copyDictionaries() {
+        for (String table : DICTIONARY_TABLES) {
+            Integer lastId = replica.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Integer.class);
+
+            List<Object[]> rows = primary.query(
+                    "SELECT id, name FROM " + table + " WHERE id > ? ORDER BY id",
+                    (resultSet, rowNum) -> new Object[]{resultSet.getInt("id"), resultSet.getString("name")},
+                    lastId
+            );
+            if (!rows.isEmpty()) {
+                replica.batchUpdate("MERGE INTO " + table + " (id, name) KEY (id) VALUES (?, ?)", rows);
+            }
+        }
+    }
+
+    private static Object[] toRow(ResultSet resultSet) throws SQLException {
+        return new Object[]{
+                resultSet.getLong("id"),
+                resultSet.getInt("brand_id"),
+                resultSet.getInt("category_id"),
+                resultSet.getInt("price"),
+                resultSet.getTimestamp("created_at"),
+                resultSet.getTimestamp("updated_at"),
+                resultSet.getLong("version")
+        };
+    }
+
+    private record PendingChange(Long id, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.musinsa.test.repository;
+
+import jakarta.persistence.Converter;
+
+/**
+ * Item.brand <-> items.brand_id
+ */
+@Converter
+public class BrandIdConverter extends DictionaryIdConverter {
+
+    public BrandIdConverter(ItemDictionary itemDictionary) {
+        super(itemDictionary.brands());
+    }
+}
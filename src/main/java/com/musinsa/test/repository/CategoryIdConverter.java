@@ -0,0 +1,14 @@
+package com.musinsa.test.repository;
+
+import jakarta.persistence.Converter;
+
+/**
+ * Item.category <-> items.category_id
+ */
+@Converter
+public class CategoryIdConverter extends DictionaryIdConverter {
+
+    public CategoryIdConverter(ItemDictionary itemDictionary) {
+        super(itemDictionary.categories());
+    }
+}
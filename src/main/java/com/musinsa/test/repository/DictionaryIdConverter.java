@@ -0,0 +1,38 @@
+package com.musinsa.test.repository;
+
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * 엔티티의 이름 속성을 사전 테이블의 정수 키 컬럼으로 저장하는 컨버터
+ *
+ * 핵심 조건:
+ * - JPQL 조건의 파라미터도 같은 컨버터를 거치므로 이름으로 조회해도 DB 에서는 정수 키로 비교
+ * - 사전에 없는 이름은 어떤 행과도 일치하지 않는 키(0)로 바꿈, 사전 추가는 저장 전에 ItemDictionaryListener 가 담당
+ * - 정수 키 순서는 이름 순서와 다르므로 이름순 정렬은 사전 테이블을 조인하는 네이티브 쿼리로 처리
+ */
+abstract class DictionaryIdConverter implements AttributeConverter<String, Integer> {
+
+    // 사전 키는 1 부터 시작
+    private static final int UNKNOWN_ID = 0;
+
+    private final ItemDictionary.Dictionary dictionary;
+
+    protected DictionaryIdConverter(ItemDictionary.Dictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(String name) {
+        if (name == null) {
+            return null;
+        }
+
+        Integer id = dictionary.findId(name);
+        return id != null ? id : UNKNOWN_ID;
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer id) {
+        return id == null ? null : dictionary.findName(id);
+    }
+}
@@ -0,0 +1,198 @@
+package com.musinsa.test.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 브랜드/카테고리 이름과 사전 테이블(brands, categories)의 정수 키 사이의 변환
+ *
+ * 핵심 조건:
+ * - 사전 행은 추가만 되고 수정/삭제되지 않으므로 커밋된 매핑은 메모리에 계속 캐시
+ * - 트랜잭션 안에서 조회/추가한 매핑은 그 트랜잭션에서만 사용하다가 커밋된 뒤에 캐시에 반영 (롤백되면 버림)
+ *   바깥 트랜잭션이 보류된 동안 실행되는 안쪽 트랜잭션(REQUIRES_NEW)에는 바깥 트랜잭션의 매핑이 보이지 않음
+ * - 엔티티 flush 중(컨버터, 엔티티 리스너)에도 호출되므로 JPA 대신 현재 트랜잭션의 커넥션으로 JDBC 조회/추가
+ */
+@Repository
+public class ItemDictionary {
+
+    private final Dictionary brands;
+    private final Dictionary categories;
+
+    public ItemDictionary(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        this.brands = new Dictionary(jdbcTemplate, "brands");
+        this.categories = new Dictionary(jdbcTemplate, "categories");
+    }
+
+    public Dictionary brands() {
+        return brands;
+    }
+
+    public Dictionary categories() {
+        return categories;
+    }
+
+    /**
+     * 사전 테이블 하나의 이름 <-> 정수 키 매핑
+     */
+    public static class Dictionary {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final String selectIdSql;
+        private final String selectNameSql;
+        private final String insertSql;
+
+        private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+        private final Map<Integer, String> names = new ConcurrentHashMap<>();
+
+        private Dictionary(JdbcTemplate jdbcTemplate, String table) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.selectIdSql = "SELECT id FROM " + table + " WHERE name = ?";
+            this.selectNameSql = "SELECT name FROM " + table + " WHERE id = ?";
+            this.insertSql = "INSERT INTO " + table + " (name) VALUES (?)";
+        }
+
+        /**
+         * 이름의 키 조회
+         *
+         * @param name 이름
+         * @return 키, 사전에 없으면 null
+         */
+        public Integer findId(String name) {
+            Integer id = ids.get(name);
+            if (id != null) {
+                return id;
+            }
+
+            Pending pending = pending(false);
+            if (pending != null && (id = pending.ids.get(name)) != null) {
+                return id;
+            }
+
+            id = DataAccessUtils.singleResult(jdbcTemplate.queryForList(selectIdSql, Integer.class, name));
+            if (id != null) {
+                remember(name, id);
+            }
+            return id;
+        }
+
+        /**
+         * 키의 이름 조회
+         *
+         * @param id 키
+         * @return 이름, 사전에 없으면 null
+         */
+        public String findName(int id) {
+            String name = names.get(id);
+            if (name != null) {
+                return name;
+            }
+
+            Pending pending = pending(false);
+            if (pending != null && (name = pending.names.get(id)) != null) {
+                return name;
+            }
+
+            name = DataAccessUtils.singleResult(jdbcTemplate.queryForList(selectNameSql, String.class, id));
+            if (name != null) {
+                remember(name, id);
+            }
+            return name;
+        }
+
+        /**
+         * 이름의 키 조회, 사전에 없으면 현재 트랜잭션에서 추가
+         *
+         * @param name 이름
+         * @return 키
+         */
+        public int register(String name) {
+            Integer id = findId(name);
+            if (id != null) {
+                return id;
+            }
+
+            try {
+                KeyHolder keyHolder = new GeneratedKeyHolder();
+                jdbcTemplate.update(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(insertSql, new String[]{"id"});
+                    statement.setString(1, name);
+                    return statement;
+                }, keyHolder);
+                id = keyHolder.getKeyAs(Integer.class);
+            } catch (DuplicateKeyException e) {
+                // 다른 트랜잭션이 같은 이름을 먼저 추가하고 커밋
+                id = jdbcTemplate.queryForObject(selectIdSql, Integer.class, name);
+            }
+
+            remember(name, id);
+            return id;
+        }
+
+        private void remember(String name, int id) {
+            Pending pending = pending(true);
+            if (pending == null) {
+                ids.put(name, id);
+                names.put(id, name);
+                return;
+            }
+
+            pending.ids.put(name, id);
+            pending.names.put(id, name);
+        }
+
+        // 현재 트랜잭션에서 확인한 매핑, 트랜잭션 밖이면 null
+        private Pending pending(boolean create) {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                return null;
+            }
+
+            Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+            if (pending == null && create) {
+                pending = new Pending();
+                TransactionSynchronizationManager.bindResource(this, pending);
+                TransactionSynchronizationManager.registerSynchronization(pending);
+            }
+            return pending;
+        }
+
+        private class Pending implements TransactionSynchronization {
+
+            private final Map<String, Integer> ids = new HashMap<>();
+            private final Map<Integer, String> names = new HashMap<>();
+
+            // REQUIRES_NEW 등으로 트랜잭션이 보류되는 동안 안쪽 트랜잭션은 커밋되지 않은 매핑을 보지 않고 자기 매핑을 따로 모음
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(Dictionary.this);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(Dictionary.this, this);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(Dictionary.this);
+
+                if (status == STATUS_COMMITTED) {
+                    Dictionary.this.ids.putAll(ids);
+                    Dictionary.this.names.putAll(names);
+                }
+            }
+        }
+    }
+}
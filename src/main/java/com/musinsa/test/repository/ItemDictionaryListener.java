@@ -0,0 +1,29 @@
+package com.musinsa.test.repository;
+
+import com.musinsa.test.domain.Item;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * Item 저장 전에 브랜드/카테고리를 사전에 추가하는 JPA 엔티티 리스너
+ * 컨버터는 사전 조회만 하므로 새 이름은 여기서 먼저 추가해야 정수 키로 저장됨
+ */
+public class ItemDictionaryListener {
+
+    private final ItemDictionary itemDictionary;
+
+    public ItemDictionaryListener(ItemDictionary itemDictionary) {
+        this.itemDictionary = itemDictionary;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void onSaving(Item item) {
+        if (item.getBrand() != null) {
+            itemDictionary.brands().register(item.getBrand());
+        }
+        if (item.getCategory() != null) {
+            itemDictionary.categories().register(item.getCategory());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.musinsa.test.repository;
+
+import com.musinsa.test.domain.ItemOutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ItemOutboxRepository extends JpaRepository<ItemOutboxEvent, Long> {
+
+    /**
+     * 아직 삭제하지 않은 이벤트를 기록 순서(ID 오름차순)로 조회
+     * 커밋 중인 트랜잭션의 이벤트처럼 남겨 둔 이벤트를 다시 읽지 않도록 이전에 읽은 마지막 ID 이후부터 조회
+     *
+     * @param id 이전에 읽은 마지막 ID, 처음이면 0
+     * @param limit 최대 개수
+     * @return 이벤트 목록
+     */
+    List<ItemOutboxEvent> findAllByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+}
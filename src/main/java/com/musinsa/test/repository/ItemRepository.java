@@ -1,24 +1,159 @@
 package com.musinsa.test.repository;
 
 import com.musinsa.test.domain.Item;
+import com.musinsa.test.dto.BrandPriceProjection;
+import com.musinsa.test.dto.BrandTotalPriceProjection;
+import com.musinsa.test.dto.CategoryLowestPriceProjection;
+import com.musinsa.test.dto.CategoryPriceProjection;
+import com.musinsa.test.dto.ItemExportRow;
+import com.musinsa.test.dto.ItemPriceProjection;
+import com.musinsa.test.index.ItemSnapshot;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
-    // 중복된 값을 제거한 모든 카테고리 조회
-    @Query("SELECT DISTINCT i.category FROM Item i ORDER BY i.category ASC")
+    // 내보내기 스트림이 DB 에서 한 번에 가져오는 행 수
+    String EXPORT_FETCH_SIZE = "1000";
+
+    // 상품이 있는 모든 카테고리 조회 (카테고리명 오름차순)
+    // 상품 전체 대신 카테고리 사전을 훑고 카테고리마다 idx_category_price_covering 으로 상품 존재만 확인
+    @Query(value = """
+            SELECT c.name
+            FROM categories c
+            WHERE EXISTS (SELECT 1 FROM items i WHERE i.category_id = c.id)
+            ORDER BY c.name ASC
+            """, nativeQuery = true)
     List<String> findCategories();
 
+    // 갱신/삭제 전 조회, 행 잠금(SELECT ... FOR UPDATE)을 먼저 잡아서 같은 상품의 변경을 조회 시점부터 직렬화
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Item> findWithLockById(Long id);
+
+    // 상품 목록 keyset 페이지네이션: 첫 페이지 (ID 내림차순)
+    List<Item> findAllByOrderByIdDesc(Limit limit);
+
+    // 상품 목록 keyset 페이지네이션: 커서(마지막으로 조회한 ID) 다음 페이지, PK 인덱스 범위 조회라 페이지 깊이와 무관
+    List<Item> findByIdLessThanOrderByIdDesc(Long id, Limit limit);
+
+    // count 쿼리 없이 다음 페이지 존재 여부만 확인하는 페이지 조회
+    Slice<Item> findSliceBy(Pageable pageable);
+
+    // 전체 상품 내보내기 (ID 오름차순)
+    // 엔티티 대신 프로젝션을 fetch size 단위로 읽는 forward-only 스트림이라 영속성 컨텍스트에 쌓이지 않음, 트랜잭션 안에서 닫아야 함
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.musinsa.test.dto.ItemExportRow(i.id, i.brand, i.category, i.price, i.createdAt, i.updatedAt) " +
+            "FROM Item i ORDER BY i.id ASC")
+    Stream<ItemExportRow> streamExportRows();
+
     // 카테고리에서 가격이 가장 낮은 상품 하나를 조회
-    // 동일한 가격이 존재한다면 최근에 생성된 상품을 리턴
+    // 동일한 가격이 존재한다면 최근에 생성된 상품을 리턴 (수정 시각까지 같으면 ID 가 큰 상품)
+    // H2 는 ORDER BY 가 인덱스 첫 컬럼부터 일치해야 정렬을 생략하므로 조건으로 고정된 category 도 정렬 기준에 포함
+    // idx_category_price_covering 에 엔티티의 모든 컬럼이 있어서 인덱스의 첫 항목 하나만 읽음
+    @Query("""
+            SELECT i
+            FROM Item i
+            WHERE i.category = :category
+            ORDER BY i.category ASC, i.price ASC, i.updatedAt DESC, i.id DESC
+            LIMIT 1
+            """)
     Optional<Item> findFirstByCategoryOrderByPriceAscUpdatedAtDesc(String category);
 
     // 카테고리에서 가격이 가장 낮은 상품 하나를 조회
     // 동일한 가격이 존재한다면 최근에 생성된 상품을 리턴
     Optional<Item> findFirstByCategoryOrderByPriceDescUpdatedAtAsc(String category);
+
+    // 카테고리의 최저가 상품과 최고가 상품을 동일 가격 상품까지 모두 한 번의 쿼리로 조회
+    // 결과는 바깥 ORDER BY 로 가격 오름차순, 같은 가격 안에서는 최근 수정 우선(같으면 ID 큰 순), UNION ALL 의 결과 순서에는 의존하지 않음
+    // (UNION ALL 뒤의 ORDER BY 는 HQL 에서 마지막 쿼리에만 붙으므로 파생 테이블로 감싸서 정렬)
+    // 최저가/최고가는 idx_category_price_covering 의 처음/마지막 항목으로 찾고, 가격마다 인덱스 구간만 읽어서 정렬은 동일 가격 상품에만 적용
+    // (IN (최저가, 최고가) 한 번으로 읽으면 H2 가 두 가격 사이 구간까지 읽을 수 있으므로 가격별로 나눔, 최저가와 최고가가 같으면 한 번만 읽음)
+    @Query("""
+            SELECT u.brand AS brand, u.price AS price
+            FROM (SELECT i.brand AS brand, i.price AS price, i.updatedAt AS updatedAt, i.id AS id
+                  FROM Item i
+                  WHERE i.category = :category
+                    AND i.price = (SELECT MIN(l.price) FROM Item l WHERE l.category = :category)
+                  UNION ALL
+                  SELECT i.brand AS brand, i.price AS price, i.updatedAt AS updatedAt, i.id AS id
+                  FROM Item i
+                  WHERE i.category = :category
+                    AND i.price = (SELECT MAX(h.price) FROM Item h WHERE h.category = :category)
+                    AND i.price > (SELECT MIN(l.price) FROM Item l WHERE l.category = :category)) u
+            ORDER BY u.price ASC, u.updatedAt DESC, u.id DESC
+            """)
+    List<BrandPriceProjection> findLowestHighestPriceItems(String category);
+
+    // 카테고리에서 가격 범위 안의 상품을 가격, ID 오름차순으로 조회
+    @Query("""
+            SELECT i.id AS id, i.brand AS brand, i.price AS price
+            FROM Item i
+            WHERE i.category = :category AND i.price BETWEEN :minPrice AND :maxPrice
+            ORDER BY i.price ASC, i.id ASC
+            """)
+    List<ItemPriceProjection> findByPriceRange(String category, int minPrice, int maxPrice, Limit limit);
+
+    long countByCategoryAndPriceBetween(String category, int minPrice, int maxPrice);
+
+    // 모든 카테고리의 최저가 상품을 한 번의 쿼리로 조회 (카테고리명 오름차순)
+    // 사전 이름은 집계/순위 결과 행마다 PK 로 조회 (파생 테이블과 조인하면 H2 가 파생 테이블을 조인 행마다 다시 계산)
+    // 정렬 기준은 findFirstByCategoryOrderByPriceAscUpdatedAtDesc 와 같고, 수정 시각까지 같으면 ID 가 큰 상품을 리턴
+    @Query(value = """
+            SELECT (SELECT c.name FROM categories c WHERE c.id = ranked.category_id) AS category,
+                   (SELECT b.name FROM brands b WHERE b.id = ranked.brand_id) AS brand,
+                   ranked.price AS price
+            FROM (
+                SELECT i.category_id, i.brand_id, i.price,
+                       ROW_NUMBER() OVER (PARTITION BY i.category_id ORDER BY i.price ASC, i.updated_at DESC, i.id DESC) AS rn
+                FROM items i
+            ) ranked
+            WHERE ranked.rn = 1
+            ORDER BY category ASC
+            """, nativeQuery = true)
+    List<CategoryLowestPriceProjection> findLowestPriceItemsByCategory();
+
+    // 모든 카테고리를 보유한 브랜드의 카테고리별 최저가 합계를 총액 오름차순으로 조회
+    // 동일한 총액이면 브랜드명 오름차순, 상품 전체가 아닌 브랜드 수만큼의 행만 전송
+    @Query(value = """
+            SELECT (SELECT b.name FROM brands b WHERE b.id = m.brand_id) AS brand, SUM(m.min_price) AS totalPrice
+            FROM (
+                SELECT i.brand_id, i.category_id, MIN(i.price) AS min_price
+                FROM items i
+                GROUP BY i.brand_id, i.category_id
+            ) m
+            GROUP BY m.brand_id
+            HAVING COUNT(DISTINCT m.category_id) = (SELECT COUNT(DISTINCT c.category_id) FROM items c)
+            ORDER BY totalPrice ASC, brand ASC
+            """, nativeQuery = true)
+    List<BrandTotalPriceProjection> findCompleteBrandTotalPrices(Pageable pageable);
+
+    // 브랜드의 카테고리별 최저가 조회 (카테고리명 오름차순)
+    @Query(value = """
+            SELECT (SELECT c.name FROM categories c WHERE c.id = i.category_id) AS category, MIN(i.price) AS price
+            FROM items i
+            WHERE i.brand_id = (SELECT b.id FROM brands b WHERE b.name = :brand)
+            GROUP BY i.category_id
+            ORDER BY category ASC
+            """, nativeQuery = true)
+    List<CategoryPriceProjection> findLowestPricesByBrand(String brand);
+
+    // 인메모리 인덱스 적재용으로 엔티티 대신 스냅샷만 조회
+    @Query("SELECT new com.musinsa.test.index.ItemSnapshot(i.id, i.brand, i.category, i.price, i.updatedAt, i.version) FROM Item i")
+    List<ItemSnapshot> findAllSnapshots();
 }
@@ -1,106 +1,199 @@
 package com.musinsa.test.service;
 
-import com.musinsa.test.domain.Item;
 import com.musinsa.test.dto.BrandLowestPriceDto;
 import com.musinsa.test.dto.BrandLowestPriceResponseDto;
+import com.musinsa.test.dto.BrandRankDto;
+import com.musinsa.test.dto.BrandRankingResponseDto;
+import com.musinsa.test.dto.BrandTotalPriceProjection;
 import com.musinsa.test.dto.CategoryPriceDto;
+import com.musinsa.test.dto.CategoryPriceProjection;
+import com.musinsa.test.exception.RecordNotFoundException;
+import com.musinsa.test.index.BrandLowestPriceIndex;
+import com.musinsa.test.index.BrandLowestPriceIndex.BrandCategoryPrices;
+import com.musinsa.test.index.BrandLowestPriceIndex.RankedBrand;
+import com.musinsa.test.index.ItemIndexManager;
 import com.musinsa.test.repository.ItemRepository;
 import com.musinsa.test.util.PriceFormatter;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
+@Timed("catalog.service")
 public class BrandPriceService {
 
+    private static final int MAX_RANKING_SIZE = 100;
+
     private final ItemRepository itemRepository;
+    private final BrandLowestPriceIndex brandLowestPriceIndex;
+    private final ItemIndexManager itemIndexManager;
+
+    // DB 집계 쿼리로 계산할 때만 사용, 인덱스 응답에는 트랜잭션(DB 커넥션)을 시작하지 않음
+    private final TransactionTemplate readOnlyTransaction;
+
+    public BrandPriceService(ItemRepository itemRepository,
+                             BrandLowestPriceIndex brandLowestPriceIndex,
+                             ItemIndexManager itemIndexManager,
+                             PlatformTransactionManager transactionManager) {
+        this.itemRepository = itemRepository;
+        this.brandLowestPriceIndex = brandLowestPriceIndex;
+        this.itemIndexManager = itemIndexManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     /**
-     * 현재는 요청 시마다 전체 데이터를 기반으로 계산
-     * 대규모 트래픽이 요규되는 서비스에서는 성능 최적화를 위해 캐싱 처리나 쿼리 최적화 등아 고려해야 됨
+     * 인덱스를 사용할 수 있으면 상품 변경 시 갱신된 인덱스에서 바로 조회
+     * 인덱스를 사용할 수 없을 때(쓰기 트랜잭션 내부 등)는 DB 집계 쿼리로 계산
      *
      * @return 최소 총액 브랜드 정보 또는 조건 미충족 시 빈 응답
      */
     public BrandLowestPriceResponseDto getLowestPriceBrand() {
-        List<Item> allItems = itemRepository.findAll();
-        if (allItems.isEmpty()) {
-            return new BrandLowestPriceResponseDto();
+        if (itemIndexManager.isReadable()) {
+            return brandLowestPriceIndex.findLowestPriceBrand()
+                    .map(BrandPriceService::toResponse)
+                    .orElseGet(BrandLowestPriceResponseDto::new);
         }
 
-        // 카테고리 목록
-        List<String> allCategories = itemRepository.findCategories();
-        if (allCategories.isEmpty()) {
+        return readOnlyTransaction.execute(status -> loadLowestPriceBrand());
+    }
+
+    /**
+     * DB 집계 쿼리로 최소 총액 브랜드 계산
+     *
+     * @return 최소 총액 브랜드 정보 또는 조건 미충족 시 빈 응답
+     */
+    private BrandLowestPriceResponseDto loadLowestPriceBrand() {
+        // 모든 카테고리를 보유한 브랜드 중 총액이 가장 낮은 브랜드
+        List<BrandTotalPriceProjection> brandTotalPrices = itemRepository.findCompleteBrandTotalPrices(PageRequest.of(0, 1));
+        if (brandTotalPrices.isEmpty()) {
             return new BrandLowestPriceResponseDto();
         }
 
-        // 브랜드별 상품 그룹화
-        Map<String, List<Item>> itemsByBrand = allItems.stream().collect(Collectors.groupingBy(Item::getBrand));
+        BrandTotalPriceProjection lowestBrand = brandTotalPrices.get(0);
 
-        BrandLowestPriceDto bestLowestBrands = null;
+        List<CategoryPriceDto> categoryPrices = new ArrayList<>();
+        for (CategoryPriceProjection categoryPrice : itemRepository.findLowestPricesByBrand(lowestBrand.getBrand())) {
+            categoryPrices.add(new CategoryPriceDto(categoryPrice.getCategory(), PriceFormatter.KorFormat(categoryPrice.getPrice())));
+        }
 
-        // 비교를 위해 최대값으로 세팅
-        int minTotalPrice = Integer.MAX_VALUE;
+        return new BrandLowestPriceResponseDto(new BrandLowestPriceDto(
+                lowestBrand.getBrand(),
+                categoryPrices,
+                PriceFormatter.KorFormat(lowestBrand.getTotalPrice().intValue())
+        ));
+    }
 
-        // 최소값을 찾기 위해 모든 브랜드 반복
-        for (Map.Entry<String, List<Item>> brandEntry : itemsByBrand.entrySet()) {
-            String currentBrandName = brandEntry.getKey();
-            List<Item> currentBrandItems = brandEntry.getValue();
+    /**
+     * 모든 카테고리를 보유한 브랜드를 총액 오름차순으로 상위 size 개 조회
+     * 인덱스를 사용할 수 없으면 DB 집계 쿼리를 size 개로 제한해서 조회
+     *
+     * @param size 최대 브랜드 수
+     * @return BrandRankingResponseDto
+     * @throws IllegalArgumentException size 가 1 ~ 100 범위 밖
+     */
+    public BrandRankingResponseDto getBrandRanking(int size) {
+        if (size < 1 || size > MAX_RANKING_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_RANKING_SIZE + " 이하여야 합니다.");
+        }
 
-            Map<String, Item> currentBrandLowestItems = new HashMap<>();
+        if (itemIndexManager.isReadable()) {
+            List<BrandRankDto> ranking = new ArrayList<>();
+            for (RankedBrand rankedBrand : brandLowestPriceIndex.findTopBrands(size)) {
+                ranking.add(toRankDto(rankedBrand));
+            }
+            return new BrandRankingResponseDto(ranking);
+        }
 
-            // 람다 사용을 위해 Atomic 타입 사용
-            AtomicInteger currentBrandTotalPrice = new AtomicInteger();
-            AtomicBoolean isHasCategories = new AtomicBoolean(true);
+        return readOnlyTransaction.execute(status -> loadBrandRanking(size));
+    }
 
-            for (String category : allCategories) {
-                Optional<Item> minPriceItem = currentBrandItems.stream()
-                        .filter(item -> item.getCategory().equals(category))
-                        .min(Comparator.comparingInt(Item::getPrice));
+    /**
+     * DB 집계 쿼리를 size 개로 제한해서 브랜드 순위 조회
+     *
+     * @param size 최대 브랜드 수
+     * @return BrandRankingResponseDto
+     */
+    private BrandRankingResponseDto loadBrandRanking(int size) {
+        List<BrandRankDto> ranking = new ArrayList<>();
+
+        for (BrandTotalPriceProjection brandTotalPrice : itemRepository.findCompleteBrandTotalPrices(PageRequest.of(0, size))) {
+            ranking.add(new BrandRankDto(
+                    ranking.size() + 1,
+                    brandTotalPrice.getBrand(),
+                    PriceFormatter.KorFormat(brandTotalPrice.getTotalPrice().intValue())
+            ));
+        }
+        return new BrandRankingResponseDto(ranking);
+    }
 
-                minPriceItem.ifPresentOrElse(
-                    item -> {
-                        currentBrandLowestItems.put(category, item);
-                        currentBrandTotalPrice.addAndGet(item.getPrice());
-                    },
-                    () -> {
-                        isHasCategories.set(false);
-                    }
-                );
+    /**
+     * 브랜드의 최저 총액 순위 조회
+     * 인덱스를 사용할 수 없으면 DB 집계 결과를 앞에서부터 확인
+     *
+     * @param brand 브랜드
+     * @return BrandRankDto
+     * @throws RecordNotFoundException 모든 카테고리를 보유하지 않은 브랜드
+     */
+    public BrandRankDto getBrandRank(String brand) {
+        if (itemIndexManager.isReadable()) {
+            return brandLowestPriceIndex.findBrandRank(brand)
+                    .map(BrandPriceService::toRankDto)
+                    .orElseThrow(() -> new RecordNotFoundException("순위에 없는 브랜드 입니다."));
+        }
 
-                if (!isHasCategories.get()) {
-                    break;
-                }
-            }
+        return readOnlyTransaction.execute(status -> loadBrandRank(brand));
+    }
 
-            // 모든 카테고리를 가진 브랜드인지 확인 후 현재 최소 총액보다 작으면 업데이트
-            if (isHasCategories.get() && currentBrandTotalPrice.get() < minTotalPrice) {
-                minTotalPrice = currentBrandTotalPrice.get();
-                List<CategoryPriceDto> categoryPrices = new ArrayList<>();
-
-                for (String category : allCategories) {
-                    Item item = currentBrandLowestItems.get(category);
-                    categoryPrices.add(new CategoryPriceDto(category, PriceFormatter.KorFormat(item.getPrice())));
-                }
-
-                bestLowestBrands = new BrandLowestPriceDto(
-                        currentBrandName,
-                        categoryPrices,
-                        PriceFormatter.KorFormat(minTotalPrice)
-                );
+    /**
+     * DB 집계 결과를 앞에서부터 확인해서 브랜드 순위 조회
+     *
+     * @param brand 브랜드
+     * @return BrandRankDto
+     * @throws RecordNotFoundException 모든 카테고리를 보유하지 않은 브랜드
+     */
+    private BrandRankDto loadBrandRank(String brand) {
+        int rank = 0;
+        for (BrandTotalPriceProjection brandTotalPrice : itemRepository.findCompleteBrandTotalPrices(Pageable.unpaged())) {
+            rank++;
+            if (brandTotalPrice.getBrand().equals(brand)) {
+                return new BrandRankDto(rank, brand, PriceFormatter.KorFormat(brandTotalPrice.getTotalPrice().intValue()));
             }
         }
+        throw new RecordNotFoundException("순위에 없는 브랜드 입니다.");
+    }
 
-        if (bestLowestBrands == null) {
-            return new BrandLowestPriceResponseDto();
-        }
+    /**
+     * 인덱스의 브랜드 순위를 응답 객체로 전환
+     *
+     * @param rankedBrand 순위, 브랜드, 총액
+     * @return BrandRankDto
+     */
+    static BrandRankDto toRankDto(RankedBrand rankedBrand) {
+        return new BrandRankDto(rankedBrand.rank(), rankedBrand.brand(), PriceFormatter.KorFormat(rankedBrand.totalPrice()));
+    }
 
-        return new BrandLowestPriceResponseDto(bestLowestBrands);
+    /**
+     * 인덱스 조회 결과를 응답 객체로 전환
+     *
+     * @param brandPrices 브랜드의 카테고리별 최저가와 총액
+     * @return BrandLowestPriceResponseDto
+     */
+    static BrandLowestPriceResponseDto toResponse(BrandCategoryPrices brandPrices) {
+        List<CategoryPriceDto> categoryPrices = new ArrayList<>();
+        brandPrices.lowestPriceByCategory().forEach((category, price) ->
+                categoryPrices.add(new CategoryPriceDto(category, PriceFormatter.KorFormat(price)))
+        );
+
+        return new BrandLowestPriceResponseDto(new BrandLowestPriceDto(
+                brandPrices.brand(),
+                categoryPrices,
+                PriceFormatter.KorFormat(brandPrices.totalPrice())
+        ));
     }
 }
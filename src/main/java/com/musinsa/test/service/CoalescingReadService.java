@@ -0,0 +1,103 @@
+package com.musinsa.test.service;
+
+import com.musinsa.test.dto.BrandLowestPriceResponseDto;
+import com.musinsa.test.dto.BrandRankDto;
+import com.musinsa.test.dto.BrandRankingResponseDto;
+import com.musinsa.test.dto.LowestHighestResponseDto;
+import com.musinsa.test.dto.LowestPriceResponseDto;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.util.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Supplier;
+
+/**
+ * 구현 1 ~ 3 조회를 같은 키의 동시 호출끼리 합쳐서 실행 (SingleFlight)
+ *
+ * 핵심 조건:
+ * - 트랜잭션 없이 동작하므로 트랜잭션 밖(컨트롤러)에서 호출해야 함
+ *   - 먼저 들어온 호출만 조회 서비스의 읽기 전용 트랜잭션에서 DB 커넥션을 사용하고, 합류한 호출은 커넥션 없이 결과를 기다림
+ * - 인덱스로 응답할 수 있으면 합치지 않고 바로 조회 서비스 호출
+ * - 키는 구현 1 은 하나, 구현 2 는 조회 종류(순위는 size, 브랜드별), 구현 3 은 카테고리
+ */
+@Service
+@RequiredArgsConstructor
+public class CoalescingReadService implements MeterBinder {
+
+    private final LowestPriceService lowestPriceService;
+    private final BrandPriceService brandPriceService;
+    private final LowestHighestService lowestHighestService;
+    private final ItemIndexManager itemIndexManager;
+
+    private final SingleFlight<String> lowestPriceFlight = new SingleFlight<>("lowest_price");
+    private final SingleFlight<String> brandPriceFlight = new SingleFlight<>("brand_price");
+    private final SingleFlight<String> lowestHighestFlight = new SingleFlight<>("lowest_highest");
+
+    /**
+     * 카테고리별 최저가 조회 (LowestPriceService.getLowestPrice)
+     *
+     * @return LowestPriceResponseDto
+     */
+    public LowestPriceResponseDto getLowestPrice() {
+        return coalesceDbRead(lowestPriceFlight, "lowest_price", lowestPriceService::getLowestPrice);
+    }
+
+    /**
+     * 최소 총액 브랜드 조회 (BrandPriceService.getLowestPriceBrand)
+     *
+     * @return BrandLowestPriceResponseDto
+     */
+    public BrandLowestPriceResponseDto getLowestPriceBrand() {
+        return coalesceDbRead(brandPriceFlight, "lowest_price_brand", brandPriceService::getLowestPriceBrand);
+    }
+
+    /**
+     * 브랜드 총액 순위 조회 (BrandPriceService.getBrandRanking)
+     *
+     * @param size 최대 브랜드 수
+     * @return BrandRankingResponseDto
+     */
+    public BrandRankingResponseDto getBrandRanking(int size) {
+        return coalesceDbRead(brandPriceFlight, "brand_ranking:" + size, () -> brandPriceService.getBrandRanking(size));
+    }
+
+    /**
+     * 브랜드의 총액 순위 조회 (BrandPriceService.getBrandRank)
+     *
+     * @param brand 브랜드
+     * @return BrandRankDto
+     */
+    public BrandRankDto getBrandRank(String brand) {
+        return coalesceDbRead(brandPriceFlight, "brand_rank:" + brand, () -> brandPriceService.getBrandRank(brand));
+    }
+
+    /**
+     * 카테고리별 최저가/최고가 조회 (LowestHighestService.findLowestHighestPrice)
+     *
+     * @param category 카테고리
+     * @return LowestHighestResponseDto
+     */
+    public LowestHighestResponseDto findLowestHighestPrice(String category) {
+        return coalesceDbRead(lowestHighestFlight, category, () -> lowestHighestService.findLowestHighestPrice(category));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        lowestPriceFlight.bindTo(registry);
+        brandPriceFlight.bindTo(registry);
+        lowestHighestFlight.bindTo(registry);
+    }
+
+    /**
+     * 인덱스를 사용할 수 없을 때(기동 중)만 DB 조회를 동시 호출끼리 합침
+     */
+    private <V> V coalesceDbRead(SingleFlight<String> flight, String key, Supplier<V> read) {
+        if (itemIndexManager.isReadable()) {
+            return read.get();
+        }
+        return flight.execute(key, read);
+    }
+}
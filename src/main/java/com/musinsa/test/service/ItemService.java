@@ -1,22 +1,61 @@
 package com.musinsa.test.service;
 
+import com.musinsa.test.config.CatalogProperties;
 import com.musinsa.test.domain.Item;
 import com.musinsa.test.dto.ItemAdminDto;
+import com.musinsa.test.dto.ItemExportRow;
+import com.musinsa.test.dto.ItemImportBatchErrorDto;
+import com.musinsa.test.dto.ItemImportErrorDto;
+import com.musinsa.test.dto.ItemImportResultDto;
 import com.musinsa.test.dto.ItemRequestDto;
+import com.musinsa.test.dto.ItemScrollDto;
+import com.musinsa.test.dto.ItemSliceDto;
 import com.musinsa.test.exception.RecordNotFoundException;
+import com.musinsa.test.outbox.ItemChanged.ItemValues;
+import com.musinsa.test.outbox.ItemOutbox;
 import com.musinsa.test.repository.ItemRepository;
+import com.musinsa.test.util.ItemCursor;
+import com.musinsa.test.util.ItemExportWriter;
+import com.musinsa.test.util.ItemImportReader;
 import com.musinsa.test.util.PriceFormatter;
+import jakarta.persistence.EntityManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Slf4j
 @Service
+@Timed("catalog.service")
 @RequiredArgsConstructor
 public class ItemService {
 
+    // ItemRequestDto 의 @Size 와 같은 값
+    private static final int MAX_BRAND_LENGTH = 100;
+    private static final int MAX_CATEGORY_LENGTH = 50;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ItemRepository itemRepository;
+    private final EntityManager entityManager;
+    private final CatalogProperties catalogProperties;
+    private final ItemOutbox itemOutbox;
+    // 대량 입력의 배치마다 별도 트랜잭션으로 커밋
+    private final TransactionOperations transactionOperations;
 
     /**
      * ID를 이용해 상품을 찾음
@@ -32,6 +71,7 @@ public class ItemService {
 
     /**
      * ItemRequestDto 를 이용해 상품을 생성
+     * 같은 트랜잭션에서 변경 이벤트를 outbox 에 기록
      *
      * @param requestDto requestDto
      * @return Item 리턴
@@ -46,11 +86,16 @@ public class ItemService {
                 .price(requestDto.getPrice())
                 .build();
 
-        return itemRepository.save(newItem);
+        Item savedItem = itemRepository.save(newItem);
+        itemOutbox.recordCreated(savedItem);
+
+        return savedItem;
     }
 
     /**
      * ItemRequestDto 를 이용해 상품을 갱신
+     * 같은 트랜잭션에서 변경 이벤트를 outbox 에 기록
+     * 상품 행을 잠근 뒤 변경 전 값을 읽고, 증가한 행 버전을 이벤트에 담도록 flush 후 기록
      *
      * @param requestDto requestDto
      * @param itemId Item ID
@@ -60,24 +105,95 @@ public class ItemService {
     public Item updateItem(ItemRequestDto requestDto, Long itemId) {
         validateUpdateDto(requestDto);
 
-        Item item = getItemById(itemId);
+        Item item = getItemForUpdate(itemId);
+        ItemValues before = ItemValues.of(item);
+
         item.setBrand(requestDto.getBrand());
         item.setCategory(requestDto.getCategory());
         item.setPrice(requestDto.getPrice());
 
-        return itemRepository.save(item);
+        Item savedItem = itemRepository.save(item);
+        itemRepository.flush();
+        itemOutbox.recordUpdated(before, savedItem);
+
+        return savedItem;
     }
 
     /**
      * 상품 아이디를 이용해 상품을 찾고 삭제
+     * 같은 트랜잭션에서 변경 이벤트를 outbox 에 기록
      *
      * @param itemId Item ID
      */
     @Transactional
     public void deleteItem(Long itemId) {
-        Item item = getItemById(itemId);
+        Item item = getItemForUpdate(itemId);
 
         itemRepository.delete(item);
+        itemOutbox.recordDeleted(item);
+    }
+
+    /**
+     * CSV/NDJSON 본문을 한 줄씩 읽어서 상품을 대량 생성
+     * 올바른 줄만 저장하고 잘못된 줄은 줄 번호와 오류 메시지를 결과에 담음
+     * 생성된 상품마다 생성 이벤트를 outbox 에 기록
+     * catalog.item-import.batch-size 단위로 배치마다 별도 트랜잭션에서 저장(JDBC 배치 insert)하고 커밋
+     * - 트랜잭션 하나에 쌓이는 outbox 이벤트(커밋 직후 인덱스 반영 단위)가 배치 크기로 제한됨
+     * - 저장에 실패한 배치만 롤백하고 다음 배치를 계속 처리, 실패한 배치는 줄 범위와 함께 결과에 담음
+     *
+     * @param reader 요청 본문 reader
+     * @return 처리 결과와 줄별 오류, 실패한 배치 목록
+     * @throws IOException 본문 읽기 실패 (이전 배치는 이미 커밋됨)
+     */
+    public ItemImportResultDto importItems(ItemImportReader reader) throws IOException {
+        CatalogProperties.ItemImport settings = catalogProperties.getItemImport();
+
+        ItemImportResultDto result = new ItemImportResultDto(0, 0, 0, new ArrayList<>(), 0, new ArrayList<>(), false);
+        ImportBatch batch = new ImportBatch(settings.getBatchSize());
+
+        for (ItemImportReader.Row row = reader.next(); row != null; row = reader.next()) {
+            result.setTotal(result.getTotal() + 1);
+
+            String error = row.error() != null ? row.error() : validateImportRow(row.item());
+            if (error != null) {
+                addImportError(result, row.line(), error, settings.getMaxErrors());
+                continue;
+            }
+
+            batch.add(row.line(), Item.builder()
+                    .brand(row.item().getBrand())
+                    .category(row.item().getCategory())
+                    .price(row.item().getPrice())
+                    .build());
+
+            if (batch.items.size() == settings.getBatchSize()) {
+                saveImportBatch(batch, result, settings.getMaxErrors());
+            }
+        }
+
+        saveImportBatch(batch, result, settings.getMaxErrors());
+        return result;
+    }
+
+    /**
+     * 전체 상품을 ID 순서로 writer 에 출력
+     * 프로젝션 스트림을 fetch size 단위로 읽으면서 바로 출력하므로 상품 수와 무관하게 메모리 사용량이 일정
+     *
+     * @param writer 출력 대상
+     * @return 출력한 상품 수
+     * @throws IOException 출력 실패
+     */
+    @Transactional(readOnly = true)
+    public long exportItems(ItemExportWriter writer) throws IOException {
+        long count = 0;
+        try (Stream<ItemExportRow> rows = itemRepository.streamExportRows()) {
+            Iterator<ItemExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
@@ -92,6 +208,68 @@ public class ItemService {
         return itemPage.map(this::convertToDto);
     }
 
+    /**
+     * keyset 페이지네이션으로 상품 목록을 ID 내림차순 조회
+     * WHERE id < :cursor ORDER BY id DESC LIMIT n 형태라 offset 조회와 달리 페이지 깊이와 무관하게 일정한 비용이고 count 쿼리도 없음
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지면 null
+     * @param size 페이지 크기
+     * @return ItemScrollDto
+     */
+    @Transactional(readOnly = true)
+    public ItemScrollDto getListByCursor(String cursor, int size) {
+        validatePageSize(size);
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        Limit limit = Limit.of(size + 1);
+        List<Item> items = cursor == null || cursor.isBlank()
+                ? itemRepository.findAllByOrderByIdDesc(limit)
+                : itemRepository.findByIdLessThanOrderByIdDesc(ItemCursor.decode(cursor), limit);
+
+        boolean hasNext = items.size() > size;
+        List<Item> pageItems = hasNext ? items.subList(0, size) : items;
+        String nextCursor = hasNext ? ItemCursor.encode(pageItems.getLast().getId()) : null;
+
+        return new ItemScrollDto(pageItems.stream().map(this::convertToDto).toList(), hasNext, nextCursor);
+    }
+
+    /**
+     * count 쿼리 없이 페이지 번호로 상품 목록을 조회
+     *
+     * @param pageable Object
+     * @return ItemSliceDto
+     */
+    @Transactional(readOnly = true)
+    public ItemSliceDto getSlice(Pageable pageable) {
+        validatePageSize(pageable.getPageSize());
+
+        Slice<Item> itemSlice = itemRepository.findSliceBy(pageable);
+        return new ItemSliceDto(
+                itemSlice.map(this::convertToDto).getContent(),
+                itemSlice.getNumber(),
+                itemSlice.getSize(),
+                itemSlice.hasNext()
+        );
+    }
+
+    /**
+     * 갱신/삭제할 상품을 행 잠금과 함께 조회
+     * 변경 전 값(outbox 의 before)을 잠금 이후에 읽으므로 같은 상품의 동시 변경은 이전 변경이 커밋된 값을 봄
+     *
+     * @param itemId Item ID
+     * @return Item 리턴
+     */
+    private Item getItemForUpdate(Long itemId) {
+        return itemRepository.findWithLockById(itemId)
+                .orElseThrow(() -> new RecordNotFoundException("해당하는 상품을 찾을 수 없습니다."));
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+    }
+
     /**
      * Item 을 ItemAdminDto 로 전환
      *
@@ -109,6 +287,79 @@ public class ItemService {
                 .build();
     }
 
+    /**
+     * 대량 입력의 한 줄을 단건 생성과 같은 기준(validateUpdateDto)으로 검사
+     * 한 줄의 DB 오류가 배치 전체를 실패시키지 않도록 컬럼 길이(ItemRequestDto 의 @Size)도 함께 확인
+     *
+     * @param requestDto ItemRequestDto
+     * @return 오류 메시지, 올바르면 null
+     */
+    private String validateImportRow(ItemRequestDto requestDto) {
+        try {
+            validateUpdateDto(requestDto);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+
+        if (requestDto.getBrand().length() > MAX_BRAND_LENGTH) {
+            return "브랜드 이름은 최대 " + MAX_BRAND_LENGTH + "자까지 입력 가능합니다.";
+        }
+        if (requestDto.getCategory().length() > MAX_CATEGORY_LENGTH) {
+            return "카테고리 이름은 최대 " + MAX_CATEGORY_LENGTH + "자까지 입력 가능합니다.";
+        }
+        return null;
+    }
+
+    private void addImportError(ItemImportResultDto result, long line, String message, int maxErrors) {
+        result.setFailed(result.getFailed() + 1);
+
+        if (result.getErrors().size() < maxErrors) {
+            result.getErrors().add(new ItemImportErrorDto(line, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+
+    /**
+     * 배치 하나를 별도 트랜잭션에서 저장하고 커밋
+     * 저장/커밋에 실패하면 그 배치만 롤백되고 배치의 모든 줄을 실패로 집계
+     *
+     * @param batch 저장할 배치
+     * @param result 처리 결과
+     * @param maxErrors 결과에 담는 최대 실패 배치 수
+     */
+    private void saveImportBatch(ImportBatch batch, ItemImportResultDto result, int maxErrors) {
+        if (batch.items.isEmpty()) {
+            return;
+        }
+
+        long batchNumber = result.getCommittedBatches() + result.getFailedBatches().size() + 1;
+        int rows = batch.items.size();
+        try {
+            transactionOperations.executeWithoutResult(status -> {
+                itemOutbox.recordCreated(itemRepository.saveAll(batch.items));
+                itemRepository.flush();
+            });
+
+            result.setImported(result.getImported() + rows);
+            result.setCommittedBatches(result.getCommittedBatches() + 1);
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("상품 대량 입력 배치 {} ({} ~ {} 줄) 저장 실패", batchNumber, batch.fromLine, batch.toLine, e);
+
+            result.setFailed(result.getFailed() + rows);
+            if (result.getFailedBatches().size() < maxErrors) {
+                result.getFailedBatches().add(new ItemImportBatchErrorDto(
+                        batchNumber, batch.fromLine, batch.toLine, rows, "저장에 실패해서 배치의 모든 줄이 롤백되었습니다."));
+            } else {
+                result.setErrorsTruncated(true);
+            }
+        } finally {
+            // open-in-view 로 요청 동안 영속성 컨텍스트가 유지되는 경우에도 배치마다 비워서 메모리 사용량을 일정하게 유지
+            entityManager.clear();
+            batch.clear();
+        }
+    }
+
     /**
      * item 저장/갱신전에 간단한 유호성 검사
      *
@@ -131,4 +382,29 @@ public class ItemService {
             throw new IllegalArgumentException("가격은 0원보다 커야 합니다.");
         }
     }
+
+    /**
+     * 대량 입력에서 저장 대기 중인 상품과 원본 줄 범위
+     */
+    private static class ImportBatch {
+        private final List<Item> items;
+        private long fromLine;
+        private long toLine;
+
+        private ImportBatch(int batchSize) {
+            this.items = new ArrayList<>(batchSize);
+        }
+
+        private void add(long line, Item item) {
+            if (items.isEmpty()) {
+                fromLine = line;
+            }
+            toLine = line;
+            items.add(item);
+        }
+
+        private void clear() {
+            items.clear();
+        }
+    }
 }
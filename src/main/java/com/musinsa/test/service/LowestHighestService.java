@@ -1,28 +1,51 @@
 package com.musinsa.test.service;
 
-import com.musinsa.test.domain.Item;
+import com.musinsa.test.dto.BrandPriceProjection;
 import com.musinsa.test.dto.ItemBrandPriceDto;
 import com.musinsa.test.dto.LowestHighestResponseDto;
 import com.musinsa.test.exception.RecordNotFoundException;
+import com.musinsa.test.index.CategoryLowestPriceIndex;
+import com.musinsa.test.index.CategoryRegistry;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.index.ItemSnapshot;
 import com.musinsa.test.repository.ItemRepository;
 import com.musinsa.test.util.PriceFormatter;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
+@Timed("catalog.service")
 public class LowestHighestService {
 
     private final ItemRepository itemRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final CategoryLowestPriceIndex categoryLowestPriceIndex;
+    private final ItemIndexManager itemIndexManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public LowestHighestService(ItemRepository itemRepository,
+                                CategoryRegistry categoryRegistry,
+                                CategoryLowestPriceIndex categoryLowestPriceIndex,
+                                ItemIndexManager itemIndexManager,
+                                PlatformTransactionManager transactionManager) {
+        this.itemRepository = itemRepository;
+        this.categoryRegistry = categoryRegistry;
+        this.categoryLowestPriceIndex = categoryLowestPriceIndex;
+        this.itemIndexManager = itemIndexManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     /**
      * 주어진 카테고리가 존재하는 카테고리인 확인
+     * 인덱스를 사용할 수 있으면 DB 조회 없이 카테고리 목록에서 확인
      *
      * @param category 카테고리
      */
@@ -31,8 +54,12 @@ public class LowestHighestService {
             return false;
         }
 
+        if (itemIndexManager.isReadable()) {
+            return categoryRegistry.contains(category);
+        }
+
         try {
-            List<String> categories = itemRepository.findCategories();
+            List<String> categories = readOnlyTransaction.execute(status -> itemRepository.findCategories());
             return categories != null && categories.contains(category);
         } catch ( Exception e ) {
             return false;
@@ -41,32 +68,89 @@ public class LowestHighestService {
 
     /**
      * 주어진 카테코리로 최저가 최고가 상품을 찾기
+     * 최저가/최고가가 같은 상품이 여러 개면 해당 브랜드를 모두 반환
+     * - 최저가는 최근 수정 순, 최고가는 오래된 수정 순 (기존 단건 조회의 정렬 기준과 동일)
+     * 인덱스를 사용할 수 있으면 트랜잭션과 DB 조회 없이 카테고리별 최저가 인덱스의 양 끝 가격 상품으로 응답
      *
      * @param category 카테고리
      */
     public LowestHighestResponseDto findLowestHighestPrice(String category) {
-        List<ItemBrandPriceDto> lowestPrices = new ArrayList<>();
-        List<ItemBrandPriceDto> highestPrices = new ArrayList<>();
+        if (itemIndexManager.isReadable()) {
+            return toIndexResponse(category, categoryLowestPriceIndex.findLowestHighestPriceItems(category));
+        }
 
-        Optional<Item> lowestPriceItem = itemRepository.findFirstByCategoryOrderByPriceAscUpdatedAtDesc(category);
-        Optional<Item> highestPriceItem = itemRepository.findFirstByCategoryOrderByPriceDescUpdatedAtAsc(category);
+        // 가격 오름차순, 동일 가격은 최근 수정 순으로 최저가/최고가 상품만 조회
+        return toResponse(category, readOnlyTransaction.execute(status -> itemRepository.findLowestHighestPriceItems(category)));
+    }
 
-        if (lowestPriceItem.isEmpty() && highestPriceItem.isEmpty()) {
+    /**
+     * 카테고리별 최저가 인덱스의 최저가/최고가 상품으로 응답 객체 생성
+     *
+     * @param category 카테고리
+     * @param items 가격 오름차순, 같은 가격 안에서는 최근 수정 순으로 정렬된 최저가/최고가 상품
+     * @throws RecordNotFoundException 상품이 없음
+     */
+    static LowestHighestResponseDto toIndexResponse(String category, List<ItemSnapshot> items) {
+        List<BrandPriceProjection> brandPrices = new ArrayList<>(items.size());
+        for (ItemSnapshot item : items) {
+            brandPrices.add(new BrandPrice(item.brand(), item.price()));
+        }
+        return toResponse(category, brandPrices);
+    }
+
+    /**
+     * 가격 오름차순, 같은 가격 안에서는 최근 수정 순으로 정렬된 최저가/최고가 상품으로 응답 객체 생성
+     * 최저가/최고가는 조회 결과의 위치가 아니라 가격으로 찾음
+     *
+     * @param category 카테고리
+     * @param items 최저가/최고가 상품
+     * @throws RecordNotFoundException 상품이 없음
+     */
+    static LowestHighestResponseDto toResponse(String category, List<BrandPriceProjection> items) {
+        if (items.isEmpty()) {
            throw new RecordNotFoundException("상품이 존재하지 않습니다.");
         }
 
+        int lowestPrice = Integer.MAX_VALUE;
+        int highestPrice = Integer.MIN_VALUE;
+        for (BrandPriceProjection item : items) {
+            lowestPrice = Math.min(lowestPrice, item.getPrice());
+            highestPrice = Math.max(highestPrice, item.getPrice());
+        }
+
         // 최저가
-        lowestPriceItem.ifPresent(item -> {
-            ItemBrandPriceDto currentDto = new ItemBrandPriceDto(item.getBrand(), PriceFormatter.KorFormat(item.getPrice()));
-            lowestPrices.add(currentDto);
-        });
+        List<ItemBrandPriceDto> lowestPrices = toBrandPrices(items, lowestPrice);
 
         // 최고가
-        highestPriceItem.ifPresent(item -> {
-            ItemBrandPriceDto currentDto = new ItemBrandPriceDto(item.getBrand(), PriceFormatter.KorFormat(item.getPrice()));
-            highestPrices.add(currentDto);
-        });
+        List<ItemBrandPriceDto> highestPrices = toBrandPrices(items.reversed(), highestPrice);
 
         return new LowestHighestResponseDto(category, lowestPrices, highestPrices);
     }
+
+    /**
+     * 주어진 가격의 상품을 브랜드 중복 없이 ItemBrandPriceDto 로 전환
+     *
+     * @param items 상품 목록
+     * @param price 가격
+     * @return List<ItemBrandPriceDto>
+     */
+    private static List<ItemBrandPriceDto> toBrandPrices(List<BrandPriceProjection> items, int price) {
+        Set<String> brands = new LinkedHashSet<>();
+        for (BrandPriceProjection item : items) {
+            if (item.getPrice() == price) {
+                brands.add(item.getBrand());
+            }
+        }
+
+        String formattedPrice = PriceFormatter.KorFormat(price);
+
+        List<ItemBrandPriceDto> brandPrices = new ArrayList<>(brands.size());
+        for (String brand : brands) {
+            brandPrices.add(new ItemBrandPriceDto(brand, formattedPrice));
+        }
+        return brandPrices;
+    }
+
+    private record BrandPrice(String getBrand, Integer getPrice) implements BrandPriceProjection {
+    }
 }
@@ -1,31 +1,74 @@
 package com.musinsa.test.service;
 
+import com.musinsa.test.config.CatalogProperties;
+import com.musinsa.test.config.LowestPriceQueryMode;
 import com.musinsa.test.domain.Item;
+import com.musinsa.test.dto.CategoryLowestPriceProjection;
 import com.musinsa.test.dto.LowestPriceByCategoryDto;
 import com.musinsa.test.dto.LowestPriceResponseDto;
+import com.musinsa.test.index.CategoryLowestPriceIndex;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.index.ItemSnapshot;
 import com.musinsa.test.repository.ItemRepository;
 import com.musinsa.test.util.PriceFormatter;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
+@Timed("catalog.service")
 public class LowestPriceService {
 
     private final ItemRepository itemRepository;
+    private final CategoryLowestPriceIndex categoryLowestPriceIndex;
+    private final ItemIndexManager itemIndexManager;
+    private final CatalogProperties catalogProperties;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public LowestPriceService(ItemRepository itemRepository,
+                              CategoryLowestPriceIndex categoryLowestPriceIndex,
+                              ItemIndexManager itemIndexManager,
+                              CatalogProperties catalogProperties,
+                              PlatformTransactionManager transactionManager) {
+        this.itemRepository = itemRepository;
+        this.categoryLowestPriceIndex = categoryLowestPriceIndex;
+        this.itemIndexManager = itemIndexManager;
+        this.catalogProperties = catalogProperties;
+        // 인덱스 응답은 트랜잭션 없이 처리하고 DB 조회만 읽기 전용 트랜잭션에서 실행 (호출한 쪽의 트랜잭션이 있으면 참여)
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     /**
      * 카테고리별 최저가 상품 목록과 총 가격을 포함한 응답 객체 반환
+     * 인덱스를 사용할 수 있으면 트랜잭션과 DB 조회 없이 인덱스에서 응답하고, 그렇지 않으면 catalog.lowest-price.query-mode 설정에 따라 DB 에서 조회
      *
      * @return LowestPriceResponseDto
      */
     public LowestPriceResponseDto getLowestPrice() {
+        if (itemIndexManager.isReadable()) {
+            return getLowestPriceFromIndex();
+        }
+
+        return readOnlyTransaction.execute(status -> loadLowestPrice());
+    }
+
+    /**
+     * catalog.lowest-price.query-mode 설정에 따라 DB 에서 조회
+     *
+     * @return LowestPriceResponseDto
+     */
+    private LowestPriceResponseDto loadLowestPrice() {
+        if (catalogProperties.getLowestPrice().getQueryMode() == LowestPriceQueryMode.WINDOW_FUNCTION) {
+            return getLowestPriceByWindowFunction();
+        }
+
         // 람다 사용을 위해 Atomic 타입 사용
         AtomicInteger totalPrice = new AtomicInteger();
 
@@ -48,4 +91,52 @@ public class LowestPriceService {
 
         return new LowestPriceResponseDto(lowestPriceItems, PriceFormatter.KorFormat(totalPrice.get()));
     }
+
+    /**
+     * 윈도우 함수 쿼리 한 번으로 응답 객체 생성
+     *
+     * @return LowestPriceResponseDto
+     */
+    private LowestPriceResponseDto getLowestPriceByWindowFunction() {
+        int totalPrice = 0;
+
+        List<LowestPriceByCategoryDto> lowestPriceItems = new ArrayList<>();
+        for (CategoryLowestPriceProjection item : itemRepository.findLowestPriceItemsByCategory()) {
+            lowestPriceItems.add(
+                    new LowestPriceByCategoryDto(item.getCategory(), item.getBrand(), PriceFormatter.KorFormat(item.getPrice()))
+            );
+            totalPrice += item.getPrice();
+        }
+
+        return new LowestPriceResponseDto(lowestPriceItems, PriceFormatter.KorFormat(totalPrice));
+    }
+
+    /**
+     * 카테고리별 최저가 인덱스로 응답 객체 생성
+     *
+     * @return LowestPriceResponseDto
+     */
+    private LowestPriceResponseDto getLowestPriceFromIndex() {
+        return toResponse(categoryLowestPriceIndex.findLowestPriceItems());
+    }
+
+    /**
+     * 카테고리별 최저가 상품 스냅샷으로 응답 객체 생성
+     *
+     * @param items 카테고리명 오름차순의 카테고리별 최저가 상품
+     * @return LowestPriceResponseDto
+     */
+    static LowestPriceResponseDto toResponse(List<ItemSnapshot> items) {
+        int totalPrice = 0;
+
+        List<LowestPriceByCategoryDto> lowestPriceItems = new ArrayList<>();
+        for (ItemSnapshot item : items) {
+            lowestPriceItems.add(
+                    new LowestPriceByCategoryDto(item.category(), item.brand(), PriceFormatter.KorFormat(item.price()))
+            );
+            totalPrice += item.price();
+        }
+
+        return new LowestPriceResponseDto(lowestPriceItems, PriceFormatter.KorFormat(totalPrice));
+    }
 }
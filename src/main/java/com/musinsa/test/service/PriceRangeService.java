@@ -0,0 +1,106 @@
+package com.musinsa.test.service;
+
+import com.musinsa.test.dto.ItemPriceDto;
+import com.musinsa.test.dto.ItemPriceProjection;
+import com.musinsa.test.dto.PriceRangeResponseDto;
+import com.musinsa.test.index.CategoryPriceRangeIndex;
+import com.musinsa.test.index.CategoryPriceRangeIndex.PriceRange;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.repository.ItemRepository;
+import com.musinsa.test.util.PriceFormatter;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@Timed("catalog.service")
+public class PriceRangeService {
+
+    private static final int MAX_SIZE = 100;
+
+    private final ItemRepository itemRepository;
+    private final CategoryPriceRangeIndex categoryPriceRangeIndex;
+    private final ItemIndexManager itemIndexManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public PriceRangeService(ItemRepository itemRepository,
+                             CategoryPriceRangeIndex categoryPriceRangeIndex,
+                             ItemIndexManager itemIndexManager,
+                             PlatformTransactionManager transactionManager) {
+        this.itemRepository = itemRepository;
+        this.categoryPriceRangeIndex = categoryPriceRangeIndex;
+        this.itemIndexManager = itemIndexManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 카테고리에서 가격 범위 안의 상품을 가격 오름차순(같으면 ID 오름차순)으로 최대 size 개 조회
+     * 가격 범위를 지정하지 않으면 카테고리의 최저가 순 상위 size 개
+     * 인덱스를 사용할 수 있으면 트랜잭션과 DB 조회 없이 인덱스에서 조회, 그렇지 않으면 읽기 전용 트랜잭션에서 목록과 전체 개수를 조회
+     *
+     * @param category 카테고리
+     * @param minPrice 최소 가격 (포함), null 이면 제한 없음
+     * @param maxPrice 최대 가격 (포함), null 이면 제한 없음
+     * @param size 최대 상품 수
+     * @return PriceRangeResponseDto
+     * @throws IllegalArgumentException size 가 1 ~ 100 범위 밖이거나 최소 가격이 최대 가격보다 큼
+     */
+    public PriceRangeResponseDto findByPriceRange(String category, Integer minPrice, Integer maxPrice, int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+
+        int min = minPrice == null ? Integer.MIN_VALUE : minPrice;
+        int max = maxPrice == null ? Integer.MAX_VALUE : maxPrice;
+        if (min > max) {
+            throw new IllegalArgumentException("최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+
+        if (itemIndexManager.isReadable()) {
+            return toResponse(category, categoryPriceRangeIndex.findByPriceRange(category, min, max, size));
+        }
+
+        return readOnlyTransaction.execute(status -> loadByPriceRange(category, min, max, size));
+    }
+
+    /**
+     * DB 에서 가격 범위 안의 상품과 전체 개수 조회
+     *
+     * @param category 카테고리
+     * @param min 최소 가격 (포함)
+     * @param max 최대 가격 (포함)
+     * @param size 최대 상품 수
+     * @return PriceRangeResponseDto
+     */
+    private PriceRangeResponseDto loadByPriceRange(String category, int min, int max, int size) {
+        List<ItemPriceDto> items = new ArrayList<>();
+        for (ItemPriceProjection item : itemRepository.findByPriceRange(category, min, max, Limit.of(size))) {
+            items.add(new ItemPriceDto(item.getId(), item.getBrand(), PriceFormatter.KorFormat(item.getPrice())));
+        }
+
+        // 첫 페이지가 다 차지 않으면 범위 안의 전체 상품을 이미 조회했으므로 count 쿼리 생략
+        long totalCount = items.size() < size ? items.size() : itemRepository.countByCategoryAndPriceBetween(category, min, max);
+        return new PriceRangeResponseDto(category, totalCount, items);
+    }
+
+    /**
+     * 가격 범위 인덱스 조회 결과로 응답 객체 생성
+     *
+     * @param category 카테고리
+     * @param range 가격 범위 안의 상품과 전체 개수
+     * @return PriceRangeResponseDto
+     */
+    static PriceRangeResponseDto toResponse(String category, PriceRange range) {
+        List<ItemPriceDto> items = new ArrayList<>(range.size());
+        for (int i = 0; i < range.size(); i++) {
+            items.add(new ItemPriceDto(range.ids()[i], range.brands()[i], PriceFormatter.KorFormat(range.prices()[i])));
+        }
+        return new PriceRangeResponseDto(category, range.totalCount(), items);
+    }
+}
@@ -0,0 +1,113 @@
+package com.musinsa.test.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.metrics.CacheMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 상품 변경이 있을 때만 바뀌는 조회 응답을 카탈로그 버전마다 한 번만 JSON 으로 직렬화해서 재사용
+ *
+ * 핵심 조건:
+ * - 카탈로그 버전(ItemIndexManager.getVersion)이 바뀌면 다음 요청에서 다시 직렬화
+ * - ETag 는 응답 본문의 해시라서 재기동 후에도 내용이 같으면 같은 값 (strong ETag)
+ * - 인덱스를 사용할 수 없는 경우(쓰기 트랜잭션 내부, 기동 중)에는 스냅샷을 사용하지 않음
+ * - 적중률은 catalog.cache.hit.ratio{cache="response_snapshot"} 로 노출
+ */
+@Service
+@RequiredArgsConstructor
+public class ResponseSnapshotService implements MeterBinder {
+
+    private final ItemIndexManager itemIndexManager;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, ResponseSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final CacheMetrics cacheMetrics = new CacheMetrics("response_snapshot");
+
+    /**
+     * 현재 카탈로그 버전의 응답 스냅샷 조회, 없으면 renderer 결과를 직렬화해서 저장
+     *
+     * @param key 응답 구분 키
+     * @param renderer 응답 객체 생성 함수
+     * @return 스냅샷, 인덱스를 사용할 수 없으면 empty
+     */
+    public Optional<ResponseSnapshot> getSnapshot(String key, Supplier<?> renderer) {
+        if (!itemIndexManager.isReadable()) {
+            return Optional.empty();
+        }
+
+        // 버전을 먼저 읽어서 응답이 버전보다 오래된 내용으로 저장되지 않도록 함
+        long version = itemIndexManager.getVersion();
+
+        ResponseSnapshot snapshot = snapshots.get(key);
+        if (snapshot != null && snapshot.version() == version) {
+            cacheMetrics.hit();
+            return Optional.of(snapshot);
+        }
+        cacheMetrics.miss();
+
+        ResponseSnapshot rendered = render(version, renderer.get());
+        snapshots.merge(key, rendered, (current, candidate) -> candidate.version() >= current.version() ? candidate : current);
+
+        return Optional.of(rendered);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cacheMetrics.bindTo(registry);
+    }
+
+    private ResponseSnapshot render(long version, Object response) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            return new ResponseSnapshot(version, body, etag(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 직렬화된 응답
+     *
+     * @param version 응답을 만든 카탈로그 버전
+     * @param body JSON 본문
+     * @param etag 본문 해시로 만든 strong ETag (큰따옴표 포함)
+     */
+    public record ResponseSnapshot(long version, byte[] body, String etag) {
+
+        /**
+         * 200 응답으로 전환, If-None-Match 가 ETag 와 같으면 Spring 이 본문 없이 304 로 응답
+         *
+         * @return ResponseEntity
+         */
+        public ResponseEntity<byte[]> toResponseEntity() {
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.musinsa.test.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 상품 목록 keyset 페이지네이션 커서
+ * 클라이언트가 내부 값에 의존하지 않도록 마지막으로 조회한 상품 ID 를 Base64(URL-safe) 로 감싸서 전달
+ */
+public class ItemCursor {
+
+    private static final String PREFIX = "id:";
+
+    // 인스턴스 생성 방지
+    private ItemCursor() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static String encode(long lastItemId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastItemId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 마지막으로 조회한 상품 ID 로 변환
+     *
+     * @param cursor encode 로 만든 커서
+     * @return 상품 ID
+     * @throws IllegalArgumentException 올바르지 않은 커서
+     */
+    public static long decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("올바르지 않은 커서입니다.");
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            throw new IllegalArgumentException("올바르지 않은 커서입니다.", e);
+        }
+    }
+}
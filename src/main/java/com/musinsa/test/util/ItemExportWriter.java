@@ -0,0 +1,132 @@
+package com.musinsa.test.util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.musinsa.test.dto.ItemExportRow;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * 상품을 한 줄씩 CSV 또는 NDJSON 으로 출력
+ *
+ * 핵심 조건:
+ * - 출력 버퍼만 사용하고 상품 목록을 모아두지 않으므로 상품 수와 무관하게 메모리 사용량이 일정
+ * - CSV 는 첫 줄이 헤더이고 ItemImportReader 로 다시 입력할 수 있는 형식 (추가 컬럼은 입력 시 무시됨)
+ * - 가격은 천 단위 구분 기호 없는 정수, 시각은 ISO-8601 (UTC)
+ */
+public class ItemExportWriter implements Closeable {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String CSV_HEADER = "id,brand,category,price,created_at,updated_at";
+
+    private final Writer csvWriter;
+    private final JsonGenerator jsonGenerator;
+
+    private ItemExportWriter(Writer csvWriter, JsonGenerator jsonGenerator) {
+        this.csvWriter = csvWriter;
+        this.jsonGenerator = jsonGenerator;
+    }
+
+    /**
+     * 형식에 맞는 writer 생성
+     *
+     * @param mediaType 출력 형식 (text/csv 또는 application/x-ndjson)
+     * @param outputStream 응답 본문
+     * @return 지원하지 않는 형식이면 empty
+     * @throws IOException CSV 헤더 출력 실패
+     */
+    public static Optional<ItemExportWriter> of(MediaType mediaType, OutputStream outputStream) throws IOException {
+        if (ItemImportReader.TEXT_CSV.isCompatibleWith(mediaType)) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            return Optional.of(new ItemExportWriter(writer, null));
+        }
+        if (ItemImportReader.APPLICATION_NDJSON.isCompatibleWith(mediaType)) {
+            JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream, JsonEncoding.UTF8);
+            generator.setRootValueSeparator(null);
+            return Optional.of(new ItemExportWriter(null, generator));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 상품 한 줄 출력
+     *
+     * @param row 상품
+     * @throws IOException 출력 실패
+     */
+    public void write(ItemExportRow row) throws IOException {
+        if (csvWriter != null) {
+            writeCsv(row);
+        } else {
+            writeJson(row);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (csvWriter != null) {
+            csvWriter.close();
+        } else {
+            jsonGenerator.close();
+        }
+    }
+
+    private void writeCsv(ItemExportRow row) throws IOException {
+        csvWriter.write(Long.toString(row.id()));
+        csvWriter.write(',');
+        writeCsvValue(row.brand());
+        csvWriter.write(',');
+        writeCsvValue(row.category());
+        csvWriter.write(',');
+        csvWriter.write(Integer.toString(row.price()));
+        csvWriter.write(',');
+        csvWriter.write(format(row.createdAt()));
+        csvWriter.write(',');
+        csvWriter.write(format(row.updatedAt()));
+        csvWriter.write('\n');
+    }
+
+    // 구분자, 큰따옴표, 줄바꿈이 있는 값만 큰따옴표로 감싸고 내부 큰따옴표는 두 번 씀
+    private void writeCsvValue(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            csvWriter.write(value);
+            return;
+        }
+
+        csvWriter.write('"');
+        csvWriter.write(value.replace("\"", "\"\""));
+        csvWriter.write('"');
+    }
+
+    private void writeJson(ItemExportRow row) throws IOException {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeNumberField("id", row.id());
+        jsonGenerator.writeStringField("brand", row.brand());
+        jsonGenerator.writeStringField("category", row.category());
+        jsonGenerator.writeNumberField("price", row.price());
+        jsonGenerator.writeStringField("createdAt", row.createdAt() == null ? null : format(row.createdAt()));
+        jsonGenerator.writeStringField("updatedAt", row.updatedAt() == null ? null : format(row.updatedAt()));
+        jsonGenerator.writeEndObject();
+        jsonGenerator.writeRaw('\n');
+    }
+
+    private static String format(Date date) {
+        return date == null ? "" : date.toInstant().toString();
+    }
+}
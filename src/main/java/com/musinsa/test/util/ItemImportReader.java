@@ -0,0 +1,223 @@
+package com.musinsa.test.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.musinsa.test.dto.ItemRequestDto;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 상품 대량 입력 요청 본문을 한 줄씩 읽어서 ItemRequestDto 로 변환
+ *
+ * 핵심 조건:
+ * - 본문 전체를 메모리에 올리지 않고 한 줄씩 읽음
+ * - 줄 단위 파싱 오류는 예외 대신 Row 의 error 로 돌려주고 다음 줄을 계속 읽음
+ * - CSV 는 첫 줄이 헤더(brand, category, price 순서 무관)이고 큰따옴표로 감싼 값을 지원
+ * - NDJSON 은 한 줄에 JSON 객체 하나
+ * - 빈 줄은 건너뜀
+ */
+public class ItemImportReader implements Closeable {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final BufferedReader reader;
+    private final Format format;
+
+    private long lineNumber;
+
+    // CSV 헤더 기준 컬럼 위치
+    private int brandColumn = -1;
+    private int categoryColumn = -1;
+    private int priceColumn = -1;
+    private int columnCount;
+
+    private ItemImportReader(Reader reader, Format format) {
+        this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+        this.format = format;
+    }
+
+    /**
+     * Content-Type 에 맞는 reader 생성
+     *
+     * @param contentType 요청 Content-Type
+     * @param reader 요청 본문
+     * @return 지원하지 않는 Content-Type 이면 empty
+     */
+    public static Optional<ItemImportReader> of(MediaType contentType, Reader reader) {
+        if (TEXT_CSV.isCompatibleWith(contentType)) {
+            return Optional.of(new ItemImportReader(reader, Format.CSV));
+        }
+        if (APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return Optional.of(new ItemImportReader(reader, Format.NDJSON));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 다음 상품 한 줄을 읽음
+     *
+     * @return 다음 줄, 본문 끝이면 null
+     * @throws IOException 본문 읽기 실패
+     * @throws IllegalArgumentException CSV 헤더가 없거나 필수 컬럼이 빠진 경우
+     */
+    public Row next() throws IOException {
+        String line = nextLine();
+        if (line == null) {
+            return null;
+        }
+
+        if (format == Format.CSV && columnCount == 0) {
+            readHeader(line);
+
+            line = nextLine();
+            if (line == null) {
+                return null;
+            }
+        }
+
+        return format == Format.CSV ? parseCsv(line) : parseJson(line);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String nextLine() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            lineNumber++;
+        } while (line != null && line.isBlank());
+
+        return line;
+    }
+
+    private void readHeader(String line) {
+        List<String> columns = splitCsv(line);
+        if (columns == null) {
+            throw new IllegalArgumentException("CSV 헤더 형식이 올바르지 않습니다.");
+        }
+
+        for (int column = 0; column < columns.size(); column++) {
+            switch (columns.get(column).trim().toLowerCase()) {
+                case "brand" -> brandColumn = column;
+                case "category" -> categoryColumn = column;
+                case "price" -> priceColumn = column;
+                default -> {
+                }
+            }
+        }
+
+        if (brandColumn < 0 || categoryColumn < 0 || priceColumn < 0) {
+            throw new IllegalArgumentException("CSV 헤더에 brand, category, price 컬럼이 모두 있어야 합니다.");
+        }
+        columnCount = columns.size();
+    }
+
+    private Row parseCsv(String line) {
+        List<String> values = splitCsv(line);
+        if (values == null) {
+            return Row.error(lineNumber, "닫히지 않은 큰따옴표가 있습니다.");
+        }
+        if (values.size() != columnCount) {
+            return Row.error(lineNumber, "컬럼 수가 헤더와 다릅니다.");
+        }
+
+        Integer price;
+        try {
+            String value = values.get(priceColumn).trim();
+            price = value.isEmpty() ? null : Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return Row.error(lineNumber, "가격은 정수여야 합니다.");
+        }
+
+        return Row.item(lineNumber, new ItemRequestDto(values.get(brandColumn).trim(), values.get(categoryColumn).trim(), price));
+    }
+
+    private Row parseJson(String line) {
+        try {
+            ItemRequestDto item = OBJECT_MAPPER.readValue(line, ItemRequestDto.class);
+            return item == null ? Row.error(lineNumber, "JSON 형식이 올바르지 않습니다.") : Row.item(lineNumber, item);
+        } catch (InvalidFormatException e) {
+            return Row.error(lineNumber, e.getPath().isEmpty()
+                    ? "JSON 형식이 올바르지 않습니다."
+                    : e.getPath().get(0).getFieldName() + " 값의 형식이 올바르지 않습니다.");
+        } catch (JsonProcessingException e) {
+            return Row.error(lineNumber, "JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * 쉼표로 구분된 한 줄을 나눔, 큰따옴표 안의 쉼표와 "" (큰따옴표 이스케이프)를 지원
+     *
+     * @return 값 목록, 큰따옴표가 닫히지 않았으면 null
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+
+        if (quoted) {
+            return null;
+        }
+
+        values.add(value.toString());
+        return values;
+    }
+
+    private enum Format {
+        CSV, NDJSON
+    }
+
+    /**
+     * 읽은 한 줄, item 과 error 중 하나만 값이 있음
+     *
+     * @param line 본문 내 줄 번호 (1부터 시작)
+     * @param item 파싱된 상품
+     * @param error 파싱 오류 메시지
+     */
+    public record Row(long line, ItemRequestDto item, String error) {
+
+        static Row item(long line, ItemRequestDto item) {
+            return new Row(line, item, null);
+        }
+
+        static Row error(long line, String error) {
+            return new Row(line, null, error);
+        }
+    }
+}
@@ -1,16 +1,151 @@
 package com.musinsa.test.util;
 
-import java.text.NumberFormat;
-import java.util.Locale;
+import com.musinsa.test.metrics.CacheMetrics;
 
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 가격을 천 단위 구분 기호(,)가 들어간 문자열로 변환
+ * NumberFormat.getNumberInstance(Locale.KOREA).format(price) 와 같은 결과를 NumberFormat 조회/생성 없이 만듦
+ *
+ * 핵심 조건:
+ * - StringBuilder 나 byte[] 에 바로 쓸 수 있어서 응답을 만들 때 중간 문자열이 필요 없음
+ * - 자주 쓰이는 가격(100원 단위, 100만원 미만)은 변환한 문자열을 캐시해서 재사용
+ *   (KorFormat 의 적중률은 catalog.cache.hit.ratio{cache="price_format"} 로 노출)
+ */
 public class PriceFormatter {
 
+    // 변환 결과의 최대 길이 ("-2,147,483,648")
+    public static final int MAX_LENGTH = 14;
+
+    // 캐시 대상: 0 이상 CACHE_LIMIT 미만이면서 CACHE_UNIT 의 배수인 가격
+    private static final int CACHE_UNIT = 100;
+    private static final int CACHE_LIMIT = 1_000_000;
+
+    // 여러 스레드가 같은 값을 동시에 채워도 결과가 같으므로 동기화 없이 지연 생성
+    private static final String[] CACHE = new String[CACHE_LIMIT / CACHE_UNIT];
+
+    // 캐시 대상이 아닌 가격도 미적중으로 집계
+    private static final CacheMetrics CACHE_METRICS = new CacheMetrics("price_format");
+
     // 인스턴스 생성 방지
     private PriceFormatter() {
         throw new UnsupportedOperationException("Utility class");
     }
 
     public static String KorFormat(int price) {
-        return NumberFormat.getNumberInstance(Locale.KOREA).format(price);
+        if (price >= 0 && price < CACHE_LIMIT && price % CACHE_UNIT == 0) {
+            int index = price / CACHE_UNIT;
+            String cached = CACHE[index];
+            if (cached == null) {
+                CACHE_METRICS.miss();
+                cached = format(price);
+                CACHE[index] = cached;
+            } else {
+                CACHE_METRICS.hit();
+            }
+            return cached;
+        }
+
+        CACHE_METRICS.miss();
+        return format(price);
+    }
+
+    /**
+     * KorFormat 문자열 캐시의 적중/미적중 집계
+     *
+     * @return CacheMetrics
+     */
+    public static CacheMetrics cacheMetrics() {
+        return CACHE_METRICS;
+    }
+
+    /**
+     * 변환 결과를 StringBuilder 에 추가
+     *
+     * @param builder 결과를 추가할 StringBuilder
+     * @param price 가격
+     * @return builder
+     */
+    public static StringBuilder appendKorFormat(StringBuilder builder, int price) {
+        long value = price;
+        boolean negative = value < 0;
+        if (negative) {
+            value = -value;
+        }
+
+        int digits = digitCount(value);
+        int start = builder.length();
+        int position = start + digits + (digits - 1) / 3 + (negative ? 1 : 0);
+        builder.setLength(position);
+
+        int written = 0;
+        do {
+            if (written > 0 && written % 3 == 0) {
+                builder.setCharAt(--position, ',');
+            }
+            builder.setCharAt(--position, (char) ('0' + value % 10));
+            value /= 10;
+            written++;
+        } while (value > 0);
+
+        if (negative) {
+            builder.setCharAt(start, '-');
+        }
+
+        return builder;
+    }
+
+    /**
+     * 변환 결과를 ASCII(UTF-8 과 동일) 바이트로 buffer 에 기록
+     *
+     * @param buffer 결과를 기록할 배열, offset 이후로 최대 MAX_LENGTH 바이트를 사용
+     * @param offset 기록 시작 위치
+     * @param price 가격
+     * @return 기록한 바이트 수
+     */
+    public static int writeKorFormat(byte[] buffer, int offset, int price) {
+        // Integer.MIN_VALUE 의 절댓값을 표현하기 위해 long 으로 계산
+        long value = price;
+        boolean negative = value < 0;
+        if (negative) {
+            value = -value;
+        }
+
+        int digits = digitCount(value);
+        int length = digits + (digits - 1) / 3 + (negative ? 1 : 0);
+
+        // 뒤에서부터 세 자리마다 구분 기호를 넣으면서 기록
+        int position = offset + length;
+        int written = 0;
+        do {
+            if (written > 0 && written % 3 == 0) {
+                buffer[--position] = ',';
+            }
+            buffer[--position] = (byte) ('0' + value % 10);
+            value /= 10;
+            written++;
+        } while (value > 0);
+
+        if (negative) {
+            buffer[--position] = '-';
+        }
+
+        return length;
+    }
+
+    private static String format(int price) {
+        byte[] buffer = new byte[MAX_LENGTH];
+        int length = writeKorFormat(buffer, 0, price);
+        return new String(buffer, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private static int digitCount(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,111 @@
+package com.musinsa.test.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 조회를 한 번만 실행하고 결과(또는 예외)를 모든 호출이 함께 받음
+ *
+ * 핵심 조건:
+ * - 먼저 들어온 호출(leader)이 계산하고, 계산 중에 들어온 같은 키의 호출(coalesced)은 그 결과를 기다림
+ * - 계산이 끝나면 키를 지우므로 결과를 보관하지 않음, 다음 호출은 다시 계산
+ *   - 합류한 호출은 합류보다 먼저 시작된 계산의 결과를 받으므로 계산 한 번만큼 오래된 결과일 수 있음
+ * - 쓰기 트랜잭션 안의 호출은 커밋 전 자기 변경을 봐야 하므로 합치지 않고 바로 계산
+ * - 같은 키에는 같은 타입의 결과를 만드는 계산을 넘겨야 함
+ * - 호출 수는 catalog.singleflight.calls{flight, result=leader|coalesced},
+ *   진행 중인 계산 수는 catalog.singleflight.in.flight{flight} 로 노출
+ */
+public class SingleFlight<K> implements MeterBinder {
+
+    private final String name;
+    private final ConcurrentHashMap<K, CompletableFuture<Object>> calls = new ConcurrentHashMap<>();
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 같은 키의 계산이 진행 중이면 그 결과를 기다리고, 없으면 직접 계산
+     *
+     * @param key 계산 구분 키
+     * @param loader 계산
+     * @return 계산 결과, 계산이 예외로 끝나면 같은 예외를 던짐
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V execute(K key, Supplier<V> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return loader.get();
+        }
+
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = calls.putIfAbsent(key, call);
+        if (inFlight != null) {
+            coalesced.increment();
+            return (V) await(inFlight);
+        }
+
+        leaders.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    public long leaderCount() {
+        return leaders.sum();
+    }
+
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("catalog.singleflight.calls", leaders, LongAdder::sum)
+                .tag("flight", name)
+                .tag("result", "leader")
+                .register(registry);
+        FunctionCounter.builder("catalog.singleflight.calls", coalesced, LongAdder::sum)
+                .tag("flight", name)
+                .tag("result", "coalesced")
+                .register(registry);
+        Gauge.builder("catalog.singleflight.in.flight", calls, ConcurrentHashMap::size)
+                .tag("flight", name)
+                .register(registry);
+    }
+
+    /**
+     * 다른 호출의 계산 결과를 기다림, 계산에서 발생한 예외는 감싸지 않고 그대로 던짐
+     */
+    private static Object await(CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+-- 대량 입력 시 Hibernate insert 배치를 사용하기 위해 IDENTITY 대신 시퀀스로 ID 생성
+-- Hibernate pooled 옵티마이저는 시퀀스 값 v 를 받으면 (v - 49) ~ v 를 사용하므로 기존 ID(시드 데이터)와 겹치지 않도록 1001 부터 시작
+CREATE SEQUENCE items_seq START WITH 1001 INCREMENT BY 50;
+
+-- JPA 를 거치지 않는 입력(H2 콘솔 등)도 같은 시퀀스를 사용
+ALTER TABLE items ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE items ALTER COLUMN id SET DEFAULT NEXT VALUE FOR items_seq;
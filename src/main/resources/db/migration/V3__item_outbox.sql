@@ -0,0 +1,16 @@
+-- 상품 변경 이벤트 outbox, 상품 변경과 같은 트랜잭션에서 기록하고 전달이 끝나면 삭제
+-- 상품 대량 입력 시에도 insert 배치를 사용하도록 IDENTITY 대신 시퀀스로 ID 생성 (ItemOutboxEvent.ID_ALLOCATION_SIZE)
+CREATE SEQUENCE item_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE item_outbox (
+                    id BIGINT PRIMARY KEY,
+                    item_id BIGINT NOT NULL,
+                    change_type VARCHAR(10) NOT NULL,
+                    old_brand VARCHAR(255),
+                    old_category VARCHAR(50),
+                    old_price INT,
+                    new_brand VARCHAR(255),
+                    new_category VARCHAR(50),
+                    new_price INT,
+                    occurred_at TIMESTAMP NOT NULL
+);
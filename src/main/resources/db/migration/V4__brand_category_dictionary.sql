@@ -0,0 +1,38 @@
+-- 브랜드/카테고리 이름을 사전 테이블로 분리하고 items 에는 정수 키만 보관
+-- 사전 행은 추가만 되고 수정/삭제되지 않음 (ItemDictionary 가 커밋된 매핑을 캐시)
+CREATE TABLE brands (
+                    id INT AUTO_INCREMENT PRIMARY KEY,
+                    name VARCHAR(255) NOT NULL,
+                    CONSTRAINT uk_brands_name UNIQUE (name)
+);
+
+CREATE TABLE categories (
+                    id INT AUTO_INCREMENT PRIMARY KEY,
+                    name VARCHAR(50) NOT NULL,
+                    CONSTRAINT uk_categories_name UNIQUE (name)
+);
+
+INSERT INTO brands (name) SELECT DISTINCT brand FROM items ORDER BY brand;
+INSERT INTO categories (name) SELECT DISTINCT category FROM items ORDER BY category;
+
+ALTER TABLE items ADD COLUMN brand_id INT;
+ALTER TABLE items ADD COLUMN category_id INT;
+
+UPDATE items i
+SET brand_id = (SELECT b.id FROM brands b WHERE b.name = i.brand),
+    category_id = (SELECT c.id FROM categories c WHERE c.name = i.category);
+
+ALTER TABLE items ALTER COLUMN brand_id SET NOT NULL;
+ALTER TABLE items ALTER COLUMN category_id SET NOT NULL;
+
+-- 문자열 컬럼 인덱스를 정수 키 인덱스로 교체
+DROP INDEX idx_category_price;
+DROP INDEX idx_brand;
+ALTER TABLE items DROP COLUMN brand;
+ALTER TABLE items DROP COLUMN category;
+
+CREATE INDEX idx_category_price ON items (category_id, price);
+CREATE INDEX idx_brand ON items (brand_id);
+
+ALTER TABLE items ADD CONSTRAINT fk_items_brand FOREIGN KEY (brand_id) REFERENCES brands (id);
+ALTER TABLE items ADD CONSTRAINT fk_items_category FOREIGN KEY (category_id) REFERENCES categories (id);
@@ -0,0 +1,8 @@
+-- 카테고리 최저가/최고가 조회(구현 1, 3)용 커버링 인덱스
+-- 정렬 기준(가격 오름차순, 최근 수정 우선, ID 큰 순)을 인덱스 순서로 두어서 인덱스 순서 그대로 읽고 정렬하지 않음
+-- 구현 1 은 엔티티 전체를 조회하므로 brand_id, created_at 까지 넣어서 테이블 행을 읽지 않음
+-- (H2 는 인덱스만으로 조회할 수 없으면 외래 키의 category_id 인덱스를 고르고 정렬함)
+-- (category_id, price) 로 시작하므로 기존 idx_category_price 를 대체 (MIN/MAX, 가격 범위 조회도 이 인덱스 사용)
+CREATE INDEX idx_category_price_covering ON items (category_id, price, updated_at DESC, id DESC, brand_id, created_at);
+
+DROP INDEX idx_category_price;
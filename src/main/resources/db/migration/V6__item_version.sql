@@ -0,0 +1,8 @@
+-- 상품 행 버전 (Item.version, JPA @Version), 갱신마다 1 씩 증가
+-- 커밋 이후의 인덱스 반영 순서는 커밋 순서와 다를 수 있으므로 같은 상품의 변경은 버전으로 순서를 정함
+ALTER TABLE items ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+-- 구현 1 은 엔티티 전체를 조회하므로 커버링 인덱스에 version 도 넣어서 테이블 행을 읽지 않음
+CREATE INDEX idx_category_price_covering_v6 ON items (category_id, price, updated_at DESC, id DESC, brand_id, created_at, version);
+DROP INDEX idx_category_price_covering;
+ALTER INDEX idx_category_price_covering_v6 RENAME TO idx_category_price_covering;
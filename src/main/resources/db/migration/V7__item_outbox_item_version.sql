@@ -0,0 +1,3 @@
+-- 이벤트의 상품 행 버전 (items.version), 소비자가 같은 상품의 변경 순서를 outbox ID 대신 이 값으로 판단
+-- 생성/갱신은 변경 후 버전, 삭제는 삭제된 행의 버전
+ALTER TABLE item_outbox ADD COLUMN item_version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,26 @@
+-- 복제본 스키마, 원본의 items/brands/categories 테이블(db/migration)과 같은 컬럼과 조회 인덱스를 유지
+-- 복제본에는 쓰기가 없으므로 ID 시퀀스와 외래 키는 두지 않음
+CREATE TABLE IF NOT EXISTS brands (
+                    id INT PRIMARY KEY,
+                    name VARCHAR(255) NOT NULL,
+                    CONSTRAINT uk_brands_name UNIQUE (name)
+);
+
+CREATE TABLE IF NOT EXISTS categories (
+                    id INT PRIMARY KEY,
+                    name VARCHAR(50) NOT NULL,
+                    CONSTRAINT uk_categories_name UNIQUE (name)
+);
+
+CREATE TABLE IF NOT EXISTS items (
+                    id BIGINT PRIMARY KEY,
+                    brand_id INT NOT NULL,
+                    category_id INT NOT NULL,
+                    price INT NOT NULL,
+                    created_at TIMESTAMP,
+                    updated_at TIMESTAMP,
+                    version BIGINT DEFAULT 0 NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_category_price_covering ON items (category_id, price, updated_at DESC, id DESC, brand_id, created_at, version);
+CREATE INDEX IF NOT EXISTS idx_brand ON items (brand_id);
@@ -0,0 +1,95 @@
+package com.musinsa.test.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.test.controller.api.ReactiveImplement1Controller;
+import com.musinsa.test.controller.api.ReactiveImplement2Controller;
+import com.musinsa.test.controller.api.ReactiveImplement3Controller;
+import com.musinsa.test.repository.ReactiveItemRepository;
+import com.musinsa.test.service.ReactiveBrandPriceService;
+import com.musinsa.test.service.ReactiveCategoryPriceService;
+import com.musinsa.test.service.ReactiveLowestPriceService;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.config.EnableWebFlux;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.regex.Pattern;
+
+/**
+ * 구현 1 ~ 3 리액티브 조회 설정, ReactiveReadServer 가 만드는 리액티브 컨텍스트에만 등록
+ * - 서블릿 컨텍스트의 컴포넌트 스캔에서는 웹 애플리케이션 종류 조건으로 이 설정과 리액티브 컨트롤러/서비스를 제외
+ * - 인덱스, 응답 스냅샷, ObjectMapper 등은 ReactiveReadServer 가 넘긴 서블릿 컨텍스트의 빈을 그대로 사용
+ * - R2DBC 커넥션은 spring.datasource.url 과 같은 H2 DB 로 만듦
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableWebFlux
+@Import({
+        ReactiveLowestPriceService.class,
+        ReactiveBrandPriceService.class,
+        ReactiveCategoryPriceService.class,
+        ReactiveImplement1Controller.class,
+        ReactiveImplement2Controller.class,
+        ReactiveImplement3Controller.class
+})
+@RequiredArgsConstructor
+public class ReactiveReadConfig implements WebFluxConfigurer {
+
+    private static final String H2_URL_PREFIX = "jdbc:h2:";
+
+    // 지연 실행 세션에서는 H2 R2DBC 드라이버가 구현 3 의 UNION ALL 쿼리를 실패하므로 R2DBC 커넥션에서는 끔
+    private static final Pattern LAZY_QUERY_EXECUTION = Pattern.compile(";LAZY_QUERY_EXECUTION=[^;]*", Pattern.CASE_INSENSITIVE);
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 서블릿 스택과 같은 ObjectMapper 로 직렬화해서 응답 본문을 같게 유지
+     */
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+        configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+    }
+
+    @Bean
+    public ReactiveItemRepository reactiveItemRepository(DataSourceProperties dataSourceProperties, CatalogProperties catalogProperties) {
+        String url = dataSourceProperties.determineUrl();
+        if (url == null || !url.startsWith(H2_URL_PREFIX)) {
+            throw new IllegalStateException("리액티브 조회는 H2 DB 만 지원합니다: " + url);
+        }
+
+        H2ConnectionFactory connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .url(LAZY_QUERY_EXECUTION.matcher(url.substring(H2_URL_PREFIX.length())).replaceAll(""))
+                .username(dataSourceProperties.determineUsername())
+                .password(dataSourceProperties.determinePassword())
+                .build());
+
+        int poolSize = catalogProperties.getReactive().getPoolSize();
+        Scheduler scheduler = Schedulers.newBoundedElastic(poolSize, Integer.MAX_VALUE, "reactive-read");
+
+        // 커넥션을 기다리던 구독은 기본으로 커넥션을 반환한 스레드에서 이어서 실행되는데, H2 R2DBC 드라이버는 쿼리를 동기로 실행하므로
+        // 반환한 스레드 하나가 대기 중인 모든 쿼리를 연달아 실행하고 그 스레드에 예약된 다른 구독은 대기열이 빌 때까지 밀림 (p99 이상이 부하 시간만큼 늘어남)
+        // 대기하던 구독에 커넥션을 넘기는 작업을 전용 스레드에 새 작업으로 예약해서 스레드마다 차례대로 실행
+        ConnectionPool connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("reactive-read")
+                .initialSize(poolSize)
+                .maxSize(poolSize)
+                .customizer(pool -> pool.acquisitionScheduler(scheduler))
+                .build());
+
+        return new ReactiveItemRepository(connectionPool, scheduler);
+    }
+}
@@ -0,0 +1,107 @@
+package com.musinsa.test.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.test.index.BrandLowestPriceIndex;
+import com.musinsa.test.index.CategoryLowestPriceIndex;
+import com.musinsa.test.index.CategoryPriceRangeIndex;
+import com.musinsa.test.index.CategoryRegistry;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.service.ResponseSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.reactive.context.AnnotationConfigReactiveWebApplicationContext;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+
+import java.util.List;
+
+/**
+ * 구현 1 ~ 3 리액티브 조회 서버 (reactive 프로필, reactive 소스셋이 클래스패스에 있을 때만 등록)
+ *
+ * 핵심 조건:
+ * - 서블릿 애플리케이션(구현 4, 화면, Swagger UI, H2 콘솔)은 그대로 두고 catalog.reactive.port 에 Netty 서버를 따로 띄움
+ * - WebFlux 설정(ReactiveReadConfig)은 별도 컨텍스트에만 등록하고, 서블릿 컨텍스트의 인덱스, 응답 스냅샷, 설정 빈을
+ *   같은 인스턴스로 넘겨서 리액티브 컨트롤러가 서블릿 스택과 같은 조회 경로를 사용
+ *   (Spring MVC 설정이 부모 컨텍스트에 있으면 WebFlux 설정이 실패하므로 부모 컨텍스트로 연결하지 않음)
+ * - 기본 단계(phase)라서 서블릿 서버보다 늦게 시작하고 먼저 종료
+ */
+@Slf4j
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveReadServer implements SmartLifecycle {
+
+    // 리액티브 컨텍스트와 공유하는 서블릿 컨텍스트의 빈, 후처리나 종료 콜백 없이 싱글톤으로만 등록
+    private static final List<Class<?>> SHARED_BEANS = List.of(
+            CatalogProperties.class,
+            DataSourceProperties.class,
+            ObjectMapper.class,
+            ItemIndexManager.class,
+            CategoryRegistry.class,
+            CategoryLowestPriceIndex.class,
+            BrandLowestPriceIndex.class,
+            CategoryPriceRangeIndex.class,
+            ResponseSnapshotService.class
+    );
+
+    private final ApplicationContext applicationContext;
+    private final CatalogProperties catalogProperties;
+
+    private AnnotationConfigReactiveWebApplicationContext reactiveContext;
+    private volatile WebServer webServer;
+
+    @Override
+    public void start() {
+        reactiveContext = new AnnotationConfigReactiveWebApplicationContext();
+        reactiveContext.setId(applicationContext.getId() + "-reactive");
+        for (Class<?> type : SHARED_BEANS) {
+            reactiveContext.getBeanFactory().registerSingleton(type.getName(), applicationContext.getBean(type));
+        }
+        reactiveContext.register(ReactiveReadConfig.class);
+        reactiveContext.refresh();
+
+        HttpHandler httpHandler = WebHttpHandlerBuilder.applicationContext(reactiveContext).build();
+        WebServer server = new NettyReactiveWebServerFactory(catalogProperties.getReactive().getPort()).getWebServer(httpHandler);
+        server.start();
+        webServer = server;
+
+        log.info("리액티브 조회 서버 시작: 포트 {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        try {
+            if (webServer != null) {
+                webServer.stop();
+            }
+        } finally {
+            webServer = null;
+            if (reactiveContext != null) {
+                reactiveContext.close();
+                reactiveContext = null;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return webServer != null;
+    }
+
+    /**
+     * 리액티브 조회 서버가 받는 포트 (catalog.reactive.port=0 이면 실제로 할당된 포트)
+     *
+     * @return 포트, 시작 전이면 -1
+     */
+    public int getPort() {
+        WebServer server = webServer;
+        return server == null ? -1 : server.getPort();
+    }
+}
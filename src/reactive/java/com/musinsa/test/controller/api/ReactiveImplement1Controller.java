@@ -0,0 +1,49 @@
+package com.musinsa.test.controller.api;
+
+import com.musinsa.test.dto.ErrorResponseDto;
+import com.musinsa.test.service.ReactiveLowestPriceService;
+import com.musinsa.test.service.ResponseSnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * 구현 1 의 WebFlux 컨트롤러 (reactive 프로필), 경로와 응답은 Implement1Controller 와 같음
+ *
+ * 핵심 조건:
+ * - 인덱스로 응답할 수 있으면 서블릿 컨트롤러와 같은 응답 스냅샷(ETag, 304)을 사용
+ * - 인덱스를 사용할 수 없으면 R2DBC 로 조회하고 요청 스레드(이벤트 루프)를 기다리게 하지 않음
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/implement1")
+@Tag(name = "카테고리", description = "")
+@RequiredArgsConstructor
+public class ReactiveImplement1Controller {
+
+    private final ReactiveLowestPriceService reactiveLowestPriceService;
+    private final ResponseSnapshotService responseSnapshotService;
+
+    @Operation(summary = "카테고리 별 최저가격 브랜드와 상품 가격, 총액을 조회", description = "")
+    @GetMapping("/category_lowest_price")
+    public Mono<ResponseEntity<?>> categoryLowestPrice() {
+        // 인덱스로 응답할 수 있으면 카탈로그 버전별로 직렬화해 둔 응답을 ETag 와 함께 반환 (스냅샷 키는 Implement1Controller 와 공유)
+        return Mono.defer(() -> responseSnapshotService.getSnapshot("category_lowest_price", reactiveLowestPriceService::getLowestPriceFromIndex)
+                        .<Mono<ResponseEntity<?>>>map(snapshot -> Mono.just(snapshot.toResponseEntity()))
+                        .orElseGet(() -> reactiveLowestPriceService.getLowestPrice().map(ResponseEntity::ok)))
+                .onErrorResume(e -> {
+                    ErrorResponseDto errorResponse = new ErrorResponseDto(
+                            "Error",
+                            "데이터 조회에 실패했습니다. 잠시 후 다시 시도해주세요."
+                    );
+                    return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST.value()).body(errorResponse));
+                });
+    }
+}
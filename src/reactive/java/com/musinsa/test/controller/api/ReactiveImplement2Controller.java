@@ -0,0 +1,88 @@
+package com.musinsa.test.controller.api;
+
+import com.musinsa.test.dto.ErrorResponseDto;
+import com.musinsa.test.exception.RecordNotFoundException;
+import com.musinsa.test.service.ReactiveBrandPriceService;
+import com.musinsa.test.service.ResponseSnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * 구현 2 의 WebFlux 컨트롤러 (reactive 프로필), 경로와 응답은 Implement2Controller 와 같음
+ *
+ * 핵심 조건:
+ * - 인덱스로 응답할 수 있으면 서블릿 컨트롤러와 같은 응답 스냅샷(ETag, 304)을 사용
+ * - 인덱스를 사용할 수 없으면 R2DBC 로 조회하고 요청 스레드(이벤트 루프)를 기다리게 하지 않음
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/implement2")
+@Tag(name = "카테고리", description = "")
+@RequiredArgsConstructor
+public class ReactiveImplement2Controller {
+
+    private final ReactiveBrandPriceService reactiveBrandPriceService;
+    private final ResponseSnapshotService responseSnapshotService;
+
+    @Operation(summary = "단일 브랜드로 모든 카테고리 상품을 구매할 때 최저가격에 판매하는 브랜드와 카테고리의 상품가격, 총액을 조회", description = "")
+    @GetMapping("/lowest_price_brand")
+    public Mono<ResponseEntity<?>> lowestPriceBrand() {
+        // 인덱스로 응답할 수 있으면 카탈로그 버전별로 직렬화해 둔 응답을 ETag 와 함께 반환 (스냅샷 키는 Implement2Controller 와 공유)
+        return Mono.defer(() -> responseSnapshotService.getSnapshot("lowest_price_brand", reactiveBrandPriceService::getLowestPriceBrandFromIndex)
+                        .<Mono<ResponseEntity<?>>>map(snapshot -> Mono.just(snapshot.toResponseEntity()))
+                        .orElseGet(() -> reactiveBrandPriceService.getLowestPriceBrand().map(ResponseEntity::ok)))
+                .onErrorResume(e -> {
+                    ErrorResponseDto errorResponse = new ErrorResponseDto(
+                            "Error",
+                            "데이터 조회에 실패했습니다. 잠시 후 다시 시도해주세요."
+                    );
+                    return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST.value()).body(errorResponse));
+                });
+    }
+
+    @Operation(summary = "모든 카테고리 상품을 보유한 브랜드를 총액이 낮은 순으로 상위 size 개 조회", description = "")
+    @GetMapping("/brand_ranking")
+    public Mono<ResponseEntity<?>> brandRanking(@RequestParam(defaultValue = "10") int size) {
+        return Mono.defer(() -> responseSnapshotService.getSnapshot("brand_ranking:" + size, () -> reactiveBrandPriceService.getBrandRankingFromIndex(size))
+                        .<Mono<ResponseEntity<?>>>map(snapshot -> Mono.just(snapshot.toResponseEntity()))
+                        .orElseGet(() -> reactiveBrandPriceService.getBrandRanking(size).map(ResponseEntity::ok)))
+                .onErrorResume(e -> {
+                    ErrorResponseDto errorResponse = new ErrorResponseDto(
+                            "Error",
+                            e.getMessage()
+                    );
+                    return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST.value()).body(errorResponse));
+                });
+    }
+
+    @Operation(summary = "브랜드의 최저 총액 순위를 조회", description = "")
+    @GetMapping("/brand_ranking/{brand}")
+    public Mono<ResponseEntity<?>> brandRank(@PathVariable String brand) {
+        return reactiveBrandPriceService.getBrandRank(brand)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(RecordNotFoundException.class, e -> {
+                    ErrorResponseDto errorResponse = new ErrorResponseDto(
+                            "Not Found",
+                            e.getMessage()
+                    );
+                    return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND.value()).body(errorResponse));
+                })
+                .onErrorResume(e -> {
+                    ErrorResponseDto errorResponse = new ErrorResponseDto(
+                            "Error",
+                            "데이터 조회에 실패했습니다. 잠시 후 다시 시도해주세요."
+                    );
+                    return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST.value()).body(errorResponse));
+                });
+    }
+}
@@ -0,0 +1,70 @@
+package com.musinsa.test.controller.api;
+
+import com.musinsa.test.dto.ErrorResponseDto;
+import com.musinsa.test.exception.RecordNotFoundException;
+import com.musinsa.test.service.ReactiveCategoryPriceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * 구현 3 의 WebFlux 컨트롤러 (reactive 프로필), 경로와 응답은 Implement3Controller 와 같음
+ *
+ * 핵심 조건:
+ * - 가격 범위 조회는 서블릿 스택과 같이 인덱스를 사용하고, DB 조회는 R2DBC 로 실행해서 요청 스레드(이벤트 루프)를 기다리게 하지 않음
+ * - 존재하지 않는 카테고리와 상품이 없는 경우는 404, 잘못된 조회 조건은 400
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/implement3")
+@Tag(name = "카테고리", description = "")
+@RequiredArgsConstructor
+public class ReactiveImplement3Controller {
+
+    private final ReactiveCategoryPriceService reactiveCategoryPriceService;
+
+    @Operation(summary = "카테고리 이름으로 최저, 최고 가격 브랜드와 상품 가격을 조회", description = "")
+    @GetMapping("/lowest_highest")
+    public Mono<ResponseEntity<?>> lowestHighest(@RequestParam String category) {
+        return handleErrors(reactiveCategoryPriceService.findLowestHighestPrice(category));
+    }
+
+    @Operation(summary = "카테고리에서 가격 범위 안의 상품을 가격이 낮은 순으로 조회",
+            description = "minPrice, maxPrice 는 포함 범위이며 지정하지 않으면 제한 없음. 둘 다 없으면 최저가 순 상위 size 개")
+    @GetMapping("/price_range")
+    public Mono<ResponseEntity<?>> priceRange(
+            @RequestParam String category,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return handleErrors(reactiveCategoryPriceService.findByPriceRange(category, minPrice, maxPrice, size));
+    }
+
+    private Mono<ResponseEntity<?>> handleErrors(Mono<?> response) {
+        return response
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(RecordNotFoundException.class, e -> {
+                    ErrorResponseDto errorResponse = new ErrorResponseDto(
+                            "Not Found",
+                            e.getMessage()
+                    );
+                    return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND.value()).body(errorResponse));
+                })
+                .onErrorResume(e -> {
+                    ErrorResponseDto errorResponse = new ErrorResponseDto(
+                            "Error",
+                            e.getMessage()
+                    );
+                    return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST.value()).body(errorResponse));
+                });
+    }
+}
@@ -0,0 +1,260 @@
+package com.musinsa.test.repository;
+
+import com.musinsa.test.dto.BrandPriceProjection;
+import com.musinsa.test.dto.BrandTotalPriceProjection;
+import com.musinsa.test.dto.CategoryPriceProjection;
+import com.musinsa.test.dto.ItemPriceProjection;
+import com.musinsa.test.index.ItemSnapshot;
+import io.r2dbc.pool.ConnectionPool;
+import jakarta.annotation.PreDestroy;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC 로 조회하는 구현 1 ~ 3 읽기 전용 저장소 (reactive 프로필에서만 사용)
+ *
+ * 핵심 조건:
+ * - ItemRepository 와 같은 DB, 같은 인덱스를 사용하고 정렬 기준도 ItemRepository 의 같은 이름 쿼리와 같음
+ * - H2 R2DBC 드라이버는 구독한 스레드에서 쿼리를 동기로 실행하므로 이벤트 루프를 막지 않도록
+ *   커넥션 풀 크기만큼의 전용 스레드(scheduler)에서 구독
+ * - 카테고리는 이름 대신 사전 ID 로 조회해서 카테고리마다의 쿼리가 idx_category_price_covering 만 읽음
+ */
+public class ReactiveItemRepository {
+
+    // 상품이 있는 모든 카테고리 (카테고리명 오름차순)
+    private static final String SELECT_CATEGORIES = """
+            SELECT c.id, c.name
+            FROM categories c
+            WHERE EXISTS (SELECT 1 FROM items i WHERE i.category_id = c.id)
+            ORDER BY c.name ASC
+            """;
+
+    // 상품이 있는 카테고리의 사전 ID
+    private static final String SELECT_CATEGORY_ID = """
+            SELECT c.id
+            FROM categories c
+            WHERE c.name = :category AND EXISTS (SELECT 1 FROM items i WHERE i.category_id = c.id)
+            """;
+
+    // 카테고리의 최저가 상품 하나, 정렬 기준은 findFirstByCategoryOrderByPriceAscUpdatedAtDesc 와 같음
+    private static final String SELECT_LOWEST_PRICE_ITEM = """
+            SELECT i.id, (SELECT b.name FROM brands b WHERE b.id = i.brand_id) AS brand, i.price, i.updated_at, i.version
+            FROM items i
+            WHERE i.category_id = :categoryId
+            ORDER BY i.category_id ASC, i.price ASC, i.updated_at DESC, i.id DESC
+            LIMIT 1
+            """;
+
+    // findLowestHighestPriceItems 와 같은 최저가 상품 뒤에 최고가 상품
+    private static final String SELECT_LOWEST_HIGHEST_PRICE_ITEMS = """
+            (SELECT (SELECT b.name FROM brands b WHERE b.id = i.brand_id) AS brand, i.price, i.updated_at, i.id
+             FROM items i
+             WHERE i.category_id = :categoryId
+               AND i.price = (SELECT MIN(l.price) FROM items l WHERE l.category_id = :categoryId))
+            UNION ALL
+            (SELECT (SELECT b.name FROM brands b WHERE b.id = i.brand_id) AS brand, i.price, i.updated_at, i.id
+             FROM items i
+             WHERE i.category_id = :categoryId
+               AND i.price = (SELECT MAX(h.price) FROM items h WHERE h.category_id = :categoryId)
+               AND i.price > (SELECT MIN(l.price) FROM items l WHERE l.category_id = :categoryId))
+            ORDER BY price ASC, updated_at DESC, id DESC
+            """;
+
+    private static final String SELECT_PRICE_RANGE = """
+            SELECT i.id, (SELECT b.name FROM brands b WHERE b.id = i.brand_id) AS brand, i.price
+            FROM items i
+            WHERE i.category_id = :categoryId AND i.price BETWEEN :minPrice AND :maxPrice
+            ORDER BY i.price ASC, i.id ASC
+            LIMIT :size
+            """;
+
+    private static final String COUNT_PRICE_RANGE =
+            "SELECT COUNT(*) FROM items i WHERE i.category_id = :categoryId AND i.price BETWEEN :minPrice AND :maxPrice";
+
+    // findCompleteBrandTotalPrices 와 같은 집계, 행 수를 제한하지 않고 구독자가 필요한 만큼만 받음
+    private static final String SELECT_COMPLETE_BRAND_TOTAL_PRICES = """
+            SELECT (SELECT b.name FROM brands b WHERE b.id = m.brand_id) AS brand, SUM(m.min_price) AS total_price
+            FROM (
+                SELECT i.brand_id, i.category_id, MIN(i.price) AS min_price
+                FROM items i
+                GROUP BY i.brand_id, i.category_id
+            ) m
+            GROUP BY m.brand_id
+            HAVING COUNT(DISTINCT m.category_id) = (SELECT COUNT(DISTINCT c.category_id) FROM items c)
+            ORDER BY total_price ASC, brand ASC
+            """;
+
+    private static final String SELECT_LOWEST_PRICES_BY_BRAND = """
+            SELECT (SELECT c.name FROM categories c WHERE c.id = i.category_id) AS category, MIN(i.price) AS price
+            FROM items i
+            WHERE i.brand_id = (SELECT b.id FROM brands b WHERE b.name = :brand)
+            GROUP BY i.category_id
+            ORDER BY category ASC
+            """;
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+    private final Scheduler scheduler;
+
+    public ReactiveItemRepository(ConnectionPool connectionPool, Scheduler scheduler) {
+        this.connectionPool = connectionPool;
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        this.scheduler = scheduler;
+    }
+
+    @PreDestroy
+    public void close() {
+        connectionPool.dispose();
+        scheduler.dispose();
+    }
+
+    /**
+     * 상품이 있는 모든 카테고리 조회 (카테고리명 오름차순)
+     *
+     * @return 카테고리 사전 ID 와 이름
+     */
+    public Flux<CategoryKey> findCategories() {
+        return databaseClient.sql(SELECT_CATEGORIES)
+                .map((row, metadata) -> new CategoryKey(row.get("id", Integer.class), row.get("name", String.class)))
+                .all()
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * 상품이 있는 카테고리의 사전 ID 조회
+     *
+     * @param category 카테고리
+     * @return 카테고리 사전 ID, 상품이 없는 카테고리면 empty
+     */
+    public Mono<Integer> findCategoryId(String category) {
+        return databaseClient.sql(SELECT_CATEGORY_ID)
+                .bind("category", category)
+                .map((row, metadata) -> row.get("id", Integer.class))
+                .first()
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * 카테고리에서 가격이 가장 낮은 상품 하나 조회, 같은 가격이면 최근 수정 순(같으면 ID 가 큰 상품)
+     *
+     * @param category 카테고리
+     * @return 최저가 상품, 상품이 없으면 empty
+     */
+    public Mono<ItemSnapshot> findLowestPriceItem(CategoryKey category) {
+        return databaseClient.sql(SELECT_LOWEST_PRICE_ITEM)
+                .bind("categoryId", category.id())
+                .map((row, metadata) -> {
+                    LocalDateTime updatedAt = row.get("updated_at", LocalDateTime.class);
+                    return new ItemSnapshot(
+                            row.get("id", Long.class),
+                            row.get("brand", String.class),
+                            category.name(),
+                            row.get("price", Integer.class),
+                            updatedAt == null ? null : Timestamp.valueOf(updatedAt),
+                            row.get("version", Long.class)
+                    );
+                })
+                .first()
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * 카테고리의 최저가 상품과 최고가 상품을 동일 가격 상품까지 모두 조회
+     * 가격 오름차순, 같은 가격 안에서는 최근 수정 우선(같으면 ID 큰 순)
+     *
+     * @param categoryId 카테고리 사전 ID
+     * @return 브랜드와 가격
+     */
+    public Flux<BrandPriceProjection> findLowestHighestPriceItems(int categoryId) {
+        return databaseClient.sql(SELECT_LOWEST_HIGHEST_PRICE_ITEMS)
+                .bind("categoryId", categoryId)
+                .map((row, metadata) -> (BrandPriceProjection) new BrandPrice(row.get("brand", String.class), row.get("price", Integer.class)))
+                .all()
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * 카테고리에서 가격 범위 안의 상품을 가격, ID 오름차순으로 최대 size 개 조회
+     *
+     * @param categoryId 카테고리 사전 ID
+     * @param minPrice 최소 가격 (포함)
+     * @param maxPrice 최대 가격 (포함)
+     * @param size 최대 상품 수
+     * @return 상품 ID, 브랜드, 가격
+     */
+    public Flux<ItemPriceProjection> findByPriceRange(int categoryId, int minPrice, int maxPrice, int size) {
+        return databaseClient.sql(SELECT_PRICE_RANGE)
+                .bind("categoryId", categoryId)
+                .bind("minPrice", minPrice)
+                .bind("maxPrice", maxPrice)
+                .bind("size", size)
+                .map((row, metadata) -> (ItemPriceProjection) new ItemPrice(
+                        row.get("id", Long.class), row.get("brand", String.class), row.get("price", Integer.class)))
+                .all()
+                .subscribeOn(scheduler);
+    }
+
+    public Mono<Long> countByPriceRange(int categoryId, int minPrice, int maxPrice) {
+        return databaseClient.sql(COUNT_PRICE_RANGE)
+                .bind("categoryId", categoryId)
+                .bind("minPrice", minPrice)
+                .bind("maxPrice", maxPrice)
+                .map((row, metadata) -> row.get(0, Long.class))
+                .one()
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * 모든 카테고리를 보유한 브랜드의 카테고리별 최저가 합계를 총액 오름차순(같으면 브랜드명 오름차순)으로 조회
+     *
+     * @return 브랜드와 총액
+     */
+    public Flux<BrandTotalPriceProjection> findCompleteBrandTotalPrices() {
+        return databaseClient.sql(SELECT_COMPLETE_BRAND_TOTAL_PRICES)
+                .map((row, metadata) -> (BrandTotalPriceProjection) new BrandTotalPrice(
+                        row.get("brand", String.class), row.get("total_price", Long.class)))
+                .all()
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * 브랜드의 카테고리별 최저가 조회 (카테고리명 오름차순)
+     *
+     * @param brand 브랜드
+     * @return 카테고리와 최저가
+     */
+    public Flux<CategoryPriceProjection> findLowestPricesByBrand(String brand) {
+        return databaseClient.sql(SELECT_LOWEST_PRICES_BY_BRAND)
+                .bind("brand", brand)
+                .map((row, metadata) -> (CategoryPriceProjection) new CategoryPrice(
+                        row.get("category", String.class), row.get("price", Integer.class)))
+                .all()
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * 카테고리 사전 ID 와 이름
+     *
+     * @param id 사전 ID
+     * @param name 카테고리명
+     */
+    public record CategoryKey(int id, String name) {
+    }
+
+    private record BrandPrice(String getBrand, Integer getPrice) implements BrandPriceProjection {
+    }
+
+    private record ItemPrice(Long getId, String getBrand, Integer getPrice) implements ItemPriceProjection {
+    }
+
+    private record BrandTotalPrice(String getBrand, Long getTotalPrice) implements BrandTotalPriceProjection {
+    }
+
+    private record CategoryPrice(String getCategory, Integer getPrice) implements CategoryPriceProjection {
+    }
+}
@@ -0,0 +1,142 @@
+package com.musinsa.test.service;
+
+import com.musinsa.test.dto.BrandLowestPriceDto;
+import com.musinsa.test.dto.BrandLowestPriceResponseDto;
+import com.musinsa.test.dto.BrandRankDto;
+import com.musinsa.test.dto.BrandRankingResponseDto;
+import com.musinsa.test.dto.CategoryPriceDto;
+import com.musinsa.test.exception.RecordNotFoundException;
+import com.musinsa.test.index.BrandLowestPriceIndex;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.repository.ReactiveItemRepository;
+import com.musinsa.test.util.PriceFormatter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 구현 2 리액티브 조회 (reactive 프로필)
+ *
+ * 핵심 조건:
+ * - 인덱스를 사용할 수 있으면 BrandPriceService 와 같이 DB 조회 없이 인덱스에서 응답
+ * - 인덱스를 사용할 수 없으면(기동 중) 모든 카테고리를 보유한 브랜드를 총액 오름차순(같으면 브랜드명 오름차순)으로 받아서 필요한 만큼만 사용
+ * - 응답 형식과 오류는 BrandPriceService 와 같음
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveBrandPriceService {
+
+    private static final int MAX_RANKING_SIZE = 100;
+
+    private final ReactiveItemRepository reactiveItemRepository;
+    private final BrandLowestPriceIndex brandLowestPriceIndex;
+    private final ItemIndexManager itemIndexManager;
+
+    /**
+     * 모든 카테고리를 보유한 브랜드 중 총액이 가장 낮은 브랜드의 카테고리별 최저가와 총액
+     *
+     * @return 최소 총액 브랜드 정보 또는 조건 미충족 시 빈 응답
+     */
+    public Mono<BrandLowestPriceResponseDto> getLowestPriceBrand() {
+        return Mono.defer(() -> itemIndexManager.isReadable() ? Mono.just(getLowestPriceBrandFromIndex()) : loadLowestPriceBrand());
+    }
+
+    /**
+     * 인덱스로 최소 총액 브랜드 응답 생성, 인덱스를 사용할 수 있을 때만 호출
+     *
+     * @return 최소 총액 브랜드 정보 또는 조건 미충족 시 빈 응답
+     */
+    public BrandLowestPriceResponseDto getLowestPriceBrandFromIndex() {
+        return brandLowestPriceIndex.findLowestPriceBrand()
+                .map(BrandPriceService::toResponse)
+                .orElseGet(BrandLowestPriceResponseDto::new);
+    }
+
+    private Mono<BrandLowestPriceResponseDto> loadLowestPriceBrand() {
+        return reactiveItemRepository.findCompleteBrandTotalPrices()
+                .next()
+                .flatMap(lowestBrand -> reactiveItemRepository.findLowestPricesByBrand(lowestBrand.getBrand())
+                        .map(categoryPrice -> new CategoryPriceDto(categoryPrice.getCategory(), PriceFormatter.KorFormat(categoryPrice.getPrice())))
+                        .collectList()
+                        .map(categoryPrices -> new BrandLowestPriceResponseDto(new BrandLowestPriceDto(
+                                lowestBrand.getBrand(),
+                                categoryPrices,
+                                PriceFormatter.KorFormat(lowestBrand.getTotalPrice().intValue())
+                        ))))
+                .defaultIfEmpty(new BrandLowestPriceResponseDto());
+    }
+
+    /**
+     * 모든 카테고리를 보유한 브랜드를 총액 오름차순으로 상위 size 개 조회
+     *
+     * @param size 최대 브랜드 수
+     * @return BrandRankingResponseDto, size 가 1 ~ 100 범위 밖이면 IllegalArgumentException
+     */
+    public Mono<BrandRankingResponseDto> getBrandRanking(int size) {
+        return Mono.defer(() -> itemIndexManager.isReadable() ? Mono.just(getBrandRankingFromIndex(size)) : loadBrandRanking(size));
+    }
+
+    /**
+     * 인덱스로 상위 size 개 브랜드 순위 응답 생성, 인덱스를 사용할 수 있을 때만 호출
+     *
+     * @param size 최대 브랜드 수
+     * @return BrandRankingResponseDto
+     * @throws IllegalArgumentException size 가 1 ~ 100 범위 밖
+     */
+    public BrandRankingResponseDto getBrandRankingFromIndex(int size) {
+        validateRankingSize(size);
+
+        List<BrandRankDto> ranking = brandLowestPriceIndex.findTopBrands(size).stream()
+                .map(BrandPriceService::toRankDto)
+                .toList();
+        return new BrandRankingResponseDto(ranking);
+    }
+
+    private Mono<BrandRankingResponseDto> loadBrandRanking(int size) {
+        validateRankingSize(size);
+
+        return reactiveItemRepository.findCompleteBrandTotalPrices()
+                .take(size)
+                .index((index, brandTotalPrice) -> new BrandRankDto(
+                        index.intValue() + 1,
+                        brandTotalPrice.getBrand(),
+                        PriceFormatter.KorFormat(brandTotalPrice.getTotalPrice().intValue())
+                ))
+                .collectList()
+                .map(BrandRankingResponseDto::new);
+    }
+
+    /**
+     * 브랜드의 최저 총액 순위 조회
+     *
+     * @param brand 브랜드
+     * @return BrandRankDto, 모든 카테고리를 보유하지 않은 브랜드면 RecordNotFoundException
+     */
+    public Mono<BrandRankDto> getBrandRank(String brand) {
+        return Mono.defer(() -> {
+            if (itemIndexManager.isReadable()) {
+                return Mono.justOrEmpty(brandLowestPriceIndex.findBrandRank(brand).map(BrandPriceService::toRankDto));
+            }
+
+            return reactiveItemRepository.findCompleteBrandTotalPrices()
+                    .index()
+                    .filter(ranked -> ranked.getT2().getBrand().equals(brand))
+                    .next()
+                    .map(ranked -> new BrandRankDto(
+                            ranked.getT1().intValue() + 1,
+                            brand,
+                            PriceFormatter.KorFormat(ranked.getT2().getTotalPrice().intValue())
+                    ));
+        }).switchIfEmpty(Mono.error(() -> new RecordNotFoundException("순위에 없는 브랜드 입니다.")));
+    }
+
+    private static void validateRankingSize(int size) {
+        if (size < 1 || size > MAX_RANKING_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_RANKING_SIZE + " 이하여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.musinsa.test.service;
+
+import com.musinsa.test.dto.ItemPriceDto;
+import com.musinsa.test.dto.LowestHighestResponseDto;
+import com.musinsa.test.dto.PriceRangeResponseDto;
+import com.musinsa.test.exception.RecordNotFoundException;
+import com.musinsa.test.index.CategoryLowestPriceIndex;
+import com.musinsa.test.index.CategoryPriceRangeIndex;
+import com.musinsa.test.index.CategoryRegistry;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.repository.ReactiveItemRepository;
+import com.musinsa.test.util.PriceFormatter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * 구현 3 리액티브 조회 (reactive 프로필)
+ *
+ * 핵심 조건:
+ * - 인덱스를 사용할 수 있으면 서블릿 스택과 같이 카테고리 존재 확인은 CategoryRegistry, 최저가/최고가 조회는 CategoryLowestPriceIndex,
+ *   가격 범위 조회는 CategoryPriceRangeIndex 로 응답
+ * - 인덱스를 사용할 수 없으면(기동 중) 카테고리 이름을 사전 ID 로 바꾸는 조회가 카테고리 존재 확인을 겸함 (상품이 없는 카테고리는 존재하지 않는 카테고리)
+ * - 응답 형식과 오류는 LowestHighestService, PriceRangeService 와 같음
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveCategoryPriceService {
+
+    private static final int MAX_SIZE = 100;
+
+    private final ReactiveItemRepository reactiveItemRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final CategoryLowestPriceIndex categoryLowestPriceIndex;
+    private final CategoryPriceRangeIndex categoryPriceRangeIndex;
+    private final ItemIndexManager itemIndexManager;
+
+    /**
+     * 카테고리의 최저가 브랜드와 최고가 브랜드, 같은 가격이면 해당 브랜드를 모두 반환
+     *
+     * @param category 카테고리
+     * @return LowestHighestResponseDto, 존재하지 않는 카테고리면 RecordNotFoundException
+     */
+    public Mono<LowestHighestResponseDto> findLowestHighestPrice(String category) {
+        return Mono.defer(() -> {
+            if (itemIndexManager.isReadable()) {
+                if (!isValidCategory(category)) {
+                    return Mono.error(new RecordNotFoundException("존재하지 않는 카테고리 입니다."));
+                }
+                return Mono.just(LowestHighestService.toIndexResponse(category, categoryLowestPriceIndex.findLowestHighestPriceItems(category)));
+            }
+
+            return findCategoryId(category)
+                    .flatMap(categoryId -> reactiveItemRepository.findLowestHighestPriceItems(categoryId).collectList())
+                    .map(items -> LowestHighestService.toResponse(category, items));
+        });
+    }
+
+    /**
+     * 카테고리에서 가격 범위 안의 상품을 가격 오름차순(같으면 ID 오름차순)으로 최대 size 개 조회
+     *
+     * @param category 카테고리
+     * @param minPrice 최소 가격 (포함), null 이면 제한 없음
+     * @param maxPrice 최대 가격 (포함), null 이면 제한 없음
+     * @param size 최대 상품 수
+     * @return PriceRangeResponseDto, 존재하지 않는 카테고리면 RecordNotFoundException,
+     *         size 가 1 ~ 100 범위 밖이거나 최소 가격이 최대 가격보다 크면 IllegalArgumentException
+     */
+    public Mono<PriceRangeResponseDto> findByPriceRange(String category, Integer minPrice, Integer maxPrice, int size) {
+        int min = minPrice == null ? Integer.MIN_VALUE : minPrice;
+        int max = maxPrice == null ? Integer.MAX_VALUE : maxPrice;
+
+        return Mono.defer(() -> {
+            if (itemIndexManager.isReadable()) {
+                if (!isValidCategory(category)) {
+                    return Mono.error(new RecordNotFoundException("존재하지 않는 카테고리 입니다."));
+                }
+                validatePriceRange(min, max, size);
+                return Mono.just(PriceRangeService.toResponse(category, categoryPriceRangeIndex.findByPriceRange(category, min, max, size)));
+            }
+
+            return findCategoryId(category).flatMap(categoryId -> {
+                validatePriceRange(min, max, size);
+                return loadByPriceRange(category, categoryId, min, max, size);
+            });
+        });
+    }
+
+    private Mono<PriceRangeResponseDto> loadByPriceRange(String category, int categoryId, int min, int max, int size) {
+        return reactiveItemRepository.findByPriceRange(categoryId, min, max, size)
+                .map(item -> new ItemPriceDto(item.getId(), item.getBrand(), PriceFormatter.KorFormat(item.getPrice())))
+                .collectList()
+                .flatMap(items -> {
+                    // 첫 페이지가 다 차지 않으면 범위 안의 전체 상품을 이미 조회했으므로 count 쿼리 생략
+                    Mono<Long> totalCount = items.size() < size
+                            ? Mono.just((long) items.size())
+                            : reactiveItemRepository.countByPriceRange(categoryId, min, max);
+                    return totalCount.map(count -> new PriceRangeResponseDto(category, count, items));
+                });
+    }
+
+    private Mono<Integer> findCategoryId(String category) {
+        // 인덱스를 사용할 수 있으면 존재하지 않는 카테고리는 DB 조회 없이 응답
+        if (!isValidCategory(category)) {
+            return Mono.error(new RecordNotFoundException("존재하지 않는 카테고리 입니다."));
+        }
+
+        return reactiveItemRepository.findCategoryId(category)
+                .switchIfEmpty(Mono.error(() -> new RecordNotFoundException("존재하지 않는 카테고리 입니다.")));
+    }
+
+    /**
+     * LowestHighestService.isValidCategory 와 같은 확인, 인덱스를 사용할 수 없으면 사전 ID 조회로 확인하므로 이름만 확인
+     *
+     * @param category 카테고리
+     * @return 존재하는 카테고리이면 true
+     */
+    private boolean isValidCategory(String category) {
+        if (category == null || category.trim().isEmpty()) {
+            return false;
+        }
+
+        return !itemIndexManager.isReadable() || categoryRegistry.contains(category);
+    }
+
+    private static void validatePriceRange(int min, int max, int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+        if (min > max) {
+            throw new IllegalArgumentException("최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+    }
+}
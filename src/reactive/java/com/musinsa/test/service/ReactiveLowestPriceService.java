@@ -0,0 +1,66 @@
+package com.musinsa.test.service;
+
+import com.musinsa.test.config.CatalogProperties;
+import com.musinsa.test.dto.LowestPriceResponseDto;
+import com.musinsa.test.index.CategoryLowestPriceIndex;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.repository.ReactiveItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 구현 1 리액티브 조회 (reactive 프로필)
+ *
+ * 핵심 조건:
+ * - 인덱스를 사용할 수 있으면 LowestPriceService 와 같이 DB 조회 없이 인덱스에서 응답
+ * - 인덱스를 사용할 수 없으면(기동 중) 카테고리 목록을 조회한 뒤 카테고리별 최저가 상품을 최대 catalog.reactive.max-concurrency 개씩 동시에 조회
+ * - 결과는 완료 순서와 무관하게 카테고리명 오름차순, 응답 형식은 LowestPriceService 와 같음
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveLowestPriceService {
+
+    private final ReactiveItemRepository reactiveItemRepository;
+    private final CategoryLowestPriceIndex categoryLowestPriceIndex;
+    private final ItemIndexManager itemIndexManager;
+    private final CatalogProperties catalogProperties;
+
+    /**
+     * 카테고리별 최저가 상품 목록과 총 가격을 포함한 응답 객체 반환
+     *
+     * @return LowestPriceResponseDto
+     */
+    public Mono<LowestPriceResponseDto> getLowestPrice() {
+        return Mono.defer(() -> itemIndexManager.isReadable() ? Mono.just(getLowestPriceFromIndex()) : loadLowestPrice());
+    }
+
+    /**
+     * 카테고리별 최저가 인덱스로 응답 객체 생성, 인덱스를 사용할 수 있을 때만 호출
+     *
+     * @return LowestPriceResponseDto
+     */
+    public LowestPriceResponseDto getLowestPriceFromIndex() {
+        return LowestPriceService.toResponse(categoryLowestPriceIndex.findLowestPriceItems());
+    }
+
+    /**
+     * R2DBC 로 카테고리별 최저가 상품 조회
+     *
+     * @return LowestPriceResponseDto
+     */
+    private Mono<LowestPriceResponseDto> loadLowestPrice() {
+        // 카테고리 목록을 모두 받아서 목록 조회 커넥션을 먼저 반환한 뒤 카테고리별 조회를 시작
+        // (목록을 받는 중에 카테고리별 조회를 시작하면 요청마다 커넥션 하나를 잡고 다른 커넥션을 기다려서 풀 크기 이상의 동시 요청에서 교착)
+        // flatMapSequential 은 조회를 동시에 실행하면서도 카테고리 목록 순서대로 결과를 내보냄
+        return reactiveItemRepository.findCategories()
+                .collectList()
+                .flatMapMany(Flux::fromIterable)
+                .flatMapSequential(reactiveItemRepository::findLowestPriceItem, catalogProperties.getReactive().getMaxConcurrency())
+                .collectList()
+                .map(LowestPriceService::toResponse);
+    }
+}
@@ -0,0 +1,90 @@
+package com.musinsa.test.generator;
+
+import com.musinsa.test.config.CatalogProperties;
+import com.musinsa.test.repository.ItemDictionary;
+import com.musinsa.test.repository.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CatalogGeneratorTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemDictionary itemDictionary;
+
+    private CatalogProperties catalogProperties;
+    private CatalogGenerator catalogGenerator;
+
+    @BeforeEach
+    void setUp() {
+        catalogProperties = new CatalogProperties();
+        catalogProperties.getGenerator().setBrands(5);
+        catalogProperties.getGenerator().setCategories(10);
+        catalogProperties.getGenerator().setItemsPerPair(3);
+        catalogProperties.getGenerator().setBatchSize(7);
+
+        catalogGenerator = new CatalogGenerator(jdbcTemplate, itemDictionary, catalogProperties);
+    }
+
+    @Test
+    @DisplayName("브랜드 x 카테고리 x 조합당 상품 수만큼 상품 생성 테스트")
+    void generateTest() {
+        long generated = catalogGenerator.generate();
+
+        assertThat(generated).isEqualTo(150);
+        assertThat(itemRepository.count()).isEqualTo(150);
+        assertThat(itemRepository.findCategories()).hasSize(10).contains("상의", "카테고리-10");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT brand_id) FROM items", Integer.class)).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT MIN(price) FROM items", Integer.class)).isGreaterThanOrEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("같은 seed 로 생성하면 같은 가격이 생성되는지 테스트")
+    void sameSeedSameCatalogTest() {
+        catalogGenerator.generate();
+        List<Integer> first = jdbcTemplate.queryForList("SELECT price FROM items ORDER BY id", Integer.class);
+
+        catalogGenerator.generate();
+        List<Integer> second = jdbcTemplate.queryForList("SELECT price FROM items ORDER BY id", Integer.class);
+
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("기존 상품 유지 설정 시 삭제하지 않고 추가 테스트")
+    void keepExistingTest() {
+        catalogGenerator.generate();
+
+        catalogProperties.getGenerator().setClearExisting(false);
+        catalogGenerator.generate();
+
+        assertThat(itemRepository.count()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("잘못된 설정이면 예외 발생 테스트")
+    void invalidPropertiesTest() {
+        catalogProperties.getGenerator().setItemsPerPair(0);
+
+        assertThrows(IllegalArgumentException.class, () -> catalogGenerator.generate());
+    }
+}
@@ -0,0 +1,117 @@
+package com.musinsa.test.index;
+
+import com.musinsa.test.index.BrandLowestPriceIndex.BrandCategoryPrices;
+import com.musinsa.test.index.BrandLowestPriceIndex.RankedBrand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class BrandLowestPriceIndexTest {
+
+    private BrandLowestPriceIndex brandLowestPriceIndex;
+
+    private ItemSnapshot shirtA;
+    private ItemSnapshot pantsA;
+    private ItemSnapshot shirtB;
+    private ItemSnapshot pantsB;
+
+    @BeforeEach
+    void setUp() {
+        shirtA = new ItemSnapshot(1L, "A", "상의", 10000, 1000L);
+        pantsA = new ItemSnapshot(2L, "A", "하의", 20000, 1000L);
+        shirtB = new ItemSnapshot(3L, "B", "상의", 15000, 1000L);
+        pantsB = new ItemSnapshot(4L, "B", "하의", 18000, 1000L);
+
+        brandLowestPriceIndex = new BrandLowestPriceIndex();
+        brandLowestPriceIndex.rebuild(List.of(shirtA, pantsA, shirtB, pantsB));
+    }
+
+    @Test
+    @DisplayName("모든 카테고리를 가진 브랜드 중 최저 총액 브랜드 조회 테스트")
+    void findLowestPriceBrandTest() {
+        BrandCategoryPrices result = brandLowestPriceIndex.findLowestPriceBrand().orElseThrow();
+
+        assertThat(result.brand()).isEqualTo("A");
+        assertThat(result.totalPrice()).isEqualTo(30000);
+        assertThat(result.lowestPriceByCategory()).containsExactly(
+                entry("상의", 10000),
+                entry("하의", 20000)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 카테고리의 더 저렴한 상품 추가 및 삭제 시 총액 갱신 테스트")
+    void cheaperItemAddedAndRemovedTest() {
+        ItemSnapshot cheapPantsB = new ItemSnapshot(5L, "B", "하의", 5000, 1000L);
+
+        brandLowestPriceIndex.apply(null, cheapPantsB);
+        assertThat(brandLowestPriceIndex.findLowestPriceBrand())
+                .map(BrandCategoryPrices::brand)
+                .contains("B");
+
+        brandLowestPriceIndex.apply(cheapPantsB, null);
+        assertThat(brandLowestPriceIndex.findLowestPriceBrand())
+                .map(BrandCategoryPrices::brand)
+                .contains("A");
+    }
+
+    @Test
+    @DisplayName("새로운 카테고리가 생기면 해당 카테고리를 가진 브랜드만 대상 테스트")
+    void newCategoryExcludesIncompleteBrandsTest() {
+        ItemSnapshot shoesB = new ItemSnapshot(5L, "B", "신발", 30000, 1000L);
+        brandLowestPriceIndex.apply(null, shoesB);
+
+        BrandCategoryPrices result = brandLowestPriceIndex.findLowestPriceBrand().orElseThrow();
+        assertThat(result.brand()).isEqualTo("B");
+        assertThat(result.totalPrice()).isEqualTo(63000);
+
+        // 신발 카테고리가 사라지면 다시 A 가 최저 총액
+        brandLowestPriceIndex.apply(shoesB, null);
+        assertThat(brandLowestPriceIndex.findLowestPriceBrand())
+                .map(BrandCategoryPrices::brand)
+                .contains("A");
+    }
+
+    @Test
+    @DisplayName("모든 카테고리를 가진 브랜드가 없을 때 빈 결과 테스트")
+    void noCompleteBrandTest() {
+        brandLowestPriceIndex.apply(pantsA, null);
+        brandLowestPriceIndex.apply(shirtB, null);
+
+        Optional<BrandCategoryPrices> result = brandLowestPriceIndex.findLowestPriceBrand();
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상위 K 개 브랜드와 브랜드 순위 조회 테스트")
+    void findTopBrandsAndRankTest() {
+        // C 는 모든 카테고리를 보유하고 총액이 A 와 같아서 브랜드명 순서로 A 다음
+        brandLowestPriceIndex.apply(null, new ItemSnapshot(5L, "C", "상의", 12000, 1000L));
+        brandLowestPriceIndex.apply(null, new ItemSnapshot(6L, "C", "하의", 18000, 1000L));
+        // D 는 카테고리 하나만 보유해서 순위 대상이 아님
+        brandLowestPriceIndex.apply(null, new ItemSnapshot(7L, "D", "상의", 1000, 1000L));
+
+        assertThat(brandLowestPriceIndex.findTopBrands(10)).containsExactly(
+                new RankedBrand(1, "A", 30000),
+                new RankedBrand(2, "C", 30000),
+                new RankedBrand(3, "B", 33000)
+        );
+        assertThat(brandLowestPriceIndex.findTopBrands(2)).extracting(RankedBrand::brand).containsExactly("A", "C");
+
+        assertThat(brandLowestPriceIndex.findBrandRank("B")).contains(new RankedBrand(3, "B", 33000));
+        assertThat(brandLowestPriceIndex.findBrandRank("D")).isEmpty();
+        assertThat(brandLowestPriceIndex.findBrandRank("X")).isEmpty();
+
+        // B 의 하의가 저렴해지면 순위가 바로 반영됨
+        brandLowestPriceIndex.apply(null, new ItemSnapshot(8L, "B", "하의", 1000, 1000L));
+        assertThat(brandLowestPriceIndex.findBrandRank("B")).contains(new RankedBrand(1, "B", 16000));
+        assertThat(brandLowestPriceIndex.findBrandRank("A")).map(RankedBrand::rank).contains(2);
+    }
+}
@@ -0,0 +1,87 @@
+package com.musinsa.test.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryLowestPriceIndexTest {
+
+    private CategoryLowestPriceIndex categoryLowestPriceIndex;
+
+    private ItemSnapshot shirtA;
+    private ItemSnapshot shirtB;
+    private ItemSnapshot pantsA;
+
+    @BeforeEach
+    void setUp() {
+        shirtA = new ItemSnapshot(1L, "A", "상의", 10000, 1000L);
+        shirtB = new ItemSnapshot(2L, "B", "상의", 15000, 1000L);
+        pantsA = new ItemSnapshot(3L, "A", "하의", 20000, 1000L);
+
+        categoryLowestPriceIndex = new CategoryLowestPriceIndex();
+        categoryLowestPriceIndex.rebuild(List.of(shirtA, shirtB, pantsA));
+    }
+
+    @Test
+    @DisplayName("카테고리명 순서로 카테고리별 최저가 상품 조회 테스트")
+    void findLowestPriceItemsTest() {
+        List<ItemSnapshot> result = categoryLowestPriceIndex.findLowestPriceItems();
+
+        assertThat(result).containsExactly(shirtA, pantsA);
+    }
+
+    @Test
+    @DisplayName("동일한 가격이면 최근에 수정된 상품 우선 테스트")
+    void samePriceRecentlyUpdatedFirstTest() {
+        ItemSnapshot shirtC = new ItemSnapshot(4L, "C", "상의", 10000, 2000L);
+        categoryLowestPriceIndex.apply(null, shirtC);
+
+        assertThat(categoryLowestPriceIndex.findLowestPriceItems().get(0)).isEqualTo(shirtC);
+    }
+
+    @Test
+    @DisplayName("최저가 상품 삭제 시 다음 최저가 상품으로 대체 테스트")
+    void removeLowestPriceItemTest() {
+        categoryLowestPriceIndex.apply(shirtA, null);
+
+        assertThat(categoryLowestPriceIndex.findLowestPriceItems()).containsExactly(shirtB, pantsA);
+    }
+
+    @Test
+    @DisplayName("최저가 상품 가격 인상 시 다음 최저가 상품으로 대체 테스트")
+    void repriceLowestPriceItemUpwardTest() {
+        ItemSnapshot repricedShirtA = new ItemSnapshot(1L, "A", "상의", 30000, 2000L);
+        categoryLowestPriceIndex.apply(shirtA, repricedShirtA);
+
+        assertThat(categoryLowestPriceIndex.findLowestPriceItems()).containsExactly(shirtB, pantsA);
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 및 마지막 상품 삭제 시 카테고리 제외 테스트")
+    void moveLastItemOfCategoryTest() {
+        ItemSnapshot movedPantsA = new ItemSnapshot(3L, "A", "상의", 5000, 2000L);
+        categoryLowestPriceIndex.apply(pantsA, movedPantsA);
+
+        assertThat(categoryLowestPriceIndex.findLowestPriceItems()).containsExactly(movedPantsA);
+    }
+
+    @Test
+    @DisplayName("카테고리의 최저가, 최고가 상품을 동일 가격 상품까지 조회 테스트")
+    void findLowestHighestPriceItemsTest() {
+        ItemSnapshot shirtC = new ItemSnapshot(4L, "C", "상의", 10000, 2000L);
+        ItemSnapshot shirtD = new ItemSnapshot(5L, "D", "상의", 12000, 1000L);
+        ItemSnapshot shirtE = new ItemSnapshot(6L, "E", "상의", 15000, 500L);
+        categoryLowestPriceIndex.apply(null, shirtC);
+        categoryLowestPriceIndex.apply(null, shirtD);
+        categoryLowestPriceIndex.apply(null, shirtE);
+
+        // 가격 오름차순, 같은 가격 안에서는 최근 수정 우선
+        assertThat(categoryLowestPriceIndex.findLowestHighestPriceItems("상의")).containsExactly(shirtC, shirtA, shirtB, shirtE);
+        assertThat(categoryLowestPriceIndex.findLowestHighestPriceItems("하의")).containsExactly(pantsA);
+        assertThat(categoryLowestPriceIndex.findLowestHighestPriceItems("신발")).isEmpty();
+    }
+}
@@ -0,0 +1,101 @@
+package com.musinsa.test.index;
+
+import com.musinsa.test.index.CategoryPriceRangeIndex.PriceRange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryPriceRangeIndexTest {
+
+    private CategoryPriceRangeIndex categoryPriceRangeIndex;
+
+    @BeforeEach
+    void setUp() {
+        categoryPriceRangeIndex = new CategoryPriceRangeIndex();
+        categoryPriceRangeIndex.rebuild(List.of(
+                new ItemSnapshot(1L, "A", "아우터", 7000, 1000L),
+                new ItemSnapshot(2L, "B", "아우터", 5000, 1000L),
+                new ItemSnapshot(3L, "C", "아우터", 9000, 1000L),
+                new ItemSnapshot(4L, "D", "아우터", 5000, 1000L),
+                new ItemSnapshot(5L, "A", "상의", 6000, 1000L)
+        ));
+    }
+
+    @Test
+    @DisplayName("가격 범위 양 끝을 포함하고 같은 가격은 ID 순서로 조회 테스트")
+    void findByPriceRangeTest() {
+        PriceRange result = categoryPriceRangeIndex.findByPriceRange("아우터", 5000, 7000, 10);
+
+        assertThat(result.totalCount()).isEqualTo(3);
+        assertThat(result.ids()).containsExactly(2L, 4L, 1L);
+        assertThat(result.brands()).containsExactly("B", "D", "A");
+        assertThat(result.prices()).containsExactly(5000, 5000, 7000);
+    }
+
+    @Test
+    @DisplayName("최저가 순 상위 N 개 조회 시 전체 개수는 limit 과 무관 테스트")
+    void findCheapestTest() {
+        PriceRange result = categoryPriceRangeIndex.findCheapest("아우터", 2);
+
+        assertThat(result.totalCount()).isEqualTo(4);
+        assertThat(result.ids()).containsExactly(2L, 4L);
+    }
+
+    @Test
+    @DisplayName("범위 안에 상품이 없거나 카테고리가 없으면 빈 결과 테스트")
+    void emptyRangeTest() {
+        assertThat(categoryPriceRangeIndex.findByPriceRange("아우터", 7001, 8999, 10).size()).isZero();
+        assertThat(categoryPriceRangeIndex.findByPriceRange("아우터", 9000, 5000, 10).size()).isZero();
+        assertThat(categoryPriceRangeIndex.findCheapest("신발", 10).totalCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("상품 추가/가격 변경/삭제가 정렬 순서에 반영되는지 테스트")
+    void applyChangesTest() {
+        ItemSnapshot cheapOuter = new ItemSnapshot(6L, "E", "아우터", 1000, 1000L);
+        categoryPriceRangeIndex.apply(null, cheapOuter);
+        assertThat(categoryPriceRangeIndex.findCheapest("아우터", 1).ids()).containsExactly(6L);
+
+        // 가격 변경은 이전 위치에서 빠지고 새 위치에 들어감
+        categoryPriceRangeIndex.apply(cheapOuter, new ItemSnapshot(6L, "E", "아우터", 8000, 2000L));
+        assertThat(categoryPriceRangeIndex.findByPriceRange("아우터", 7000, 9000, 10).ids()).containsExactly(1L, 6L, 3L);
+
+        // 카테고리 변경
+        categoryPriceRangeIndex.apply(new ItemSnapshot(5L, "A", "상의", 6000, 1000L), new ItemSnapshot(5L, "A", "아우터", 6000, 2000L));
+        assertThat(categoryPriceRangeIndex.findCheapest("상의", 10).totalCount()).isZero();
+        assertThat(categoryPriceRangeIndex.findCheapest("아우터", 10).ids()).containsExactly(2L, 4L, 5L, 1L, 6L, 3L);
+    }
+
+    @Test
+    @DisplayName("임의의 변경 후 정렬된 목록과 같은 결과 테스트")
+    void sameAsSortedListTest() {
+        Random random = new Random(7);
+        List<ItemSnapshot> expected = new ArrayList<>();
+        categoryPriceRangeIndex.rebuild(List.of());
+
+        for (long id = 1; id <= 2000; id++) {
+            ItemSnapshot item = new ItemSnapshot(id, "B" + random.nextInt(10), "상의", random.nextInt(100) * 100, 1000L);
+            categoryPriceRangeIndex.apply(null, item);
+            expected.add(item);
+
+            if (random.nextInt(4) == 0) {
+                ItemSnapshot removed = expected.remove(random.nextInt(expected.size()));
+                categoryPriceRangeIndex.apply(removed, null);
+            }
+        }
+        expected.sort(Comparator.comparingInt(ItemSnapshot::price).thenComparingLong(ItemSnapshot::id));
+
+        List<ItemSnapshot> inRange = expected.stream().filter(item -> item.price() >= 2500 && item.price() <= 6000).toList();
+        PriceRange result = categoryPriceRangeIndex.findByPriceRange("상의", 2500, 6000, Integer.MAX_VALUE);
+
+        assertThat(result.totalCount()).isEqualTo(inRange.size());
+        assertThat(result.ids()).containsExactly(inRange.stream().mapToLong(ItemSnapshot::id).toArray());
+    }
+}
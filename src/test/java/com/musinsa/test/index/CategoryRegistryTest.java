@@ -0,0 +1,56 @@
+package com.musinsa.test.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryRegistryTest {
+
+    private CategoryRegistry categoryRegistry;
+
+    private ItemSnapshot shirtA;
+    private ItemSnapshot shirtB;
+
+    @BeforeEach
+    void setUp() {
+        shirtA = new ItemSnapshot(1L, "A", "상의", 10000, 1000L);
+        shirtB = new ItemSnapshot(2L, "B", "상의", 15000, 1000L);
+
+        categoryRegistry = new CategoryRegistry();
+        categoryRegistry.rebuild(List.of(shirtA, shirtB));
+    }
+
+    @Test
+    @DisplayName("첫 상품 생성 시 카테고리 추가 테스트")
+    void firstItemAddsCategoryTest() {
+        assertThat(categoryRegistry.contains("하의")).isFalse();
+
+        categoryRegistry.apply(null, new ItemSnapshot(3L, "A", "하의", 20000, 1000L));
+
+        assertThat(categoryRegistry.contains("하의")).isTrue();
+    }
+
+    @Test
+    @DisplayName("마지막 상품 삭제 시에만 카테고리 제거 테스트")
+    void lastItemRemovesCategoryTest() {
+        categoryRegistry.apply(shirtA, null);
+        assertThat(categoryRegistry.contains("상의")).isTrue();
+
+        categoryRegistry.apply(shirtB, null);
+        assertThat(categoryRegistry.contains("상의")).isFalse();
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 시 이전 카테고리 제거 테스트")
+    void categoryMoveTest() {
+        categoryRegistry.apply(shirtA, null);
+        categoryRegistry.apply(shirtB, new ItemSnapshot(2L, "B", "신발", 15000, 2000L));
+
+        assertThat(categoryRegistry.contains("상의")).isFalse();
+        assertThat(categoryRegistry.contains("신발")).isTrue();
+    }
+}
@@ -0,0 +1,183 @@
+package com.musinsa.test.index;
+
+import com.musinsa.test.domain.Item;
+import com.musinsa.test.domain.ItemChangeType;
+import com.musinsa.test.dto.ItemRequestDto;
+import com.musinsa.test.outbox.ItemChanged;
+import com.musinsa.test.outbox.ItemChanged.ItemValues;
+import com.musinsa.test.repository.ItemRepository;
+import com.musinsa.test.service.ItemService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커밋 이후 인덱스 반영(커밋한 스레드의 outbox 이벤트 전달)을 확인하기 위해 테스트 트랜잭션 없이 실행
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ItemIndexManagerTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemIndexManager itemIndexManager;
+
+    @Autowired
+    private CategoryLowestPriceIndex categoryLowestPriceIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAll();
+        itemIndexManager.rebuild();
+    }
+
+    @Test
+    @DisplayName("커밋된 생성/갱신/삭제가 인덱스에 반영되는지 테스트")
+    void committedChangesAppliedTest() {
+        assertThat(itemIndexManager.isReadable()).isTrue();
+
+        Item shirtA = itemService.createItem(new ItemRequestDto("A", "상의", 10000));
+        Item shirtB = itemService.createItem(new ItemRequestDto("B", "상의", 15000));
+
+        assertThat(categoryLowestPriceIndex.findLowestPriceItems())
+                .extracting(ItemSnapshot::id)
+                .containsExactly(shirtA.getId());
+
+        itemService.updateItem(new ItemRequestDto("A", "상의", 20000), shirtA.getId());
+
+        assertThat(categoryLowestPriceIndex.findLowestPriceItems())
+                .extracting(ItemSnapshot::id)
+                .containsExactly(shirtB.getId());
+
+        itemService.deleteItem(shirtB.getId());
+
+        assertThat(categoryLowestPriceIndex.findLowestPriceItems())
+                .extracting(ItemSnapshot::price)
+                .containsExactly(20000);
+    }
+
+    @Test
+    @DisplayName("롤백된 변경은 인덱스에 반영되지 않는지 테스트")
+    void rolledBackChangesIgnoredTest() {
+        transactionTemplate.executeWithoutResult(status -> {
+            itemService.createItem(new ItemRequestDto("A", "상의", 10000));
+            status.setRollbackOnly();
+        });
+
+        assertThat(categoryLowestPriceIndex.findLowestPriceItems()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커밋된 변경에만 카탈로그 버전이 증가하는지 테스트")
+    void versionIncreasedOnCommitTest() {
+        long version = itemIndexManager.getVersion();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            itemService.createItem(new ItemRequestDto("A", "상의", 10000));
+            status.setRollbackOnly();
+        });
+        assertThat(itemIndexManager.getVersion()).isEqualTo(version);
+
+        itemService.createItem(new ItemRequestDto("A", "상의", 10000));
+        assertThat(itemIndexManager.getVersion()).isGreaterThan(version);
+    }
+
+    @Test
+    @DisplayName("먼저 커밋된 갱신이 나중에 인덱스에 반영되어도 최신 갱신이 유지되는지 테스트")
+    void olderCommitAppliedLastIgnoredTest() throws Exception {
+        Item item = itemService.createItem(new ItemRequestDto("A", "상의", 10000));
+
+        CountDownLatch committed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> older = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            delayAfterCompletion(committed, release);
+            itemService.updateItem(new ItemRequestDto("A", "상의", 20000), item.getId());
+        }));
+
+        // 먼저 커밋된 갱신의 인덱스 반영이 멈춘 사이 같은 상품을 다시 갱신
+        assertThat(committed.await(5, TimeUnit.SECONDS)).isTrue();
+        itemService.updateItem(new ItemRequestDto("A", "상의", 30000), item.getId());
+        release.countDown();
+        older.get(5, TimeUnit.SECONDS);
+
+        assertThat(categoryLowestPriceIndex.findLowestPriceItems())
+                .extracting(ItemSnapshot::price)
+                .containsExactly(30000);
+    }
+
+    @Test
+    @DisplayName("삭제보다 늦게 반영되는 이전 갱신이 상품을 되살리지 않는지 테스트")
+    void olderCommitAppliedAfterDeleteIgnoredTest() throws Exception {
+        Item item = itemService.createItem(new ItemRequestDto("A", "상의", 10000));
+
+        CountDownLatch committed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> older = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            delayAfterCompletion(committed, release);
+            itemService.updateItem(new ItemRequestDto("A", "상의", 20000), item.getId());
+        }));
+
+        assertThat(committed.await(5, TimeUnit.SECONDS)).isTrue();
+        itemService.deleteItem(item.getId());
+        release.countDown();
+        older.get(5, TimeUnit.SECONDS);
+
+        assertThat(categoryLowestPriceIndex.findLowestPriceItems()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 전달된 이전 변경 이벤트가 인덱스를 되돌리지 않는지 테스트")
+    void redeliveredOlderEventIgnoredTest() {
+        Item item = itemService.createItem(new ItemRequestDto("A", "상의", 10000));
+        itemService.updateItem(new ItemRequestDto("A", "상의", 20000), item.getId());
+        long version = itemIndexManager.getVersion();
+
+        itemIndexManager.accept(List.of(new ItemChanged(1L, item.getId(), 0L, ItemChangeType.CREATED,
+                null, new ItemValues("A", "상의", 10000), new Date())));
+
+        assertThat(categoryLowestPriceIndex.findLowestPriceItems())
+                .extracting(ItemSnapshot::price)
+                .containsExactly(20000);
+        assertThat(itemIndexManager.getVersion()).isEqualTo(version);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 release 가 열릴 때까지 이후의 afterCompletion(outbox 이벤트 전달과 인덱스 반영)을 멈춤
+     * 동기화는 등록 순서대로 호출되므로 outbox 기록보다 먼저 등록
+     */
+    private static void delayAfterCompletion(CountDownLatch committed, CountDownLatch release) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                committed.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,66 @@
+package com.musinsa.test.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderStatisticTreeTest {
+
+    @Test
+    @DisplayName("추가/삭제 후 순위와 앞쪽 원소 조회 테스트")
+    void rankAndHeadTest() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+
+        assertThat(tree.add(30)).isTrue();
+        assertThat(tree.add(10)).isTrue();
+        assertThat(tree.add(20)).isTrue();
+        assertThat(tree.add(20)).isFalse();
+
+        assertThat(tree.size()).isEqualTo(3);
+        assertThat(tree.first()).isEqualTo(10);
+        assertThat(tree.head(2)).containsExactly(10, 20);
+        assertThat(tree.rank(30)).isEqualTo(2);
+
+        // 집합에 없는 값은 들어갈 위치
+        assertThat(tree.rank(25)).isEqualTo(2);
+
+        assertThat(tree.remove(10)).isTrue();
+        assertThat(tree.remove(10)).isFalse();
+        assertThat(tree.rank(30)).isEqualTo(1);
+        assertThat(tree.head(10)).containsExactly(20, 30);
+    }
+
+    @Test
+    @DisplayName("임의의 추가/삭제 후 TreeSet 과 같은 결과 테스트")
+    void sameAsTreeSetTest() {
+        Random random = new Random(42);
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        for (int i = 0; i < 20000; i++) {
+            int value = random.nextInt(1000);
+            if (random.nextBoolean()) {
+                assertThat(tree.add(value)).isEqualTo(expected.add(value));
+            } else {
+                assertThat(tree.remove(value)).isEqualTo(expected.remove(value));
+            }
+        }
+
+        assertThat(tree.size()).isEqualTo(expected.size());
+        assertThat(tree.head(Integer.MAX_VALUE)).containsExactlyElementsOf(expected);
+
+        List<Integer> sorted = new ArrayList<>(expected);
+        for (int value = 0; value < 1000; value++) {
+            assertThat(tree.rank(value)).isEqualTo(expected.headSet(value).size());
+            assertThat(tree.contains(value)).isEqualTo(expected.contains(value));
+        }
+        assertThat(tree.head(5)).containsExactlyElementsOf(sorted.subList(0, 5));
+    }
+}
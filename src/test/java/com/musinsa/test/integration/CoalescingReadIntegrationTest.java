@@ -0,0 +1,162 @@
+package com.musinsa.test.integration;
+
+import com.musinsa.test.dto.ItemRequestDto;
+import com.musinsa.test.dto.LowestHighestResponseDto;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.repository.ItemRepository;
+import com.musinsa.test.service.CoalescingReadService;
+import com.musinsa.test.service.ItemService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * 합쳐진 조회를 기다리는 호출이 DB 커넥션을 잡지 않는지 확인
+ * 먼저 들어온 호출의 DB 조회를 테스트용 aspect 로 멈춰 두고 활성 커넥션 수를 확인
+ * 인덱스를 사용할 수 있으면 DB 를 조회하지 않으므로 인덱스를 사용할 수 없는 기동 중 상태로 실행
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(CoalescingReadIntegrationTest.BlockingQueryConfig.class)
+class CoalescingReadIntegrationTest {
+
+    private static final int CALLERS = 8;
+
+    @Autowired
+    private CoalescingReadService coalescingReadService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoSpyBean
+    private ItemIndexManager itemIndexManager;
+
+    @AfterEach
+    void tearDown() {
+        BlockingQueryAspect.release();
+        itemRepository.deleteAll();
+        itemIndexManager.rebuild();
+    }
+
+    @Test
+    @DisplayName("같은 카테고리 조회에 합류한 호출은 DB 커넥션 없이 기다리는지 테스트")
+    void coalescedCallersHoldNoConnectionTest() throws Exception {
+        itemService.createItem(new ItemRequestDto("A", "상의", 10000));
+        itemService.createItem(new ItemRequestDto("B", "상의", 20000));
+        doReturn(false).when(itemIndexManager).isReadable();
+
+        FunctionCounter coalesced = meterRegistry.get("catalog.singleflight.calls")
+                .tags("flight", "lowest_highest", "result", "coalesced")
+                .functionCounter();
+        double coalescedBefore = coalesced.count();
+
+        CountDownLatch started = BlockingQueryAspect.block();
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<LowestHighestResponseDto>> calls = new ArrayList<>();
+            calls.add(executor.submit(() -> coalescingReadService.findLowestHighestPrice("상의")));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 1; i < CALLERS; i++) {
+                calls.add(executor.submit(() -> coalescingReadService.findLowestHighestPrice("상의")));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalesced.count() - coalescedBefore < CALLERS - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertThat(coalesced.count() - coalescedBefore).isEqualTo(CALLERS - 1);
+
+            // 조회 중인 호출 하나만 커넥션 사용 (outbox 전달 등 잠깐 쓰는 다른 커넥션이 반납될 때까지 기다림)
+            HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (pool.getActiveConnections() > 1 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertThat(pool.getActiveConnections()).isEqualTo(1);
+
+            BlockingQueryAspect.release();
+            for (Future<LowestHighestResponseDto> call : calls) {
+                assertThat(call.get(5, TimeUnit.SECONDS).get최저가().get(0).getBrand()).isEqualTo("A");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @TestConfiguration
+    static class BlockingQueryConfig {
+
+        @Bean
+        BlockingQueryAspect blockingQueryAspect() {
+            return new BlockingQueryAspect();
+        }
+    }
+
+    /**
+     * block 이후 첫 findLowestHighestPriceItems 호출을 release 까지 멈춤
+     */
+    @Aspect
+    static class BlockingQueryAspect {
+
+        private static volatile CountDownLatch started;
+        private static volatile CountDownLatch released;
+
+        static CountDownLatch block() {
+            released = new CountDownLatch(1);
+            started = new CountDownLatch(1);
+            return started;
+        }
+
+        static void release() {
+            CountDownLatch latch = released;
+            if (latch != null) {
+                latch.countDown();
+            }
+        }
+
+        @Around("this(com.musinsa.test.repository.ItemRepository) && execution(* findLowestHighestPriceItems(..))")
+        public Object blockQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+            CountDownLatch latch = released;
+            if (latch != null && started.getCount() > 0) {
+                started.countDown();
+                latch.await(5, TimeUnit.SECONDS);
+            }
+            return joinPoint.proceed();
+        }
+    }
+}
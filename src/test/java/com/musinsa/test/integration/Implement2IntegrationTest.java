@@ -169,4 +169,33 @@ class Implement2IntegrationTest {
                 .andExpect(jsonPath("$.최저가.브랜드").value("B"))
                 .andExpect(jsonPath("$.최저가.총액").value("61,000"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("브랜드 순위 조회 API 통합 테스트")
+    void brandRankingIntegrationTest() throws Exception {
+        mockMvc.perform(get("/api/implement2/brand_ranking")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.순위.length()").value(1))
+                .andExpect(jsonPath("$.순위[0].순위").value(1))
+                .andExpect(jsonPath("$.순위[0].브랜드").value("A"))
+                .andExpect(jsonPath("$.순위[0].총액").value("60,000"));
+
+        mockMvc.perform(get("/api/implement2/brand_ranking/B"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.순위").value(2))
+                .andExpect(jsonPath("$.총액").value("61,000"));
+    }
+
+    @Test
+    @DisplayName("순위에 없는 브랜드 조회 시 404, 잘못된 조회 개수는 400 반환 테스트")
+    void brandRankingNotFoundIntegrationTest() throws Exception {
+        mockMvc.perform(get("/api/implement2/brand_ranking/Unknown"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Not Found"));
+
+        mockMvc.perform(get("/api/implement2/brand_ranking")
+                .param("size", "0"))
+                .andExpect(status().isBadRequest());
+    }
+}
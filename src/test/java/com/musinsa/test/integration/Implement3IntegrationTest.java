@@ -15,6 +15,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Date;
 
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -115,6 +118,40 @@ class Implement3IntegrationTest {
                 .andExpect(jsonPath("$.최고가[0].price").value("25,000"));
     }
 
+    @Test
+    @DisplayName("최저가, 최고가가 같은 브랜드가 여러 개일 때 모두 반환 테스트")
+    void lowestHighestPriceTiesIntegrationTest() throws Exception {
+        Item shirtD = Item.builder()
+                .brand("D")
+                .category("상의")
+                .price(10000)
+                .createdAt(new Date())
+                .updatedAt(new Date())
+                .build();
+
+        Item shirtE = Item.builder()
+                .brand("E")
+                .category("상의")
+                .price(20000)
+                .createdAt(new Date())
+                .updatedAt(new Date())
+                .build();
+
+        itemRepository.save(shirtD);
+        itemRepository.save(shirtE);
+
+        mockMvc.perform(get("/api/implement3/lowest_highest")
+                .param("category", "상의")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.최저가.length()").value(2))
+                .andExpect(jsonPath("$.최저가[*].brand", containsInAnyOrder("A", "D")))
+                .andExpect(jsonPath("$.최저가[*].price", everyItem(is("10,000"))))
+                .andExpect(jsonPath("$.최고가.length()").value(2))
+                .andExpect(jsonPath("$.최고가[*].brand", containsInAnyOrder("B", "E")))
+                .andExpect(jsonPath("$.최고가[*].price", everyItem(is("20,000"))));
+    }
+
     @Test
     @DisplayName("존재하지 않는 카테고리 조회 시 404 반환 테스트")
     void nonExistentCategoryIntegrationTest() throws Exception {
@@ -157,4 +194,48 @@ class Implement3IntegrationTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("카테고리 가격 범위 조회 API 통합 테스트")
+    void priceRangeIntegrationTest() throws Exception {
+        mockMvc.perform(get("/api/implement3/price_range")
+                .param("category", "상의")
+                .param("minPrice", "10000")
+                .param("maxPrice", "15000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.category").value("상의"))
+                .andExpect(jsonPath("$.totalCount").value(2))
+                .andExpect(jsonPath("$.items[0].brand").value("A"))
+                .andExpect(jsonPath("$.items[0].price").value("10,000"))
+                .andExpect(jsonPath("$.items[1].brand").value("C"))
+                .andExpect(jsonPath("$.items[1].price").value("15,000"));
+    }
+
+    @Test
+    @DisplayName("가격 범위 없이 최저가 순 상위 N 개 조회 API 통합 테스트")
+    void cheapestItemsIntegrationTest() throws Exception {
+        mockMvc.perform(get("/api/implement3/price_range")
+                .param("category", "상의")
+                .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(3))
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].brand").value("A"))
+                .andExpect(jsonPath("$.items[1].brand").value("C"));
+    }
+
+    @Test
+    @DisplayName("가격 범위 조회 시 존재하지 않는 카테고리는 404, 잘못된 범위는 400 반환 테스트")
+    void invalidPriceRangeIntegrationTest() throws Exception {
+        mockMvc.perform(get("/api/implement3/price_range")
+                .param("category", "없는카테고리"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/implement3/price_range")
+                .param("category", "상의")
+                .param("minPrice", "20000")
+                .param("maxPrice", "10000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("최소 가격은 최대 가격보다 클 수 없습니다."));
+    }
+}
@@ -1,5 +1,7 @@
 package com.musinsa.test.integration;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.musinsa.test.domain.Item;
 import com.musinsa.test.dto.ItemRequestDto;
@@ -15,6 +17,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Optional;
 
@@ -172,4 +176,185 @@ class Implement4IntegrationTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.error").value("Not Found"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("CSV 대량 상품 추가 API 통합 테스트")
+    void importItemsCsvIntegrationTest() throws Exception {
+        String csv = """
+                brand,category,price
+                ImportBrand,상의,10000
+                ImportBrand,바지,-100
+                ImportBrand,모자,3000
+                """;
+
+        mockMvc.perform(post("/api/implement4/items/import")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.committedBatches").value(1))
+                .andExpect(jsonPath("$.failedBatches").isEmpty())
+                .andExpect(jsonPath("$.errorsTruncated").value(false));
+
+        assertThat(itemRepository.findAll())
+                .filteredOn(item -> item.getBrand().equals("ImportBrand"))
+                .extracting(Item::getCategory)
+                .containsExactlyInAnyOrder("상의", "모자");
+    }
+
+    @Test
+    @DisplayName("NDJSON 대량 상품 추가 API 통합 테스트")
+    void importItemsNdjsonIntegrationTest() throws Exception {
+        String ndjson = """
+                {"brand":"ImportBrand","category":"상의","price":10000}
+
+                {"brand":"","category":"상의","price":10000}
+                """;
+
+        mockMvc.perform(post("/api/implement4/items/import")
+                .contentType("application/x-ndjson")
+                .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].message").value("브랜드는 필수입니다."));
+    }
+
+    @Test
+    @DisplayName("CSV 헤더가 없으면 400 반환 테스트")
+    void importItemsWithoutHeaderIntegrationTest() throws Exception {
+        mockMvc.perform(post("/api/implement4/items/import")
+                .contentType("text/csv")
+                .content("ImportBrand,상의,10000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Error"));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 Content-Type 이면 415 반환 테스트")
+    void importItemsUnsupportedContentTypeIntegrationTest() throws Exception {
+        mockMvc.perform(post("/api/implement4/items/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    @DisplayName("상품 내보내기 기본 형식은 NDJSON 테스트")
+    void exportItemsNdjsonIntegrationTest() throws Exception {
+        String response = mockMvc.perform(get("/api/implement4/items/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"items.ndjson\""))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = response.split("\n");
+        assertThat(lines).hasSize((int) itemRepository.count());
+
+        JsonNode exported = Arrays.stream(lines)
+                .map(this::readTree)
+                .filter(node -> node.get("id").asLong() == testItem.getId())
+                .findFirst()
+                .orElseThrow();
+        assertThat(exported.get("brand").asText()).isEqualTo("TestBrand");
+        assertThat(exported.get("category").asText()).isEqualTo("TestCategory");
+        assertThat(exported.get("price").asInt()).isEqualTo(10000);
+        assertThat(exported.get("createdAt").asText()).isEqualTo(testItem.getCreatedAt().toInstant().toString());
+    }
+
+    @Test
+    @DisplayName("Accept 헤더가 text/csv 이면 CSV 로 상품 내보내기 테스트")
+    void exportItemsCsvIntegrationTest() throws Exception {
+        itemRepository.save(Item.builder().brand("Brand, \"Quoted\"").category("상의").price(20000).build());
+
+        String response = mockMvc.perform(get("/api/implement4/items/export")
+                .accept("text/csv"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"items.csv\""))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = response.split("\n");
+        assertThat(lines[0]).isEqualTo("id,brand,category,price,created_at,updated_at");
+        assertThat(lines).hasSize((int) itemRepository.count() + 1);
+        assertThat(lines).anyMatch(line -> line.startsWith(testItem.getId() + ",TestBrand,TestCategory,10000,"));
+        assertThat(lines).anyMatch(line -> line.contains(",\"Brand, \"\"Quoted\"\"\",상의,20000,"));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식으로 상품 내보내기 시 406 반환 테스트")
+    void exportItemsNotAcceptableIntegrationTest() throws Exception {
+        mockMvc.perform(get("/api/implement4/items/export")
+                .accept(MediaType.APPLICATION_XML))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    @DisplayName("커서 방식 상품 목록 조회 API 통합 테스트")
+    void listItemsByCursorIntegrationTest() throws Exception {
+        Item newItem = itemRepository.save(Item.builder().brand("NewBrand").category("NewCategory").price(20000).build());
+
+        String response = mockMvc.perform(get("/api/implement4/items")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(newItem.getId()))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        String nextCursor = objectMapper.readTree(response).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/implement4/items")
+                .param("cursor", nextCursor)
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(testItem.getId()));
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 커서로 상품 목록 조회 시 400 반환 테스트")
+    void listItemsByInvalidCursorIntegrationTest() throws Exception {
+        mockMvc.perform(get("/api/implement4/items")
+                .param("cursor", "invalid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("올바르지 않은 커서입니다."));
+    }
+
+    @Test
+    @DisplayName("Slice 방식 상품 목록 조회 API 통합 테스트")
+    void listItemsBySliceIntegrationTest() throws Exception {
+        Item newItem = itemRepository.save(Item.builder().brand("NewBrand").category("NewCategory").price(20000).build());
+
+        mockMvc.perform(get("/api/implement4/items/slice")
+                .param("page", "0")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(newItem.getId()))
+                .andExpect(jsonPath("$.page").value(0))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("상품 관리 페이지 커서 방식 조회 테스트")
+    void implement4PageIntegrationTest() throws Exception {
+        mockMvc.perform(get("/implement4"))
+                .andExpect(status().isOk())
+                .andExpect(model().attributeExists("itemScroll"));
+
+        mockMvc.perform(get("/implement4")
+                .param("cursor", "invalid"))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
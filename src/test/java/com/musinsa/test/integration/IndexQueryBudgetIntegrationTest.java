@@ -0,0 +1,110 @@
+package com.musinsa.test.integration;
+
+import com.musinsa.test.domain.Item;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.repository.ItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 구현 1 ~ 3 조회가 인덱스로 응답할 때 트랜잭션을 시작하지 않고(DB 커넥션 없이) SQL 도 실행하지 않는지 확인하는 기준값
+ * 인덱스는 커밋된 데이터만 가지므로 테스트 트랜잭션 없이 실행 (트랜잭션 안의 DB 조회 경로 기준값은 QueryBudgetIntegrationTest)
+ * 준비 데이터: 브랜드 BRAND_COUNT 개 x 카테고리 CATEGORY_COUNT 개, 조합마다 상품 1개
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(QueryBudget.Config.class)
+class IndexQueryBudgetIntegrationTest {
+
+    private static final int BRAND_COUNT = 5;
+    private static final int CATEGORY_COUNT = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemIndexManager itemIndexManager;
+
+    @BeforeEach
+    void setUp() {
+        List<Item> items = new ArrayList<>();
+        for (int brand = 0; brand < BRAND_COUNT; brand++) {
+            for (int category = 0; category < CATEGORY_COUNT; category++) {
+                items.add(Item.builder()
+                        .brand("BRAND-" + brand)
+                        .category("CATEGORY-" + category)
+                        .price(1000 * (brand + 1) + 100 * category)
+                        .createdAt(new Date())
+                        .updatedAt(new Date())
+                        .build());
+            }
+        }
+        itemRepository.saveAll(items);
+        itemIndexManager.rebuild();
+
+        assertThat(itemIndexManager.isReadable()).isTrue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAll();
+        itemIndexManager.rebuild();
+    }
+
+    @Test
+    @DisplayName("구현 1) 카테고리별 최저가 조회가 인덱스로 응답할 때 DB 커넥션 없이 응답 테스트")
+    void implement1QueryBudgetTest() throws Exception {
+        QueryBudget.noConnection().verify("GET /api/implement1/category_lowest_price", () ->
+                mockMvc.perform(get("/api/implement1/category_lowest_price"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("구현 2) 최저 총액 브랜드, 브랜드 순위 조회가 인덱스로 응답할 때 DB 커넥션 없이 응답 테스트")
+    void implement2QueryBudgetTest() throws Exception {
+        QueryBudget.noConnection().verify("GET /api/implement2/lowest_price_brand", () ->
+                mockMvc.perform(get("/api/implement2/lowest_price_brand"))
+                        .andExpect(status().isOk()));
+        QueryBudget.noConnection().verify("GET /api/implement2/brand_ranking", () ->
+                mockMvc.perform(get("/api/implement2/brand_ranking").param("size", "3"))
+                        .andExpect(status().isOk()));
+        QueryBudget.noConnection().verify("GET /api/implement2/brand_ranking/{brand}", () ->
+                mockMvc.perform(get("/api/implement2/brand_ranking/{brand}", "BRAND-0"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("구현 3) 카테고리 최저/최고가, 가격 범위 조회가 인덱스로 응답할 때 DB 커넥션 없이 응답 테스트")
+    void implement3QueryBudgetTest() throws Exception {
+        QueryBudget.noConnection().verify("GET /api/implement3/lowest_highest", () ->
+                mockMvc.perform(get("/api/implement3/lowest_highest").param("category", "CATEGORY-0"))
+                        .andExpect(status().isOk()));
+        QueryBudget.noConnection().verify("GET /api/implement3/price_range", () ->
+                mockMvc.perform(get("/api/implement3/price_range")
+                                .param("category", "CATEGORY-0")
+                                .param("minPrice", "1000")
+                                .param("maxPrice", "3000")
+                                .param("size", "10"))
+                        .andExpect(status().isOk()));
+    }
+}
@@ -0,0 +1,138 @@
+package com.musinsa.test.integration;
+
+import com.musinsa.test.dto.ItemRequestDto;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.metrics.QueryCounter;
+import com.musinsa.test.repository.ItemOutboxRepository;
+import com.musinsa.test.repository.ItemRepository;
+import com.musinsa.test.service.ItemService;
+import com.musinsa.test.service.LowestHighestService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청 처리 후 기록된 메트릭 확인, 인덱스 조회 경로를 타도록 테스트 트랜잭션 없이 실행
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemIndexManager itemIndexManager;
+
+    @Autowired
+    private ItemOutboxRepository itemOutboxRepository;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAll();
+        itemIndexManager.rebuild();
+    }
+
+    @Test
+    @DisplayName("서비스 메서드 실행 시간과 요청당 쿼리 수 기록 테스트")
+    void serviceTimerAndQueryCountTest() throws Exception {
+        itemService.createItem(new ItemRequestDto("A", "상의", 10000));
+
+        mockMvc.perform(get("/api/implement3/lowest_highest").param("category", "상의"))
+                .andExpect(status().isOk());
+
+        Timer timer = meterRegistry.find("catalog.service")
+                .tag("class", LowestHighestService.class.getName())
+                .tag("method", "findLowestHighestPrice")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isPositive();
+
+        DistributionSummary queries = meterRegistry.find("catalog.request.queries")
+                .tag("method", "GET")
+                .tag("uri", "/api/implement3/lowest_highest")
+                .summary();
+        assertThat(queries).isNotNull();
+        assertThat(queries.count()).isPositive();
+
+        DistributionSummary statements = meterRegistry.find("catalog.request.statements")
+                .tag("method", "GET")
+                .tag("uri", "/api/implement3/lowest_highest")
+                .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.totalAmount()).isGreaterThanOrEqualTo(queries.totalAmount());
+    }
+
+    @Test
+    @DisplayName("ItemRepository 호출 안에서 실행된 SQL 문만 쿼리 수로 집계 테스트")
+    void repositoryQueryCountTest() {
+        long queriesBefore = queryCounter.currentRepository();
+        long statementsBefore = queryCounter.current();
+
+        itemRepository.findAll();
+        itemOutboxRepository.count();
+
+        assertThat(queryCounter.currentRepository() - queriesBefore).isEqualTo(1);
+        assertThat(queryCounter.current() - statementsBefore).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("findAll 조회 행 수 기록 테스트")
+    void findAllRowsTest() {
+        itemService.createItem(new ItemRequestDto("A", "상의", 10000));
+        itemService.createItem(new ItemRequestDto("B", "상의", 20000));
+
+        DistributionSummary rows = DistributionSummary.builder("catalog.repository.rows")
+                .tag("method", "findAll")
+                .register(meterRegistry);
+        double totalBefore = rows.totalAmount();
+
+        itemRepository.findAll();
+
+        assertThat(rows.totalAmount() - totalBefore).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("응답 스냅샷 캐시 적중률 노출 테스트")
+    void snapshotCacheHitRatioTest() throws Exception {
+        itemService.createItem(new ItemRequestDto("A", "상의", 10000));
+
+        mockMvc.perform(get("/api/implement1/category_lowest_price")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/implement1/category_lowest_price")).andExpect(status().isOk());
+
+        assertThat(meterRegistry.get("catalog.cache.requests")
+                .tag("cache", "response_snapshot")
+                .tag("result", "hit")
+                .functionCounter().count()).isPositive();
+
+        mockMvc.perform(get("/actuator/metrics/catalog.cache.hit.ratio").param("tag", "cache:response_snapshot"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value").isNumber());
+    }
+}
@@ -0,0 +1,180 @@
+package com.musinsa.test.integration;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 통합 테스트에서 작업 하나가 실행한 SQL 문 수와 읽어온 행 수의 상한 확인
+ * 테스트 클래스에 @Import(QueryBudget.Config.class) 를 붙이면 DataSource 를 datasource-proxy 로 감싸서 집계
+ *
+ * 사용 예: QueryBudget.atMost(1, 10).verify("GET /api/...", () -> mockMvc.perform(...));
+ *         QueryBudget.noConnection().verify("GET /api/...", () -> mockMvc.perform(...));
+ *
+ * - SQL 문 수는 JDBC 실행 횟수 기준이라 배치 실행(executeBatch)은 1회로 집계
+ * - 행 수는 ResultSet.next() 가 true 를 반환한 횟수
+ * - 커넥션 수는 DataSource.getConnection() 호출 횟수 (트랜잭션을 시작하면 SQL 이 없어도 커넥션을 가져옴)
+ * - verify 를 호출한 스레드에서 작업이 실행되는 동안의 SQL 만 집계 (MockMvc 요청은 호출한 스레드에서 처리됨)
+ *   outbox 발행, 복제 동기화 등 다른 스레드의 SQL 이나 측정 구간 밖의 SQL 은 집계하지 않음
+ */
+public final class QueryBudget {
+
+    // 측정 중인 스레드의 집계, 측정 중이 아니면 null
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private final long maxStatements;
+    private final long maxRows;
+    private final long maxConnections;
+
+    private QueryBudget(long maxStatements, long maxRows, long maxConnections) {
+        this.maxStatements = maxStatements;
+        this.maxRows = maxRows;
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * 허용할 SQL 문 수와 행 수의 상한
+     *
+     * @param maxStatements 최대 SQL 문 수
+     * @param maxRows 최대 행 수
+     * @return QueryBudget
+     */
+    public static QueryBudget atMost(long maxStatements, long maxRows) {
+        return new QueryBudget(maxStatements, maxRows, Long.MAX_VALUE);
+    }
+
+    /**
+     * DB 커넥션을 가져오지 않아야 하는 작업 (SQL 문과 행도 없음)
+     *
+     * @return QueryBudget
+     */
+    public static QueryBudget noConnection() {
+        return new QueryBudget(0, 0, 0);
+    }
+
+    /**
+     * 작업을 실행하고 상한을 넘으면 실패
+     *
+     * @param name 실패 메시지에 들어갈 작업 이름
+     * @param action 확인할 작업
+     */
+    public void verify(String name, Action action) throws Exception {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        try {
+            action.run();
+        } finally {
+            CURRENT.remove();
+        }
+
+        long statements = counts.statements;
+        long rows = counts.rows;
+        assertThat(statements)
+                .as("%s 의 SQL 문 수 (행 수 %d)", name, rows)
+                .isLessThanOrEqualTo(maxStatements);
+        assertThat(rows)
+                .as("%s 의 조회 행 수 (SQL 문 수 %d)", name, statements)
+                .isLessThanOrEqualTo(maxRows);
+        assertThat(counts.connections)
+                .as("%s 의 커넥션 수 (SQL 문 수 %d)", name, statements)
+                .isLessThanOrEqualTo(maxConnections);
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private static class Counts {
+        private long statements;
+        private long rows;
+        private long connections;
+    }
+
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        public static BeanPostProcessor queryBudgetDataSourceProxy() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                        return bean;
+                    }
+
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("query-budget")
+                            .listener(new StatementCounter())
+                            .methodListener(new RowCounter())
+                            .methodListener(new ConnectionCounter())
+                            .proxyResultSet()
+                            .build();
+                }
+            };
+        }
+    }
+
+    private static class StatementCounter implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            Counts counts = CURRENT.get();
+            if (counts != null) {
+                counts.statements++;
+            }
+        }
+    }
+
+    private static class RowCounter implements MethodExecutionListener {
+
+        @Override
+        public void beforeMethod(MethodExecutionContext executionContext) {
+        }
+
+        @Override
+        public void afterMethod(MethodExecutionContext executionContext) {
+            Counts counts = CURRENT.get();
+            if (counts != null
+                    && executionContext.getTarget() instanceof ResultSet
+                    && "next".equals(executionContext.getMethod().getName())
+                    && Boolean.TRUE.equals(executionContext.getResult())) {
+                counts.rows++;
+            }
+        }
+    }
+
+    private static class ConnectionCounter implements MethodExecutionListener {
+
+        @Override
+        public void beforeMethod(MethodExecutionContext executionContext) {
+        }
+
+        @Override
+        public void afterMethod(MethodExecutionContext executionContext) {
+            Counts counts = CURRENT.get();
+            if (counts != null
+                    && executionContext.getTarget() instanceof DataSource
+                    && "getConnection".equals(executionContext.getMethod().getName())) {
+                counts.connections++;
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.musinsa.test.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.test.domain.Item;
+import com.musinsa.test.dto.ItemRequestDto;
+import com.musinsa.test.repository.ItemRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 구현 API 별 SQL 문 수와 조회 행 수의 기준값
+ * 카테고리나 상품마다 쿼리가 추가되는 변경(N+1)이 생기면 실패
+ *
+ * 테스트 트랜잭션 안에서는 인덱스를 사용할 수 없으므로 DB 조회 경로의 기준값
+ * (인덱스로 응답하는 트랜잭션 밖의 기준값은 IndexQueryBudgetIntegrationTest)
+ * 준비 데이터: 브랜드 BRAND_COUNT 개 x 카테고리 CATEGORY_COUNT 개, 조합마다 상품 1개
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@Import(QueryBudget.Config.class)
+class QueryBudgetIntegrationTest {
+
+    private static final int BRAND_COUNT = 5;
+    private static final int CATEGORY_COUNT = 8;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Item testItem;
+
+    @BeforeEach
+    void setUp() {
+        List<Item> items = new ArrayList<>();
+        for (int brand = 0; brand < BRAND_COUNT; brand++) {
+            for (int category = 0; category < CATEGORY_COUNT; category++) {
+                items.add(Item.builder()
+                        .brand("BRAND-" + brand)
+                        .category("CATEGORY-" + category)
+                        .price(1000 * (brand + 1) + 100 * category)
+                        .createdAt(new Date())
+                        .updatedAt(new Date())
+                        .build());
+            }
+        }
+        testItem = itemRepository.saveAll(items).get(0);
+
+        // 준비 데이터의 insert 가 측정 대상 요청에서 flush 되지 않도록 미리 반영
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("구현 1) 카테고리별 최저가 조회 쿼리 수 테스트")
+    void implement1QueryBudgetTest() throws Exception {
+        // 윈도우 함수 쿼리 1회, 카테고리마다 1행
+        QueryBudget.atMost(1, CATEGORY_COUNT).verify("GET /api/implement1/category_lowest_price", () ->
+                mockMvc.perform(get("/api/implement1/category_lowest_price"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("구현 2) 최저 총액 브랜드 조회 쿼리 수 테스트")
+    void implement2QueryBudgetTest() throws Exception {
+        // 최저 총액 브랜드 1행 + 해당 브랜드의 카테고리별 최저가
+        QueryBudget.atMost(2, 1 + CATEGORY_COUNT).verify("GET /api/implement2/lowest_price_brand", () ->
+                mockMvc.perform(get("/api/implement2/lowest_price_brand"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("구현 3) 카테고리 최저/최고가 조회 쿼리 수 테스트")
+    void implement3QueryBudgetTest() throws Exception {
+        // 카테고리 목록 + 최저/최고가 상품 (최저, 최고 각 1행)
+        QueryBudget.atMost(2, CATEGORY_COUNT + 2).verify("GET /api/implement3/lowest_highest", () ->
+                mockMvc.perform(get("/api/implement3/lowest_highest").param("category", "CATEGORY-0"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("구현 4) 상품 추가 쿼리 수 테스트")
+    void implement4CreateQueryBudgetTest() throws Exception {
+        String body = objectMapper.writeValueAsString(new ItemRequestDto("NEW", "CATEGORY-0", 5000));
+
+        // 상품/outbox 시퀀스 값 할당(풀 소진 시) + 새 브랜드 사전 조회/insert + 상품 insert + outbox insert
+        QueryBudget.atMost(6, 2).verify("POST /api/implement4/item", () -> {
+            mockMvc.perform(post("/api/implement4/item")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk());
+            entityManager.flush();
+        });
+    }
+
+    @Test
+    @DisplayName("구현 4) 상품 업데이트 쿼리 수 테스트")
+    void implement4UpdateQueryBudgetTest() throws Exception {
+        String body = objectMapper.writeValueAsString(new ItemRequestDto("BRAND-0", "CATEGORY-0", 5000));
+
+        // 조회 + outbox 시퀀스 값 할당(풀 소진 시) + update + outbox insert
+        QueryBudget.atMost(4, 2).verify("PUT /api/implement4/item/{itemId}", () -> {
+            mockMvc.perform(put("/api/implement4/item/{itemId}", testItem.getId())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk());
+            entityManager.flush();
+        });
+    }
+
+    @Test
+    @DisplayName("구현 4) 상품 삭제 쿼리 수 테스트")
+    void implement4DeleteQueryBudgetTest() throws Exception {
+        // 조회 + outbox 시퀀스 값 할당(풀 소진 시) + delete + outbox insert
+        QueryBudget.atMost(4, 2).verify("DELETE /api/implement4/item/{itemId}", () -> {
+            mockMvc.perform(delete("/api/implement4/item/{itemId}", testItem.getId()))
+                    .andExpect(status().isOk());
+            entityManager.flush();
+        });
+    }
+
+    @Test
+    @DisplayName("구현 4) 상품 목록 조회 쿼리 수 테스트")
+    void implement4ListQueryBudgetTest() throws Exception {
+        // 다음 페이지 여부 확인을 위해 size + 1 행 조회, count 쿼리 없음
+        QueryBudget.atMost(1, PAGE_SIZE + 1).verify("GET /api/implement4/items", () ->
+                mockMvc.perform(get("/api/implement4/items").param("size", String.valueOf(PAGE_SIZE)))
+                        .andExpect(status().isOk()));
+        QueryBudget.atMost(1, PAGE_SIZE + 1).verify("GET /api/implement4/items/slice", () ->
+                mockMvc.perform(get("/api/implement4/items/slice").param("size", String.valueOf(PAGE_SIZE)))
+                        .andExpect(status().isOk()));
+    }
+}
@@ -0,0 +1,205 @@
+package com.musinsa.test.integration;
+
+import com.musinsa.test.config.ReactiveReadServer;
+import com.musinsa.test.dto.BrandLowestPriceResponseDto;
+import com.musinsa.test.dto.BrandRankingResponseDto;
+import com.musinsa.test.dto.ItemRequestDto;
+import com.musinsa.test.dto.LowestHighestResponseDto;
+import com.musinsa.test.dto.LowestPriceResponseDto;
+import com.musinsa.test.dto.PriceRangeResponseDto;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.repository.ItemRepository;
+import com.musinsa.test.service.BrandPriceService;
+import com.musinsa.test.service.ItemService;
+import com.musinsa.test.service.LowestHighestService;
+import com.musinsa.test.service.LowestPriceService;
+import com.musinsa.test.service.PriceRangeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 리액티브 조회 서버 확인, R2DBC 커넥션은 JPA 트랜잭션의 변경을 보지 못하므로 테스트 트랜잭션 없이 커밋된 상품으로 확인
+ * 같은 컨텍스트의 서블릿 스택 서비스 결과와 응답이 같은지 비교
+ */
+@SpringBootTest(properties = {
+        "catalog.reactive.port=0",
+        // 애플리케이션 설정과 같은 지연 실행 URL 로 확인
+        "spring.datasource.url=jdbc:h2:mem:reactive-${random.uuid};DB_CLOSE_DELAY=-1;LAZY_QUERY_EXECUTION=TRUE",
+        // 카테고리 수보다 동시 조회 수가 작고 커넥션이 하나여도 카테고리별 조회가 교착 없이 끝나는지 확인
+        "catalog.reactive.pool-size=1",
+        "catalog.reactive.max-concurrency=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "reactive"})
+class ReactiveReadIntegrationTest {
+
+    @Autowired
+    private ReactiveReadServer reactiveReadServer;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoSpyBean
+    private ItemIndexManager itemIndexManager;
+
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private LowestPriceService lowestPriceService;
+
+    @Autowired
+    private BrandPriceService brandPriceService;
+
+    @Autowired
+    private LowestHighestService lowestHighestService;
+
+    @Autowired
+    private PriceRangeService priceRangeService;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToServer().baseUrl("http://localhost:" + reactiveReadServer.getPort()).build();
+
+        itemService.createItem(new ItemRequestDto("A", "상의", 10000));
+        itemService.createItem(new ItemRequestDto("A", "바지", 5000));
+        itemService.createItem(new ItemRequestDto("A", "양말", 2000));
+        itemService.createItem(new ItemRequestDto("B", "상의", 9000));
+        itemService.createItem(new ItemRequestDto("B", "바지", 6000));
+        itemService.createItem(new ItemRequestDto("B", "양말", 2000));
+        itemService.createItem(new ItemRequestDto("C", "상의", 12000));
+        itemService.createItem(new ItemRequestDto("C", "상의", 9000));
+        itemService.createItem(new ItemRequestDto("C", "바지", 4000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.findAll().forEach(item -> itemService.deleteItem(item.getId()));
+    }
+
+    @Test
+    @DisplayName("구현 1 리액티브 응답이 서블릿 스택 서비스 결과와 같은지 테스트")
+    void categoryLowestPriceTest() {
+        LowestPriceResponseDto response = getBody("/api/implement1/category_lowest_price", LowestPriceResponseDto.class);
+
+        assertThat(response).usingRecursiveComparison().isEqualTo(lowestPriceService.getLowestPrice());
+        assertThat(response.getTotalPrice()).isEqualTo("15,000");
+    }
+
+    @Test
+    @DisplayName("구현 2 리액티브 응답이 서블릿 스택 서비스 결과와 같은지 테스트")
+    void brandTest() {
+        BrandLowestPriceResponseDto lowestPriceBrand = getBody("/api/implement2/lowest_price_brand", BrandLowestPriceResponseDto.class);
+        assertThat(lowestPriceBrand).usingRecursiveComparison().isEqualTo(brandPriceService.getLowestPriceBrand());
+        assertThat(lowestPriceBrand.get최저가().get브랜드()).isEqualTo("A");
+
+        BrandRankingResponseDto ranking = getBody("/api/implement2/brand_ranking?size=1", BrandRankingResponseDto.class);
+        assertThat(ranking).usingRecursiveComparison().isEqualTo(brandPriceService.getBrandRanking(1));
+
+        webTestClient.get().uri("/api/implement2/brand_ranking/B").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.순위").isEqualTo(2);
+
+        webTestClient.get().uri("/api/implement2/brand_ranking/C").exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.message").isEqualTo("순위에 없는 브랜드 입니다.");
+
+        webTestClient.get().uri("/api/implement2/brand_ranking?size=0").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("구현 3 리액티브 응답이 서블릿 스택 서비스 결과와 같은지 테스트")
+    void categoryTest() {
+        LowestHighestResponseDto lowestHighest = getBody("/api/implement3/lowest_highest?category=상의", LowestHighestResponseDto.class);
+        assertThat(lowestHighest).usingRecursiveComparison().isEqualTo(lowestHighestService.findLowestHighestPrice("상의"));
+
+        PriceRangeResponseDto priceRange = getBody("/api/implement3/price_range?category=상의&minPrice=9000&size=2", PriceRangeResponseDto.class);
+        assertThat(priceRange).usingRecursiveComparison().isEqualTo(priceRangeService.findByPriceRange("상의", 9000, null, 2));
+        assertThat(priceRange.getTotalCount()).isEqualTo(4);
+
+        webTestClient.get().uri("/api/implement3/lowest_highest?category=가방").exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.message").isEqualTo("존재하지 않는 카테고리 입니다.");
+
+        webTestClient.get().uri("/api/implement3/price_range?category=상의&minPrice=2&maxPrice=1").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message").isEqualTo("최소 가격은 최대 가격보다 클 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("리액티브 서버가 서블릿 컨트롤러와 같은 응답 스냅샷과 ETag 를 사용하는지 테스트")
+    void responseSnapshotTest() throws Exception {
+        String etag = webTestClient.get().uri("/api/implement1/category_lowest_price").exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+        assertThat(etag).isNotNull();
+
+        webTestClient.get().uri("/api/implement1/category_lowest_price").header(HttpHeaders.IF_NONE_MATCH, etag).exchange()
+                .expectStatus().isNotModified();
+        mockMvc.perform(get("/api/implement1/category_lowest_price").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("인덱스를 사용할 수 없으면 R2DBC 조회 결과가 서블릿 스택의 DB 조회 결과와 같은지 테스트")
+    void databaseReadTest() {
+        doReturn(false).when(itemIndexManager).isReadable();
+
+        LowestPriceResponseDto lowestPrice = getBody("/api/implement1/category_lowest_price", LowestPriceResponseDto.class);
+        assertThat(lowestPrice).usingRecursiveComparison().isEqualTo(lowestPriceService.getLowestPrice());
+
+        BrandLowestPriceResponseDto lowestPriceBrand = getBody("/api/implement2/lowest_price_brand", BrandLowestPriceResponseDto.class);
+        assertThat(lowestPriceBrand).usingRecursiveComparison().isEqualTo(brandPriceService.getLowestPriceBrand());
+
+        BrandRankingResponseDto ranking = getBody("/api/implement2/brand_ranking?size=2", BrandRankingResponseDto.class);
+        assertThat(ranking).usingRecursiveComparison().isEqualTo(brandPriceService.getBrandRanking(2));
+
+        webTestClient.get().uri("/api/implement2/brand_ranking/B").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.순위").isEqualTo(2);
+
+        PriceRangeResponseDto priceRange = getBody("/api/implement3/price_range?category=상의&minPrice=9000&size=2", PriceRangeResponseDto.class);
+        assertThat(priceRange).usingRecursiveComparison().isEqualTo(priceRangeService.findByPriceRange("상의", 9000, null, 2));
+
+        webTestClient.get().uri("/api/implement3/price_range?category=가방").exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("reactive 프로필에서도 서블릿 애플리케이션의 구현 4 와 화면을 제공하는지 테스트")
+    void servletEndpointsTest() throws Exception {
+        mockMvc.perform(get("/api/implement4/items")).andExpect(status().isOk());
+        mockMvc.perform(get("/")).andExpect(status().isOk());
+    }
+
+    private <T> T getBody(String uri, Class<T> type) {
+        return webTestClient.get().uri(uri).exchange()
+                .expectStatus().isOk()
+                .expectBody(type)
+                .returnResult()
+                .getResponseBody();
+    }
+}
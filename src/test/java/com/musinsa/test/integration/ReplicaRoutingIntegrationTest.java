@@ -0,0 +1,114 @@
+package com.musinsa.test.integration;
+
+import com.musinsa.test.domain.Item;
+import com.musinsa.test.dto.ItemRequestDto;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.replica.ReplicaSynchronizer;
+import com.musinsa.test.repository.ItemRepository;
+import com.musinsa.test.service.ItemService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 분리 확인, 복제본 반영은 커밋 이후에 일어나므로 테스트 트랜잭션 없이 실행
+ * 복제 지연(1초)이 허용 지연(300ms)보다 크게 설정되어 있어서 쓰기 직후에는 원본, 반영 후에는 복제본으로 조회
+ */
+@SpringBootTest(properties = {
+        "catalog.replica.enabled=true",
+        "catalog.replica.url=jdbc:h2:mem:replica-test;DB_CLOSE_DELAY=-1",
+        "catalog.replica.max-staleness=300ms",
+        "catalog.replica.replication-delay=1s"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingIntegrationTest {
+
+    private static final String CURRENT_DATABASE = "SELECT DATABASE()";
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemIndexManager itemIndexManager;
+
+    @Autowired
+    private ReplicaSynchronizer replicaSynchronizer;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        itemRepository.deleteAll();
+        itemIndexManager.rebuild();
+        awaitReplication();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 원본 사용 테스트")
+    void routeByTransactionTypeTest() throws InterruptedException {
+        awaitReplication();
+
+        assertThat(currentDatabase(true)).isEqualTo("REPLICA-TEST");
+        assertThat(currentDatabase(false)).startsWith("TESTDB-");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용 범위를 넘으면 원본으로 조회하고, 반영 후 복제본으로 조회하는지 테스트")
+    void fallbackToPrimaryWhenStaleTest() throws InterruptedException {
+        Item item = itemService.createItem(new ItemRequestDto("A", "상의", 10000));
+
+        Thread.sleep(500);
+        assertThat(replicaSynchronizer.isWithinStaleness()).isFalse();
+        assertThat(currentDatabase(true)).startsWith("TESTDB-");
+
+        awaitReplication();
+        assertThat(currentDatabase(true)).isEqualTo("REPLICA-TEST");
+        assertThat(new JdbcTemplate(replicaDataSource)
+                .queryForObject("SELECT price FROM items WHERE id = ?", Integer.class, item.getId()))
+                .isEqualTo(10000);
+
+        itemService.deleteItem(item.getId());
+        awaitReplication();
+        assertThat(new JdbcTemplate(replicaDataSource)
+                .queryForObject("SELECT COUNT(*) FROM items WHERE id = ?", Integer.class, item.getId()))
+                .isZero();
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(status -> new JdbcTemplate(dataSource).queryForObject(CURRENT_DATABASE, String.class));
+    }
+
+    private void awaitReplication() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!replicaSynchronizer.getLag().isZero() || !replicaSynchronizer.isWithinStaleness()) {
+            assertThat(System.nanoTime()).as("복제본 반영 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
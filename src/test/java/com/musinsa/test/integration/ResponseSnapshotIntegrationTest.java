@@ -0,0 +1,91 @@
+package com.musinsa.test.integration;
+
+import com.musinsa.test.dto.ItemRequestDto;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.repository.ItemRepository;
+import com.musinsa.test.service.ItemService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 응답 스냅샷은 커밋된 변경만 반영하므로 테스트 트랜잭션 없이 실행
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ResponseSnapshotIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemIndexManager itemIndexManager;
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAll();
+        itemIndexManager.rebuild();
+    }
+
+    @Test
+    @DisplayName("카테고리별 최저가 응답 ETag 와 304 응답 테스트")
+    void categoryLowestPriceETagTest() throws Exception {
+        itemService.createItem(new ItemRequestDto("A", "상의", 10000));
+
+        String etag = mockMvc.perform(get("/api/implement1/category_lowest_price"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.lowestPriceItems[0].brand").value("A"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/implement1/category_lowest_price")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // 상품이 바뀌면 새 ETag 로 응답
+        itemService.createItem(new ItemRequestDto("B", "상의", 5000));
+
+        String newEtag = mockMvc.perform(get("/api/implement1/category_lowest_price")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lowestPriceItems[0].brand").value("B"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(newEtag).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("최저 총액 브랜드 응답 ETag 와 304 응답 테스트")
+    void lowestPriceBrandETagTest() throws Exception {
+        itemService.createItem(new ItemRequestDto("A", "상의", 10000));
+
+        String etag = mockMvc.perform(get("/api/implement2/lowest_price_brand"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.최저가.브랜드").value("A"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(etag).isNotNull();
+
+        mockMvc.perform(get("/api/implement2/lowest_price_brand")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+}
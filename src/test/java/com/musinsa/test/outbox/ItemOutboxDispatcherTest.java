@@ -0,0 +1,240 @@
+package com.musinsa.test.outbox;
+
+import com.musinsa.test.domain.ItemChangeType;
+import com.musinsa.test.dto.ItemRequestDto;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.outbox.ItemChanged.ItemValues;
+import com.musinsa.test.repository.ItemOutboxRepository;
+import com.musinsa.test.repository.ItemRepository;
+import com.musinsa.test.service.ItemService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * outbox 기록과 전달은 커밋 이후에 일어나므로 테스트 트랜잭션 없이 실행
+ */
+@SpringBootTest(properties = "catalog.outbox.batch-size=2")
+@ActiveProfiles("test")
+@Import(ItemOutboxDispatcherTest.Config.class)
+class ItemOutboxDispatcherTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemIndexManager itemIndexManager;
+
+    @Autowired
+    private ItemOutboxRepository itemOutboxRepository;
+
+    @Autowired
+    private ItemOutboxDispatcher itemOutboxDispatcher;
+
+    @Autowired
+    private RecordingConsumer recordingConsumer;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        recordingConsumer.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAll();
+        itemOutboxRepository.deleteAll();
+        itemIndexManager.rebuild();
+    }
+
+    @Test
+    @DisplayName("커밋된 생성/갱신/삭제 이벤트가 변경 전후 값과 함께 순서대로 전달되는지 테스트")
+    void deliveredInOrderAfterCommitTest() throws InterruptedException {
+        Long itemId = itemService.createItem(new ItemRequestDto("A", "상의", 10000)).getId();
+        itemService.updateItem(new ItemRequestDto("B", "바지", 20000), itemId);
+        itemService.deleteItem(itemId);
+
+        List<ItemChanged> events = recordingConsumer.await(3);
+
+        assertThat(events).extracting(ItemChanged::type)
+                .containsExactly(ItemChangeType.CREATED, ItemChangeType.UPDATED, ItemChangeType.DELETED);
+        assertThat(events).extracting(ItemChanged::itemId).containsOnly(itemId);
+        assertThat(events.get(1).before()).isEqualTo(new ItemValues("A", "상의", 10000));
+        assertThat(events.get(1).after()).isEqualTo(new ItemValues("B", "바지", 20000));
+        assertThat(events.get(2).after()).isNull();
+        assertThat(events).extracting(ItemChanged::eventId).isSorted();
+        assertThat(events).extracting(ItemChanged::itemVersion).containsExactly(0L, 1L, 1L);
+        assertThat(events.get(2).isAfter(events.get(1))).isTrue();
+
+        // 배치 크기(2) 단위로 묶어서 전달
+        assertThat(recordingConsumer.batchSizes()).allMatch(size -> size <= 2);
+    }
+
+    @Test
+    @DisplayName("같은 상품의 동시 갱신 이벤트가 버전 순서로 이어지고 변경 전 값이 직전 변경 후 값과 같은지 테스트")
+    void concurrentUpdatesChainedTest() throws Exception {
+        Long itemId = itemService.createItem(new ItemRequestDto("A", "상의", 10000)).getId();
+
+        int threads = 4;
+        int updatesPerThread = 5;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                int base = (thread + 1) * 100_000;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int update = 1; update <= updatesPerThread; update++) {
+                        itemService.updateItem(new ItemRequestDto("A", "상의", base + update), itemId);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int updates = threads * updatesPerThread;
+        List<ItemChanged> events = recordingConsumer.await(updates + 1);
+        assertThat(events).hasSize(updates + 1);
+
+        // 이벤트를 버전 순서로 두면 각 갱신의 변경 전 값은 직전 변경의 변경 후 값
+        List<ItemChanged> byVersion = events.stream().sorted(Comparator.comparingLong(ItemChanged::itemVersion)).toList();
+        assertThat(byVersion).extracting(ItemChanged::itemVersion)
+                .containsExactlyElementsOf(LongStream.rangeClosed(0, updates).boxed().toList());
+        for (int i = 1; i < byVersion.size(); i++) {
+            assertThat(byVersion.get(i).before()).isEqualTo(byVersion.get(i - 1).after());
+            assertThat(byVersion.get(i).isAfter(byVersion.get(i - 1))).isTrue();
+        }
+
+        // 인스턴스 하나에서는 행 잠금 이후에 ID 를 받으므로 outbox ID 순서도 버전 순서와 같음
+        // (커밋 직후 전달은 동시에 커밋된 트랜잭션끼리 순서가 바뀔 수 있으므로 도착 순서가 아니라 ID 순서로 확인)
+        assertThat(events.stream().sorted(Comparator.comparingLong(ItemChanged::eventId)).toList())
+                .extracting(ItemChanged::itemVersion)
+                .isSorted();
+        assertThat(itemRepository.findById(itemId).orElseThrow().getPrice()).isEqualTo(byVersion.getLast().after().price());
+    }
+
+    @Test
+    @DisplayName("커밋한 스레드가 바로 전달한 이벤트를 디스패처가 다시 전달하지 않고 삭제만 하는지 테스트")
+    void deliveredOnCommitNotRedeliveredTest() {
+        Long itemId = itemService.createItem(new ItemRequestDto("A", "상의", 10000)).getId();
+
+        // 커밋 직후 커밋한 스레드에서 전달하므로 기다리지 않아도 이미 전달됨
+        assertThat(recordingConsumer.events()).extracting(ItemChanged::itemId).containsExactly(itemId);
+
+        assertThat(itemOutboxDispatcher.dispatch()).isZero();
+        assertThat(itemOutboxRepository.count()).isZero();
+        assertThat(recordingConsumer.events()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("롤백된 변경은 outbox 에 남지 않는지 테스트")
+    void rolledBackChangeNotRecordedTest() {
+        transactionTemplate.executeWithoutResult(status -> {
+            itemService.createItem(new ItemRequestDto("A", "상의", 10000));
+            status.setRollbackOnly();
+        });
+
+        assertThat(itemOutboxRepository.count()).isZero();
+        assertThat(recordingConsumer.events()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("소비자 처리가 실패하면 outbox 에 남아서 다시 전달되는지 테스트")
+    void redeliveredAfterFailureTest() throws InterruptedException {
+        recordingConsumer.failNext();
+
+        itemService.createItem(new ItemRequestDto("A", "상의", 10000));
+        Thread.sleep(200);
+        assertThat(itemOutboxRepository.count()).isEqualTo(1);
+
+        itemOutboxDispatcher.dispatch();
+
+        assertThat(recordingConsumer.await(1)).extracting(ItemChanged::type).containsExactly(ItemChangeType.CREATED);
+        assertThat(itemOutboxRepository.count()).isZero();
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        RecordingConsumer recordingConsumer() {
+            return new RecordingConsumer();
+        }
+    }
+
+    static class RecordingConsumer implements ItemChangeConsumer {
+
+        private final List<ItemChanged> events = new ArrayList<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private final AtomicBoolean failNext = new AtomicBoolean();
+
+        @Override
+        public synchronized void accept(List<ItemChanged> batch) {
+            if (failNext.getAndSet(false)) {
+                throw new IllegalStateException("소비자 처리 실패");
+            }
+            events.addAll(batch);
+            batchSizes.add(batch.size());
+        }
+
+        synchronized void reset() {
+            events.clear();
+            batchSizes.clear();
+            failNext.set(false);
+        }
+
+        void failNext() {
+            failNext.set(true);
+        }
+
+        synchronized List<ItemChanged> events() {
+            return List.copyOf(events);
+        }
+
+        synchronized List<Integer> batchSizes() {
+            return List.copyOf(batchSizes);
+        }
+
+        List<ItemChanged> await(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (events().size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            return events();
+        }
+    }
+}
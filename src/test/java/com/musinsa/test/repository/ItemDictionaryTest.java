@@ -0,0 +1,67 @@
+package com.musinsa.test.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(ItemDictionary.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ItemDictionaryTest {
+
+    @Autowired
+    private ItemDictionary itemDictionary;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("REQUIRES_NEW 트랜잭션에는 바깥 트랜잭션의 커밋되지 않은 매핑이 보이지 않는지 테스트")
+    void nestedTransactionDoesNotSeeOuterPendingTest() {
+        ItemDictionary.Dictionary brands = itemDictionary.brands();
+        String outerBrand = "outer-" + UUID.randomUUID();
+        String innerBrand = "inner-" + UUID.randomUUID();
+
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        TransactionTemplate inner = new TransactionTemplate(transactionManager);
+        inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        AtomicReference<Integer> outerIdInInner = new AtomicReference<>();
+        AtomicInteger innerId = new AtomicInteger();
+
+        outer.executeWithoutResult(status -> {
+            int outerId = brands.register(outerBrand);
+
+            inner.executeWithoutResult(innerStatus -> {
+                outerIdInInner.set(brands.findId(outerBrand));
+                innerId.set(brands.register(innerBrand));
+            });
+
+            // 안쪽 트랜잭션이 끝난 뒤에도 바깥 트랜잭션의 매핑은 그대로 사용
+            assertThat(brands.findId(outerBrand)).isEqualTo(outerId);
+            status.setRollbackOnly();
+        });
+
+        assertThat(outerIdInInner.get()).isNull();
+
+        // 커밋된 안쪽 트랜잭션의 매핑만 남고, 롤백된 바깥 트랜잭션의 매핑은 버림
+        assertThat(brands.findId(innerBrand)).isEqualTo(innerId.get());
+        assertThat(brands.findName(innerId.get())).isEqualTo(innerBrand);
+        assertThat(brands.findId(outerBrand)).isNull();
+    }
+}
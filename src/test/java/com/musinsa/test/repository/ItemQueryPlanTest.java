@@ -0,0 +1,144 @@
+package com.musinsa.test.repository;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 구현 1, 3 의 최저가/최고가 DB 조회가 idx_category_price_covering 을 정렬 없이 사용하는지 H2 실행 계획으로 확인
+ * 인덱스는 마이그레이션에만 있으므로 Hibernate 스키마 생성 대신 Flyway 스키마(V1 시드 데이터 포함)를 사용
+ * Hibernate 가 실제로 실행한 SQL 과 파라미터를 그대로 EXPLAIN 하므로 쿼리를 바꾸면 계획도 함께 확인됨
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@Import(ItemQueryPlanTest.Config.class)
+@ActiveProfiles("test")
+class ItemQueryPlanTest {
+
+    private static final String COVERING_INDEX = "PUBLIC.IDX_CATEGORY_PRICE_COVERING";
+
+    // H2 가 정렬을 생략한 SELECT 마다 붙이는 표시
+    private static final String INDEX_SORTED = "/* index sorted */";
+
+    private static final List<QueryInfo> EXECUTED = new ArrayList<>();
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("구현 1) 카테고리 최저가 상품 조회가 커버링 인덱스를 정렬 없이 사용하는지 테스트")
+    void lowestPriceItemPlanTest() {
+        String plan = explain(() -> itemRepository.findFirstByCategoryOrderByPriceAscUpdatedAtDesc("상의"));
+
+        assertThat(plan).contains(COVERING_INDEX + ": CATEGORY_ID = ");
+        assertThat(plan).contains(INDEX_SORTED);
+        assertThat(plan).doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("구현 3) 카테고리 최저가/최고가 상품 조회가 커버링 인덱스의 가격 구간만 읽는지 테스트")
+    void lowestHighestPriceItemsPlanTest() {
+        String plan = explain(() -> itemRepository.findLowestHighestPriceItems("상의"));
+
+        // 최저가, 최고가 구간 모두 카테고리와 가격 조건으로 인덱스를 찾고, 바깥 ORDER BY 는 두 구간의 상품만 정렬
+        assertThat(plan).contains(COVERING_INDEX + ": CATEGORY_ID = ");
+        assertThat(plan.split(Pattern.quote("AND PRICE = (SELECT"), -1)).hasSizeGreaterThanOrEqualTo(3);
+        assertThat(plan).doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("조회 결과는 기존 정렬 기준과 같은지 테스트")
+    void queryResultTest() {
+        assertThat(itemRepository.findFirstByCategoryOrderByPriceAscUpdatedAtDesc("상의"))
+                .hasValueSatisfying(item -> {
+                    assertThat(item.getBrand()).isEqualTo("C");
+                    assertThat(item.getPrice()).isEqualTo(10000);
+                });
+
+        assertThat(itemRepository.findLowestHighestPriceItems("상의"))
+                .extracting(item -> item.getBrand() + ":" + item.getPrice())
+                .containsExactly("C:10000", "I:11400");
+    }
+
+    /**
+     * 조회가 실행한 마지막 SQL 을 같은 파라미터로 EXPLAIN
+     */
+    private String explain(Runnable query) {
+        synchronized (EXECUTED) {
+            EXECUTED.clear();
+        }
+        query.run();
+
+        QueryInfo queryInfo;
+        synchronized (EXECUTED) {
+            assertThat(EXECUTED).isNotEmpty();
+            queryInfo = EXECUTED.getLast();
+        }
+
+        Object[] parameters = queryInfo.getParametersList().getFirst().stream()
+                .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                .map(operation -> operation.getArgs()[1])
+                .toArray();
+        return jdbcTemplate.queryForObject("EXPLAIN " + queryInfo.getQuery(), String.class, parameters);
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        static BeanPostProcessor queryPlanDataSourceProxy() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                        return bean;
+                    }
+
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("query-plan")
+                            .listener(new QueryRecorder())
+                            .build();
+                }
+            };
+        }
+    }
+
+    private static class QueryRecorder implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            synchronized (EXECUTED) {
+                EXECUTED.addAll(queryInfoList);
+            }
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package com.musinsa.test.repository;
 
 import com.musinsa.test.domain.Item;
+import com.musinsa.test.dto.BrandPriceProjection;
+import com.musinsa.test.dto.BrandTotalPriceProjection;
+import com.musinsa.test.dto.CategoryLowestPriceProjection;
+import com.musinsa.test.dto.CategoryPriceProjection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Date;
@@ -16,6 +25,7 @@ import java.util.concurrent.TimeUnit;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@Import(ItemDictionary.class)
 @ActiveProfiles("test")
 class ItemRepositoryTest {
 
@@ -79,7 +89,8 @@ class ItemRepositoryTest {
                 .updatedAt(new Date())
                 .build();
 
-        // 시간차 발생 용도
+        // updatedAt 은 저장 시점(@PrePersist)에 설정되므로 저장 사이에 시간차 발생
+        itemRepository.save(shirt1);
         TimeUnit.SECONDS.sleep(1);
 
         Item shirt2 = Item.builder()
@@ -90,7 +101,6 @@ class ItemRepositoryTest {
                 .updatedAt(new Date())
                 .build();
 
-        itemRepository.save(shirt1);
         itemRepository.save(shirt2);
 
         Optional<Item> lowestPriceItem = itemRepository.findFirstByCategoryOrderByPriceAscUpdatedAtDesc("상의");
@@ -111,7 +121,8 @@ class ItemRepositoryTest {
                 .updatedAt(new Date())
                 .build();
 
-        // 시간차 발생 용도
+        // updatedAt 은 저장 시점(@PrePersist)에 설정되므로 저장 사이에 시간차 발생
+        itemRepository.save(shirt1);
         TimeUnit.SECONDS.sleep(1);
 
         Item shirt2 = Item.builder()
@@ -122,7 +133,6 @@ class ItemRepositoryTest {
                 .updatedAt(new Date())
                 .build();
 
-        itemRepository.save(shirt1);
         itemRepository.save(shirt2);
 
         Optional<Item> highestPriceItem = itemRepository.findFirstByCategoryOrderByPriceDescUpdatedAtAsc("상의");
@@ -130,6 +140,91 @@ class ItemRepositoryTest {
         assertThat(highestPriceItem.get().getBrand()).isEqualTo("A");
     }
 
+    @Test
+    @DisplayName("윈도우 함수로 카테고리별 최저가 상품 일괄 조회 테스트")
+    void findLowestPriceItemsByCategoryTest() throws InterruptedException {
+        itemRepository.deleteAll();
+
+        Item shirt1 = Item.builder()
+                .brand("A")
+                .category("상의")
+                .price(10000)
+                .build();
+
+        Item pants = Item.builder()
+                .brand("C")
+                .category("하의")
+                .price(20000)
+                .build();
+
+        itemRepository.save(shirt1);
+        itemRepository.save(pants);
+
+        // 시간차 발생 용도
+        TimeUnit.SECONDS.sleep(1);
+
+        Item shirt2 = Item.builder()
+                .brand("B")
+                .category("상의")
+                .price(10000)
+                .build();
+
+        itemRepository.save(shirt2);
+
+        List<CategoryLowestPriceProjection> result = itemRepository.findLowestPriceItemsByCategory();
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getCategory()).isEqualTo("상의");
+        assertThat(result.get(0).getBrand()).isEqualTo("B");
+        assertThat(result.get(0).getPrice()).isEqualTo(10000);
+        assertThat(result.get(1).getCategory()).isEqualTo("하의");
+        assertThat(result.get(1).getBrand()).isEqualTo("C");
+    }
+
+    @Test
+    @DisplayName("모든 카테고리를 보유한 브랜드의 최저가 합계 집계 테스트")
+    void findCompleteBrandTotalPricesTest() {
+        itemRepository.deleteAll();
+
+        itemRepository.save(Item.builder().brand("A").category("상의").price(10000).build());
+        itemRepository.save(Item.builder().brand("A").category("상의").price(8000).build());
+        itemRepository.save(Item.builder().brand("A").category("하의").price(20000).build());
+        itemRepository.save(Item.builder().brand("B").category("상의").price(5000).build());
+        itemRepository.save(Item.builder().brand("B").category("하의").price(15000).build());
+        itemRepository.save(Item.builder().brand("C").category("상의").price(1000).build());
+
+        // C 는 하의가 없으므로 제외
+        List<BrandTotalPriceProjection> result = itemRepository.findCompleteBrandTotalPrices(PageRequest.of(0, 10));
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getBrand()).isEqualTo("B");
+        assertThat(result.get(0).getTotalPrice()).isEqualTo(20000L);
+        assertThat(result.get(1).getBrand()).isEqualTo("A");
+        assertThat(result.get(1).getTotalPrice()).isEqualTo(28000L);
+
+        List<CategoryPriceProjection> lowestPrices = itemRepository.findLowestPricesByBrand("A");
+        assertThat(lowestPrices).hasSize(2);
+        assertThat(lowestPrices.get(0).getCategory()).isEqualTo("상의");
+        assertThat(lowestPrices.get(0).getPrice()).isEqualTo(8000);
+        assertThat(lowestPrices.get(1).getCategory()).isEqualTo("하의");
+        assertThat(lowestPrices.get(1).getPrice()).isEqualTo(20000);
+    }
+
+    @Test
+    @DisplayName("카테고리의 최저가, 최고가 상품을 동일 가격 상품까지 한 번에 조회 테스트")
+    void findLowestHighestPriceItemsTest() {
+        itemRepository.deleteAll();
+
+        itemRepository.save(Item.builder().brand("A").category("상의").price(10000).build());
+        itemRepository.save(Item.builder().brand("B").category("상의").price(10000).build());
+        itemRepository.save(Item.builder().brand("C").category("상의").price(15000).build());
+        itemRepository.save(Item.builder().brand("D").category("상의").price(20000).build());
+        itemRepository.save(Item.builder().brand("E").category("하의").price(30000).build());
+
+        List<BrandPriceProjection> result = itemRepository.findLowestHighestPriceItems("상의");
+        assertThat(result).extracting(BrandPriceProjection::getPrice).containsExactly(10000, 10000, 20000);
+        // 같은 가격 안에서는 최근 수정 순, 같으면 ID 큰 순
+        assertThat(result).extracting(BrandPriceProjection::getBrand).containsExactly("B", "A", "D");
+    }
+
     @Test
     @DisplayName("카테고리가 없을 때 빈 결과 반환 테스트")
     void findCategoriesEmptyTest() {
@@ -138,4 +233,41 @@ class ItemRepositoryTest {
         List<String> categories = itemRepository.findCategories();
         assertThat(categories).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("keyset 페이지네이션으로 ID 내림차순 조회 테스트")
+    void findByIdLessThanOrderByIdDescTest() {
+        itemRepository.deleteAll();
+
+        for (int i = 0; i < 5; i++) {
+            itemRepository.save(Item.builder().brand("A").category("상의").price(1000 * (i + 1)).build());
+        }
+
+        List<Item> firstPage = itemRepository.findAllByOrderByIdDesc(Limit.of(2));
+        assertThat(firstPage).extracting(Item::getPrice).containsExactly(5000, 4000);
+
+        List<Item> secondPage = itemRepository.findByIdLessThanOrderByIdDesc(firstPage.getLast().getId(), Limit.of(2));
+        assertThat(secondPage).extracting(Item::getPrice).containsExactly(3000, 2000);
+
+        List<Item> lastPage = itemRepository.findByIdLessThanOrderByIdDesc(secondPage.getLast().getId(), Limit.of(2));
+        assertThat(lastPage).extracting(Item::getPrice).containsExactly(1000);
+    }
+
+    @Test
+    @DisplayName("Slice 조회 시 다음 페이지 존재 여부 테스트")
+    void findSliceByTest() {
+        itemRepository.deleteAll();
+
+        for (int i = 0; i < 3; i++) {
+            itemRepository.save(Item.builder().brand("A").category("상의").price(1000 * (i + 1)).build());
+        }
+
+        Slice<Item> firstSlice = itemRepository.findSliceBy(PageRequest.of(0, 2, Sort.by("id").descending()));
+        assertThat(firstSlice.getContent()).extracting(Item::getPrice).containsExactly(3000, 2000);
+        assertThat(firstSlice.hasNext()).isTrue();
+
+        Slice<Item> lastSlice = itemRepository.findSliceBy(PageRequest.of(1, 2, Sort.by("id").descending()));
+        assertThat(lastSlice.getContent()).extracting(Item::getPrice).containsExactly(1000);
+        assertThat(lastSlice.hasNext()).isFalse();
+    }
+}
@@ -1,7 +1,15 @@
 package com.musinsa.test.service;
 
-import com.musinsa.test.domain.Item;
 import com.musinsa.test.dto.BrandLowestPriceResponseDto;
+import com.musinsa.test.dto.BrandRankDto;
+import com.musinsa.test.dto.BrandRankingResponseDto;
+import com.musinsa.test.dto.BrandTotalPriceProjection;
+import com.musinsa.test.dto.CategoryPriceProjection;
+import com.musinsa.test.exception.RecordNotFoundException;
+import com.musinsa.test.index.BrandLowestPriceIndex;
+import com.musinsa.test.index.BrandLowestPriceIndex.BrandCategoryPrices;
+import com.musinsa.test.index.BrandLowestPriceIndex.RankedBrand;
+import com.musinsa.test.index.ItemIndexManager;
 import com.musinsa.test.repository.ItemRepository;
 import com.musinsa.test.util.PriceFormatter;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,10 +19,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,84 +36,46 @@ class BrandPriceServiceTest {
     @Mock
     private ItemRepository itemRepository;
 
+    @Mock
+    private BrandLowestPriceIndex brandLowestPriceIndex;
+
+    @Mock
+    private ItemIndexManager itemIndexManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private BrandPriceService brandPriceService;
 
-    private List<Item> items;
-    private List<String> categories;
+    private BrandTotalPriceProjection brandTotalPriceA;
+    private List<CategoryPriceProjection> categoryPricesA;
 
     @BeforeEach
     void setUp() {
-        categories = Arrays.asList("상의", "하의", "신발");
-        items = new ArrayList<>();
-
-        Item shirtA = Item.builder()
-                .id(1L)
-                .brand("A")
-                .category("상의")
-                .price(10000)
-                .createdAt(new Date())
-                .updatedAt(new Date())
-                .build();
-
-        Item pantsA = Item.builder()
-                .id(2L)
-                .brand("A")
-                .category("하의")
-                .price(20000)
-                .createdAt(new Date())
-                .updatedAt(new Date())
-                .build();
-
-        Item shoesA = Item.builder()
-                .id(3L)
-                .brand("A")
-                .category("신발")
-                .price(30000)
-                .createdAt(new Date())
-                .updatedAt(new Date())
-                .build();
-
-        Item shirtB = Item.builder()
-                .id(4L)
-                .brand("B")
-                .category("상의")
-                .price(15000)
-                .createdAt(new Date())
-                .updatedAt(new Date())
-                .build();
-
-        Item pantsB = Item.builder()
-                .id(5L)
-                .brand("B")
-                .category("하의")
-                .price(18000)
-                .createdAt(new Date())
-                .updatedAt(new Date())
-                .build();
-
-        Item shoesB = Item.builder()
-                .id(6L)
-                .brand("B")
-                .category("신발")
-                .price(28000)
-                .createdAt(new Date())
-                .updatedAt(new Date())
-                .build();
-
-        items.add(shirtA);
-        items.add(pantsA);
-        items.add(shoesA);
-        items.add(shirtB);
-        items.add(pantsB);
-        items.add(shoesB);
+        brandTotalPriceA = mock(BrandTotalPriceProjection.class);
+        lenient().when(brandTotalPriceA.getBrand()).thenReturn("A");
+        lenient().when(brandTotalPriceA.getTotalPrice()).thenReturn(60000L);
+
+        categoryPricesA = List.of(
+                categoryPrice("상의", 10000),
+                categoryPrice("하의", 20000),
+                categoryPrice("신발", 30000)
+        );
+    }
+
+    private CategoryPriceProjection categoryPrice(String category, int price) {
+        CategoryPriceProjection categoryPrice = mock(CategoryPriceProjection.class);
+        lenient().when(categoryPrice.getCategory()).thenReturn(category);
+        lenient().when(categoryPrice.getPrice()).thenReturn(price);
+        return categoryPrice;
     }
 
     @Test
     @DisplayName("브랜드별 최저가 상품 조회 및 총액 계산 테스트")
     void getLowestPriceBrandTest() {
-        when(itemRepository.findAll()).thenReturn(items);
-        when(itemRepository.findCategories()).thenReturn(categories);
+        when(itemRepository.findCompleteBrandTotalPrices(any(Pageable.class))).thenReturn(List.of(brandTotalPriceA));
+        when(itemRepository.findLowestPricesByBrand("A")).thenReturn(categoryPricesA);
 
         BrandLowestPriceResponseDto result = brandPriceService.getLowestPriceBrand();
 
@@ -120,7 +95,87 @@ class BrandPriceServiceTest {
         assertThat(result.get최저가().get카테고리().get(2).get카테고리()).isEqualTo("신발");
         assertThat(result.get최저가().get카테고리().get(2).get가격()).isEqualTo(PriceFormatter.KorFormat(30000));
 
-        verify(itemRepository, times(1)).findAll();
-        verify(itemRepository, times(1)).findCategories();
+        // 전체 상품을 조회하지 않고 집계 쿼리만 사용
+        verify(itemRepository, times(1)).findCompleteBrandTotalPrices(any(Pageable.class));
+        verify(itemRepository, times(1)).findLowestPricesByBrand("A");
+        verify(itemRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("모든 카테고리를 가진 브랜드가 없을 때 빈 응답 테스트")
+    void getLowestPriceBrandEmptyTest() {
+        when(itemRepository.findCompleteBrandTotalPrices(any(Pageable.class))).thenReturn(List.of());
+
+        BrandLowestPriceResponseDto result = brandPriceService.getLowestPriceBrand();
+
+        assertThat(result.get최저가()).isNull();
+        verify(itemRepository, never()).findLowestPricesByBrand(any());
+    }
+
+    @Test
+    @DisplayName("인덱스 사용 가능 시 DB 조회 없이 최저 총액 브랜드 조회 테스트")
+    void getLowestPriceBrandFromIndexTest() {
+        SortedMap<String, Integer> lowestPriceByCategory = new TreeMap<>(Map.of("상의", 10000, "신발", 30000, "하의", 20000));
+        when(itemIndexManager.isReadable()).thenReturn(true);
+        when(brandLowestPriceIndex.findLowestPriceBrand())
+                .thenReturn(Optional.of(new BrandCategoryPrices("A", lowestPriceByCategory, 60000)));
+
+        BrandLowestPriceResponseDto result = brandPriceService.getLowestPriceBrand();
+
+        assertThat(result.get최저가().get브랜드()).isEqualTo("A");
+        assertThat(result.get최저가().get총액()).isEqualTo(PriceFormatter.KorFormat(60000));
+        assertThat(result.get최저가().get카테고리()).extracting("카테고리").containsExactly("상의", "신발", "하의");
+
+        verifyNoInteractions(itemRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("인덱스에 모든 카테고리를 가진 브랜드가 없을 때 빈 응답 테스트")
+    void getLowestPriceBrandFromIndexEmptyTest() {
+        when(itemIndexManager.isReadable()).thenReturn(true);
+        when(brandLowestPriceIndex.findLowestPriceBrand()).thenReturn(Optional.empty());
+
+        BrandLowestPriceResponseDto result = brandPriceService.getLowestPriceBrand();
+
+        assertThat(result.get최저가()).isNull();
+    }
+
+    @Test
+    @DisplayName("DB 집계 쿼리를 조회 개수로 제한한 브랜드 순위 조회 테스트")
+    void getBrandRankingTest() {
+        BrandTotalPriceProjection brandTotalPriceB = mock(BrandTotalPriceProjection.class);
+        when(brandTotalPriceB.getBrand()).thenReturn("B");
+        when(brandTotalPriceB.getTotalPrice()).thenReturn(61000L);
+        when(itemRepository.findCompleteBrandTotalPrices(PageRequest.of(0, 2))).thenReturn(List.of(brandTotalPriceA, brandTotalPriceB));
+
+        BrandRankingResponseDto result = brandPriceService.getBrandRanking(2);
+
+        assertThat(result.get순위()).extracting(BrandRankDto::get순위).containsExactly(1, 2);
+        assertThat(result.get순위()).extracting(BrandRankDto::get브랜드).containsExactly("A", "B");
+        assertThat(result.get순위()).extracting(BrandRankDto::get총액).containsExactly("60,000", "61,000");
+    }
+
+    @Test
+    @DisplayName("인덱스 사용 가능 시 DB 조회 없이 브랜드 순위 조회 테스트")
+    void getBrandRankingFromIndexTest() {
+        when(itemIndexManager.isReadable()).thenReturn(true);
+        when(brandLowestPriceIndex.findTopBrands(10)).thenReturn(List.of(new RankedBrand(1, "A", 60000)));
+        when(brandLowestPriceIndex.findBrandRank("A")).thenReturn(Optional.of(new RankedBrand(1, "A", 60000)));
+        when(brandLowestPriceIndex.findBrandRank("B")).thenReturn(Optional.empty());
+
+        assertThat(brandPriceService.getBrandRanking(10).get순위()).extracting(BrandRankDto::get브랜드).containsExactly("A");
+        assertThat(brandPriceService.getBrandRank("A").get총액()).isEqualTo("60,000");
+        assertThatThrownBy(() -> brandPriceService.getBrandRank("B")).isInstanceOf(RecordNotFoundException.class);
+
+        verifyNoInteractions(itemRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("조회 개수가 범위를 벗어나면 예외 테스트")
+    void getBrandRankingInvalidSizeTest() {
+        assertThatThrownBy(() -> brandPriceService.getBrandRanking(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> brandPriceService.getBrandRanking(101)).isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(itemRepository, transactionManager);
     }
 }
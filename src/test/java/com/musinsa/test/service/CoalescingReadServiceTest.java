@@ -0,0 +1,114 @@
+package com.musinsa.test.service;
+
+import com.musinsa.test.dto.LowestHighestResponseDto;
+import com.musinsa.test.dto.LowestPriceResponseDto;
+import com.musinsa.test.index.ItemIndexManager;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingReadServiceTest {
+
+    @Mock
+    private LowestPriceService lowestPriceService;
+
+    @Mock
+    private BrandPriceService brandPriceService;
+
+    @Mock
+    private LowestHighestService lowestHighestService;
+
+    @Mock
+    private ItemIndexManager itemIndexManager;
+
+    @InjectMocks
+    private CoalescingReadService coalescingReadService;
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        coalescingReadService.bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("같은 카테고리의 동시 조회가 조회 한 번의 결과를 함께 받는지 테스트")
+    void coalesceConcurrentFindLowestHighestPriceTest() throws Exception {
+        FunctionCounter coalesced = registry.get("catalog.singleflight.calls")
+                .tags("flight", "lowest_highest", "result", "coalesced")
+                .functionCounter();
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(lowestHighestService.findLowestHighestPrice("상의")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new LowestHighestResponseDto("상의", List.of(), List.of());
+        });
+
+        CompletableFuture<LowestHighestResponseDto> first =
+                CompletableFuture.supplyAsync(() -> coalescingReadService.findLowestHighestPrice("상의"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<LowestHighestResponseDto> second =
+                CompletableFuture.supplyAsync(() -> coalescingReadService.findLowestHighestPrice("상의"));
+
+        // 두 번째 호출이 진행 중인 조회에 합류한 뒤 조회를 끝냄
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalesced.count() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+        verify(lowestHighestService, times(1)).findLowestHighestPrice("상의");
+        assertThat(coalesced.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인덱스를 사용할 수 있으면 합치지 않고 바로 조회 테스트")
+    void readableIndexNotCoalescedTest() {
+        LowestPriceResponseDto response = new LowestPriceResponseDto(new ArrayList<>(), "0");
+        when(itemIndexManager.isReadable()).thenReturn(true);
+        when(lowestPriceService.getLowestPrice()).thenReturn(response);
+
+        assertThat(coalescingReadService.getLowestPrice()).isSameAs(response);
+        assertThat(coalescingReadService.getLowestPrice()).isSameAs(response);
+
+        verify(lowestPriceService, times(2)).getLowestPrice();
+        assertThat(registry.get("catalog.singleflight.calls")
+                .tags("flight", "lowest_price", "result", "leader")
+                .functionCounter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("인덱스를 사용할 수 없으면 조회 종류별 키로 합치는지 테스트")
+    void unreadableIndexCoalescedTest() {
+        when(itemIndexManager.isReadable()).thenReturn(false);
+
+        coalescingReadService.getBrandRanking(10);
+        coalescingReadService.getBrandRank("A");
+
+        verify(brandPriceService).getBrandRanking(10);
+        verify(brandPriceService).getBrandRank("A");
+        assertThat(registry.get("catalog.singleflight.calls")
+                .tags("flight", "brand_price", "result", "leader")
+                .functionCounter().count()).isEqualTo(2);
+    }
+}
@@ -1,9 +1,19 @@
 package com.musinsa.test.service;
 
+import com.musinsa.test.config.CatalogProperties;
 import com.musinsa.test.domain.Item;
+import com.musinsa.test.dto.ItemAdminDto;
+import com.musinsa.test.dto.ItemImportErrorDto;
+import com.musinsa.test.dto.ItemImportResultDto;
 import com.musinsa.test.dto.ItemRequestDto;
+import com.musinsa.test.dto.ItemScrollDto;
 import com.musinsa.test.exception.RecordNotFoundException;
+import com.musinsa.test.outbox.ItemChanged.ItemValues;
+import com.musinsa.test.outbox.ItemOutbox;
 import com.musinsa.test.repository.ItemRepository;
+import com.musinsa.test.util.ItemCursor;
+import com.musinsa.test.util.ItemImportReader;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,13 +21,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.io.StringReader;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +44,12 @@ class ItemServiceTest {
     @Mock
     private ItemRepository itemRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ItemOutbox itemOutbox;
+
     @InjectMocks
     private ItemService itemService;
 
@@ -91,6 +115,7 @@ class ItemServiceTest {
         assertThat(result.getPrice()).isEqualTo(10000);
 
         verify(itemRepository, times(1)).save(any(Item.class));
+        verify(itemOutbox, times(1)).recordCreated(testItem);
     }
 
     @Test
@@ -138,7 +163,7 @@ class ItemServiceTest {
     @Test
     @DisplayName("상품 업데이트 테스트")
     void updateItemTest() {
-        when(itemRepository.findById(1L)).thenReturn(Optional.of(testItem));
+        when(itemRepository.findWithLockById(1L)).thenReturn(Optional.of(testItem));
         when(itemRepository.save(any(Item.class))).thenReturn(testItem);
 
         ItemRequestDto updateDto = new ItemRequestDto();
@@ -153,45 +178,196 @@ class ItemServiceTest {
         assertThat(result.getCategory()).isEqualTo("UpdatedCategory");
         assertThat(result.getPrice()).isEqualTo(20000);
 
-        verify(itemRepository, times(1)).findById(1L);
+        verify(itemRepository, times(1)).findWithLockById(1L);
         verify(itemRepository, times(1)).save(any(Item.class));
+        verify(itemOutbox, times(1)).recordUpdated(new ItemValues("TestBrand", "TestCategory", 10000), testItem);
     }
 
     @Test
     @DisplayName("존재하지 않는 상품 업데이트 시 예외 발생 테스트")
     void updateItemNotFoundTest() {
-        when(itemRepository.findById(999L)).thenReturn(Optional.empty());
+        when(itemRepository.findWithLockById(999L)).thenReturn(Optional.empty());
 
         assertThrows(RecordNotFoundException.class, () -> {
             itemService.updateItem(testItemRequestDto, 999L);
         });
 
-        verify(itemRepository, times(1)).findById(999L);
+        verify(itemRepository, times(1)).findWithLockById(999L);
         verify(itemRepository, never()).save(any(Item.class));
     }
 
     @Test
     @DisplayName("상품 삭제 테스트")
     void deleteItemTest() {
-        when(itemRepository.findById(1L)).thenReturn(Optional.of(testItem));
+        when(itemRepository.findWithLockById(1L)).thenReturn(Optional.of(testItem));
         doNothing().when(itemRepository).delete(any(Item.class));
 
         itemService.deleteItem(1L);
 
-        verify(itemRepository, times(1)).findById(1L);
+        verify(itemRepository, times(1)).findWithLockById(1L);
         verify(itemRepository, times(1)).delete(any(Item.class));
+        verify(itemOutbox, times(1)).recordDeleted(testItem);
     }
 
     @Test
     @DisplayName("존재하지 않는 상품 삭제 시 예외 발생 테스트")
     void deleteItemNotFoundTest() {
-        when(itemRepository.findById(999L)).thenReturn(Optional.empty());
+        when(itemRepository.findWithLockById(999L)).thenReturn(Optional.empty());
 
         assertThrows(RecordNotFoundException.class, () -> {
             itemService.deleteItem(999L);
         });
 
-        verify(itemRepository, times(1)).findById(999L);
+        verify(itemRepository, times(1)).findWithLockById(999L);
         verify(itemRepository, never()).delete(any(Item.class));
     }
+
+    @Test
+    @DisplayName("대량 입력 시 올바른 줄만 배치 단위로 저장하고 잘못된 줄은 오류로 반환 테스트")
+    void importItemsTest() throws Exception {
+        CatalogProperties catalogProperties = new CatalogProperties();
+        catalogProperties.getItemImport().setBatchSize(2);
+
+        ItemService importService = new ItemService(itemRepository, entityManager, catalogProperties, itemOutbox, TransactionOperations.withoutTransaction());
+
+        String csv = """
+                brand,category,price
+                A,상의,10000
+                B,상의,0
+                C,,3000
+                D,바지,abc
+                E,바지,2000
+                "F, Inc.",모자,1500
+                """;
+
+        ItemImportResultDto result;
+        try (ItemImportReader reader = ItemImportReader.of(ItemImportReader.TEXT_CSV, new StringReader(csv)).orElseThrow()) {
+            result = importService.importItems(reader);
+        }
+
+        assertThat(result.getTotal()).isEqualTo(6);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(ItemImportErrorDto::getLine).containsExactly(3L, 4L, 5L);
+        assertThat(result.getErrors()).extracting(ItemImportErrorDto::getMessage)
+                .containsExactly("가격은 0원보다 커야 합니다.", "카테고리는 필수입니다.", "가격은 정수여야 합니다.");
+
+        // 배치 크기 2 -> 2건 + 1건
+        assertThat(result.getCommittedBatches()).isEqualTo(2);
+        assertThat(result.getFailedBatches()).isEmpty();
+        verify(itemRepository, times(2)).saveAll(anyList());
+        verify(itemRepository, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("대량 입력 중 한 배치의 저장이 실패하면 그 배치만 실패로 집계하고 다음 배치를 계속 저장 테스트")
+    void importItemsFailedBatchTest() throws Exception {
+        CatalogProperties catalogProperties = new CatalogProperties();
+        catalogProperties.getItemImport().setBatchSize(2);
+
+        AtomicInteger transactions = new AtomicInteger();
+        TransactionOperations perBatch = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                transactions.incrementAndGet();
+                return action.doInTransaction(null);
+            }
+        };
+        ItemService importService = new ItemService(itemRepository, entityManager, catalogProperties, itemOutbox, perBatch);
+
+        when(itemRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new DataIntegrityViolationException("duplicate"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        String csv = """
+                brand,category,price
+                A,상의,1000
+                B,상의,2000
+                C,상의,3000
+                D,상의,4000
+                E,상의,5000
+                """;
+
+        ItemImportResultDto result;
+        try (ItemImportReader reader = ItemImportReader.of(ItemImportReader.TEXT_CSV, new StringReader(csv)).orElseThrow()) {
+            result = importService.importItems(reader);
+        }
+
+        // 배치마다 트랜잭션 하나, 두 번째 배치(4 ~ 5 줄)만 실패
+        assertThat(transactions).hasValue(3);
+        assertThat(result.getTotal()).isEqualTo(5);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getCommittedBatches()).isEqualTo(2);
+        assertThat(result.getFailedBatches()).singleElement().satisfies(failedBatch -> {
+            assertThat(failedBatch.getBatch()).isEqualTo(2);
+            assertThat(failedBatch.getFromLine()).isEqualTo(4);
+            assertThat(failedBatch.getToLine()).isEqualTo(5);
+            assertThat(failedBatch.getRows()).isEqualTo(2);
+        });
+        verify(itemOutbox, times(2)).recordCreated(anyList());
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    @DisplayName("대량 입력 오류가 최대 개수를 넘으면 일부만 반환 테스트")
+    void importItemsErrorsTruncatedTest() throws Exception {
+        CatalogProperties catalogProperties = new CatalogProperties();
+        catalogProperties.getItemImport().setMaxErrors(1);
+
+        ItemService importService = new ItemService(itemRepository, entityManager, catalogProperties, itemOutbox, TransactionOperations.withoutTransaction());
+
+        String ndjson = """
+                {"brand":"A","category":"상의","price":-1}
+                not json
+                {"brand":"B","category":"상의","price":"abc"}
+                """;
+
+        ItemImportResultDto result;
+        try (ItemImportReader reader = ItemImportReader.of(ItemImportReader.APPLICATION_NDJSON, new StringReader(ndjson)).orElseThrow()) {
+            result = importService.importItems(reader);
+        }
+
+        assertThat(result.getImported()).isZero();
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors()).hasSize(1);
+        assertThat(result.isErrorsTruncated()).isTrue();
+        verify(itemRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("커서 방식 목록 조회 시 다음 페이지 커서 생성 테스트")
+    void getListByCursorTest() {
+        Item newer = Item.builder().id(3L).brand("A").category("상의").price(1000).build();
+        Item older = Item.builder().id(2L).brand("A").category("상의").price(2000).build();
+        Item oldest = Item.builder().id(1L).brand("A").category("상의").price(3000).build();
+
+        when(itemRepository.findAllByOrderByIdDesc(Limit.of(3))).thenReturn(List.of(newer, older, oldest));
+
+        ItemScrollDto firstPage = itemService.getListByCursor(null, 2);
+
+        assertThat(firstPage.getItems()).extracting(ItemAdminDto::getId).containsExactly(3L, 2L);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(ItemCursor.decode(firstPage.getNextCursor())).isEqualTo(2L);
+
+        when(itemRepository.findByIdLessThanOrderByIdDesc(2L, Limit.of(3))).thenReturn(List.of(oldest));
+
+        ItemScrollDto lastPage = itemService.getListByCursor(firstPage.getNextCursor(), 2);
+
+        assertThat(lastPage.getItems()).extracting(ItemAdminDto::getId).containsExactly(1L);
+        assertThat(lastPage.isHasNext()).isFalse();
+        assertThat(lastPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 커서나 페이지 크기로 목록 조회 시 예외 발생 테스트")
+    void getListByInvalidCursorTest() {
+        assertThrows(IllegalArgumentException.class, () -> itemService.getListByCursor("not-a-cursor", 10));
+        assertThrows(IllegalArgumentException.class, () -> itemService.getListByCursor(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> itemService.getListByCursor(null, 101));
+
+        verifyNoInteractions(itemRepository);
+    }
 }
@@ -1,8 +1,12 @@
 package com.musinsa.test.service;
 
-import com.musinsa.test.domain.Item;
+import com.musinsa.test.dto.BrandPriceProjection;
+import com.musinsa.test.dto.ItemBrandPriceDto;
 import com.musinsa.test.dto.LowestHighestResponseDto;
 import com.musinsa.test.exception.RecordNotFoundException;
+import com.musinsa.test.index.CategoryLowestPriceIndex;
+import com.musinsa.test.index.CategoryRegistry;
+import com.musinsa.test.index.ItemIndexManager;
 import com.musinsa.test.repository.ItemRepository;
 import com.musinsa.test.util.PriceFormatter;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.*;
 
@@ -25,30 +30,38 @@ class LowestHighestServiceTest {
     @Mock
     private ItemRepository itemRepository;
 
+    @Mock
+    private CategoryRegistry categoryRegistry;
+
+    @Mock
+    private CategoryLowestPriceIndex categoryLowestPriceIndex;
+
+    @Mock
+    private ItemIndexManager itemIndexManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private LowestHighestService lowestHighestService;
 
     private List<String> categories;
-    private Item lowestPriceItem;
-    private Item highestPriceItem;
+    private BrandPriceProjection lowestPriceItem;
+    private BrandPriceProjection highestPriceItem;
 
     @BeforeEach
     void setUp() {
         categories = Arrays.asList("상의", "하의", "신발");
 
-        lowestPriceItem = Item.builder()
-                .id(1L)
-                .brand("A")
-                .category("상의")
-                .price(10000)
-                .build();
-
-        highestPriceItem = Item.builder()
-                .id(2L)
-                .brand("B")
-                .category("상의")
-                .price(20000)
-                .build();
+        lowestPriceItem = brandPrice("A", 10000);
+        highestPriceItem = brandPrice("B", 20000);
+    }
+
+    private BrandPriceProjection brandPrice(String brand, int price) {
+        BrandPriceProjection brandPrice = mock(BrandPriceProjection.class);
+        lenient().when(brandPrice.getBrand()).thenReturn(brand);
+        lenient().when(brandPrice.getPrice()).thenReturn(price);
+        return brandPrice;
     }
 
     @Test
@@ -97,13 +110,24 @@ class LowestHighestServiceTest {
         verify(itemRepository, times(1)).findCategories();
     }
 
+    @Test
+    @DisplayName("인덱스 사용 가능 시 DB 조회 없이 카테고리 확인 테스트")
+    void isValidCategoryFromRegistryTest() {
+        when(itemIndexManager.isReadable()).thenReturn(true);
+        when(categoryRegistry.contains("상의")).thenReturn(true);
+        when(categoryRegistry.contains("미존재카테고리")).thenReturn(false);
+
+        assertThat(lowestHighestService.isValidCategory("상의")).isTrue();
+        assertThat(lowestHighestService.isValidCategory("미존재카테고리")).isFalse();
+
+        verify(itemRepository, never()).findCategories();
+    }
+
     @Test
     @DisplayName("카테고리별 최저가, 최고가 상품 조회 테스트")
     void findLowestHighestPriceTest() {
-        when(itemRepository.findFirstByCategoryOrderByPriceAscUpdatedAtDesc("상의"))
-                .thenReturn(Optional.of(lowestPriceItem));
-        when(itemRepository.findFirstByCategoryOrderByPriceDescUpdatedAtAsc("상의"))
-                .thenReturn(Optional.of(highestPriceItem));
+        when(itemRepository.findLowestHighestPriceItems("상의"))
+                .thenReturn(List.of(lowestPriceItem, highestPriceItem));
 
         LowestHighestResponseDto result = lowestHighestService.findLowestHighestPrice("상의");
 
@@ -118,23 +142,63 @@ class LowestHighestServiceTest {
         assertThat(result.get최고가().get(0).getBrand()).isEqualTo("B");
         assertThat(result.get최고가().get(0).getPrice()).isEqualTo(PriceFormatter.KorFormat(20000));
 
-        verify(itemRepository, times(1)).findFirstByCategoryOrderByPriceAscUpdatedAtDesc("상의");
-        verify(itemRepository, times(1)).findFirstByCategoryOrderByPriceDescUpdatedAtAsc("상의");
+        verify(itemRepository, times(1)).findLowestHighestPriceItems("상의");
+    }
+
+    @Test
+    @DisplayName("최저가, 최고가가 같은 브랜드가 여러 개일 때 모두 조회 테스트")
+    void findLowestHighestPriceWithTiesTest() {
+        // 가격 오름차순, 동일 가격은 최근 수정 순
+        List<BrandPriceProjection> items = List.of(
+                brandPrice("C", 10000),
+                lowestPriceItem,
+                brandPrice("A", 10000),
+                brandPrice("D", 20000),
+                highestPriceItem
+        );
+        when(itemRepository.findLowestHighestPriceItems("상의")).thenReturn(items);
+
+        LowestHighestResponseDto result = lowestHighestService.findLowestHighestPrice("상의");
+
+        assertThat(result.get최저가()).extracting(ItemBrandPriceDto::getBrand).containsExactly("C", "A");
+        assertThat(result.get최고가()).extracting(ItemBrandPriceDto::getBrand).containsExactly("B", "D");
+        assertThat(result.get최고가()).extracting(ItemBrandPriceDto::getPrice)
+                .containsOnly(PriceFormatter.KorFormat(20000));
+    }
+
+    @Test
+    @DisplayName("최고가 상품이 먼저 와도 가격으로 최저가, 최고가 구분 테스트")
+    void findLowestHighestPriceIgnoresResultPositionTest() {
+        when(itemRepository.findLowestHighestPriceItems("상의"))
+                .thenReturn(List.of(highestPriceItem, lowestPriceItem));
+
+        LowestHighestResponseDto result = lowestHighestService.findLowestHighestPrice("상의");
+
+        assertThat(result.get최저가()).extracting(ItemBrandPriceDto::getBrand).containsExactly("A");
+        assertThat(result.get최고가()).extracting(ItemBrandPriceDto::getBrand).containsExactly("B");
+    }
+
+    @Test
+    @DisplayName("상품이 하나일 때 최저가와 최고가가 같은 상품 조회 테스트")
+    void findLowestHighestPriceWithSingleItemTest() {
+        when(itemRepository.findLowestHighestPriceItems("상의")).thenReturn(List.of(lowestPriceItem));
+
+        LowestHighestResponseDto result = lowestHighestService.findLowestHighestPrice("상의");
+
+        assertThat(result.get최저가()).extracting(ItemBrandPriceDto::getBrand).containsExactly("A");
+        assertThat(result.get최고가()).extracting(ItemBrandPriceDto::getBrand).containsExactly("A");
     }
 
     @Test
     @DisplayName("상품이 없을 때 예외 발생 테스트")
     void findLowestHighestPriceWithNoItemsTest() {
-        when(itemRepository.findFirstByCategoryOrderByPriceAscUpdatedAtDesc("상의"))
-                .thenReturn(Optional.empty());
-        when(itemRepository.findFirstByCategoryOrderByPriceDescUpdatedAtAsc("상의"))
-                .thenReturn(Optional.empty());
+        when(itemRepository.findLowestHighestPriceItems("상의"))
+                .thenReturn(Collections.emptyList());
 
         assertThrows(RecordNotFoundException.class, () -> {
             lowestHighestService.findLowestHighestPrice("상의");
         });
 
-        verify(itemRepository, times(1)).findFirstByCategoryOrderByPriceAscUpdatedAtDesc("상의");
-        verify(itemRepository, times(1)).findFirstByCategoryOrderByPriceDescUpdatedAtAsc("상의");
+        verify(itemRepository, times(1)).findLowestHighestPriceItems("상의");
     }
 }
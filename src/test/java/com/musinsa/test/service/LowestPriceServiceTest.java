@@ -1,8 +1,14 @@
 package com.musinsa.test.service;
 
+import com.musinsa.test.config.CatalogProperties;
+import com.musinsa.test.config.LowestPriceQueryMode;
 import com.musinsa.test.domain.Item;
+import com.musinsa.test.dto.CategoryLowestPriceProjection;
 import com.musinsa.test.dto.LowestPriceByCategoryDto;
 import com.musinsa.test.dto.LowestPriceResponseDto;
+import com.musinsa.test.index.CategoryLowestPriceIndex;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.index.ItemSnapshot;
 import com.musinsa.test.repository.ItemRepository;
 import com.musinsa.test.util.PriceFormatter;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,7 +17,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 
 import java.util.*;
 
@@ -24,6 +33,18 @@ class LowestPriceServiceTest {
     @Mock
     private ItemRepository itemRepository;
 
+    @Mock
+    private CategoryLowestPriceIndex categoryLowestPriceIndex;
+
+    @Mock
+    private ItemIndexManager itemIndexManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private CatalogProperties catalogProperties = new CatalogProperties();
+
     @InjectMocks
     private LowestPriceService lowestPriceService;
 
@@ -103,4 +124,53 @@ class LowestPriceServiceTest {
             verify(itemRepository, times(1)).findFirstByCategoryOrderByPriceAscUpdatedAtDesc(category);
         }
     }
+
+    @Test
+    @DisplayName("인덱스 사용 가능 시 DB 조회 없이 최저가 상품 조회 테스트")
+    void getLowestPriceFromIndexTest() {
+        when(itemIndexManager.isReadable()).thenReturn(true);
+        when(categoryLowestPriceIndex.findLowestPriceItems()).thenReturn(List.of(
+                ItemSnapshot.of(lowestPriceItems.get("상의")),
+                ItemSnapshot.of(lowestPriceItems.get("하의")),
+                ItemSnapshot.of(lowestPriceItems.get("신발"))
+        ));
+
+        LowestPriceResponseDto result = lowestPriceService.getLowestPrice();
+
+        assertThat(result.getLowestPriceItems()).hasSize(3);
+        assertThat(result.getLowestPriceItems().get(0).getBrand()).isEqualTo("A");
+        assertThat(result.getLowestPriceItems().get(2).getPrice()).isEqualTo(PriceFormatter.KorFormat(30000));
+        assertThat(result.getTotalPrice()).isEqualTo(PriceFormatter.KorFormat(60000));
+
+        verifyNoInteractions(itemRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("윈도우 함수 조회 방식에서 한 번의 쿼리로 최저가 상품 조회 테스트")
+    void getLowestPriceByWindowFunctionTest() {
+        catalogProperties.getLowestPrice().setQueryMode(LowestPriceQueryMode.WINDOW_FUNCTION);
+
+        CategoryLowestPriceProjection shirt = mock(CategoryLowestPriceProjection.class);
+        when(shirt.getCategory()).thenReturn("상의");
+        when(shirt.getBrand()).thenReturn("A");
+        when(shirt.getPrice()).thenReturn(10000);
+
+        CategoryLowestPriceProjection pants = mock(CategoryLowestPriceProjection.class);
+        when(pants.getCategory()).thenReturn("하의");
+        when(pants.getBrand()).thenReturn("B");
+        when(pants.getPrice()).thenReturn(20000);
+
+        when(itemRepository.findLowestPriceItemsByCategory()).thenReturn(List.of(shirt, pants));
+
+        LowestPriceResponseDto result = lowestPriceService.getLowestPrice();
+
+        assertThat(result.getLowestPriceItems()).hasSize(2);
+        assertThat(result.getLowestPriceItems().get(1).getBrand()).isEqualTo("B");
+        assertThat(result.getTotalPrice()).isEqualTo(PriceFormatter.KorFormat(30000));
+
+        verify(itemRepository, times(1)).findLowestPriceItemsByCategory();
+        // DB 조회는 읽기 전용 트랜잭션에서 실행
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(itemRepository, never()).findCategories();
+    }
 }
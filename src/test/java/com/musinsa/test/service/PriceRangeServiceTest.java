@@ -0,0 +1,104 @@
+package com.musinsa.test.service;
+
+import com.musinsa.test.dto.ItemPriceDto;
+import com.musinsa.test.dto.ItemPriceProjection;
+import com.musinsa.test.dto.PriceRangeResponseDto;
+import com.musinsa.test.index.CategoryPriceRangeIndex;
+import com.musinsa.test.index.CategoryPriceRangeIndex.PriceRange;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.repository.ItemRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceRangeServiceTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private CategoryPriceRangeIndex categoryPriceRangeIndex;
+
+    @Mock
+    private ItemIndexManager itemIndexManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private PriceRangeService priceRangeService;
+
+    private ItemPriceProjection itemPrice(long id, String brand, int price) {
+        ItemPriceProjection itemPrice = mock(ItemPriceProjection.class);
+        when(itemPrice.getId()).thenReturn(id);
+        when(itemPrice.getBrand()).thenReturn(brand);
+        when(itemPrice.getPrice()).thenReturn(price);
+        return itemPrice;
+    }
+
+    @Test
+    @DisplayName("인덱스 사용 가능 시 DB 조회 없이 가격 범위 조회 테스트")
+    void findByPriceRangeFromIndexTest() {
+        when(itemIndexManager.isReadable()).thenReturn(true);
+        when(categoryPriceRangeIndex.findByPriceRange("아우터", 5000, 7000, 10))
+                .thenReturn(new PriceRange(2, new long[]{2L, 1L}, new String[]{"B", "A"}, new int[]{5000, 7000}));
+
+        PriceRangeResponseDto result = priceRangeService.findByPriceRange("아우터", 5000, 7000, 10);
+
+        assertThat(result.getTotalCount()).isEqualTo(2);
+        assertThat(result.getItems()).extracting(ItemPriceDto::getId).containsExactly(2L, 1L);
+        assertThat(result.getItems()).extracting(ItemPriceDto::getPrice).containsExactly("5,000", "7,000");
+
+        verifyNoInteractions(itemRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("DB 조회 시 결과가 size 보다 적으면 count 쿼리 생략 테스트")
+    void findByPriceRangeWithoutCountQueryTest() {
+        List<ItemPriceProjection> items = List.of(itemPrice(2L, "B", 5000));
+        when(itemRepository.findByPriceRange("아우터", Integer.MIN_VALUE, 7000, Limit.of(10))).thenReturn(items);
+
+        PriceRangeResponseDto result = priceRangeService.findByPriceRange("아우터", null, 7000, 10);
+
+        assertThat(result.getTotalCount()).isEqualTo(1);
+        assertThat(result.getItems()).extracting(ItemPriceDto::getBrand).containsExactly("B");
+        verify(itemRepository, never()).countByCategoryAndPriceBetween(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("DB 조회 시 결과가 size 만큼 차면 count 쿼리로 전체 개수 조회 테스트")
+    void findByPriceRangeWithCountQueryTest() {
+        List<ItemPriceProjection> items = List.of(itemPrice(2L, "B", 5000));
+        when(itemRepository.findByPriceRange("아우터", Integer.MIN_VALUE, Integer.MAX_VALUE, Limit.of(1))).thenReturn(items);
+        when(itemRepository.countByCategoryAndPriceBetween("아우터", Integer.MIN_VALUE, Integer.MAX_VALUE)).thenReturn(4L);
+
+        PriceRangeResponseDto result = priceRangeService.findByPriceRange("아우터", null, null, 1);
+
+        assertThat(result.getTotalCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("조회 개수나 가격 범위가 올바르지 않으면 예외 테스트")
+    void invalidArgumentsTest() {
+        assertThatThrownBy(() -> priceRangeService.findByPriceRange("아우터", null, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> priceRangeService.findByPriceRange("아우터", 7000, 5000, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(itemRepository, categoryPriceRangeIndex);
+    }
+}
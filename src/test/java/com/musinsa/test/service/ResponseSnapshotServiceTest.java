@@ -0,0 +1,83 @@
+package com.musinsa.test.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.test.dto.LowestPriceResponseDto;
+import com.musinsa.test.index.ItemIndexManager;
+import com.musinsa.test.service.ResponseSnapshotService.ResponseSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResponseSnapshotServiceTest {
+
+    @Mock
+    private ItemIndexManager itemIndexManager;
+
+    private ResponseSnapshotService responseSnapshotService;
+
+    private AtomicInteger renderCount;
+    private Supplier<LowestPriceResponseDto> renderer;
+
+    @BeforeEach
+    void setUp() {
+        responseSnapshotService = new ResponseSnapshotService(itemIndexManager, new ObjectMapper());
+
+        renderCount = new AtomicInteger();
+        renderer = () -> {
+            renderCount.incrementAndGet();
+            return new LowestPriceResponseDto(new ArrayList<>(), "0");
+        };
+    }
+
+    @Test
+    @DisplayName("카탈로그 버전이 같으면 한 번만 직렬화 테스트")
+    void sameVersionRenderedOnceTest() {
+        when(itemIndexManager.isReadable()).thenReturn(true);
+        when(itemIndexManager.getVersion()).thenReturn(1L);
+
+        ResponseSnapshot first = responseSnapshotService.getSnapshot("key", renderer).orElseThrow();
+        ResponseSnapshot second = responseSnapshotService.getSnapshot("key", renderer).orElseThrow();
+
+        assertThat(renderCount).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.body())).isEqualTo("{\"lowestPriceItems\":[],\"totalPrice\":\"0\"}");
+        assertThat(first.etag()).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("카탈로그 버전이 바뀌면 다시 직렬화하고 내용이 같으면 ETag 유지 테스트")
+    void newVersionRenderedAgainTest() {
+        when(itemIndexManager.isReadable()).thenReturn(true);
+        when(itemIndexManager.getVersion()).thenReturn(1L, 2L);
+
+        ResponseSnapshot first = responseSnapshotService.getSnapshot("key", renderer).orElseThrow();
+        ResponseSnapshot second = responseSnapshotService.getSnapshot("key", renderer).orElseThrow();
+
+        assertThat(renderCount).hasValue(2);
+        assertThat(second.version()).isEqualTo(2L);
+        assertThat(second.etag()).isEqualTo(first.etag());
+    }
+
+    @Test
+    @DisplayName("인덱스를 사용할 수 없으면 스냅샷을 사용하지 않음 테스트")
+    void notReadableTest() {
+        when(itemIndexManager.isReadable()).thenReturn(false);
+
+        Optional<ResponseSnapshot> result = responseSnapshotService.getSnapshot("key", renderer);
+
+        assertThat(result).isEmpty();
+        assertThat(renderCount).hasValue(0);
+    }
+}
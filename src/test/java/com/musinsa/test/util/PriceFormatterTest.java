@@ -0,0 +1,68 @@
+package com.musinsa.test.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceFormatterTest {
+
+    private static final NumberFormat NUMBER_FORMAT = NumberFormat.getNumberInstance(Locale.KOREA);
+
+    @Test
+    @DisplayName("NumberFormat(Locale.KOREA) 와 같은 결과 테스트")
+    void sameAsNumberFormatTest() {
+        IntStream boundaries = IntStream.of(
+                0, 1, 9, 10, 99, 100, 999, 1_000, 9_999, 10_000, 99_999, 100_000, 999_999, 1_000_000,
+                999_900, 1_000_100, Integer.MAX_VALUE, -1, -999, -1_000, -1_234_567, Integer.MIN_VALUE + 1, Integer.MIN_VALUE
+        );
+        IntStream random = new Random(42).ints(10_000);
+        IntStream hotPrices = IntStream.range(0, 10_000).map(i -> i * 100);
+
+        IntStream.concat(boundaries, IntStream.concat(random, hotPrices)).forEach(this::assertSameAsNumberFormat);
+    }
+
+    @Test
+    @DisplayName("StringBuilder 에 기존 내용 뒤로 추가 테스트")
+    void appendKorFormatTest() {
+        StringBuilder builder = new StringBuilder("가격: ");
+
+        PriceFormatter.appendKorFormat(builder, -1234567).append('원');
+
+        assertThat(builder.toString()).isEqualTo("가격: -1,234,567원");
+    }
+
+    @Test
+    @DisplayName("byte 배열의 offset 위치에 기록 테스트")
+    void writeKorFormatTest() {
+        byte[] buffer = new byte[4 + PriceFormatter.MAX_LENGTH];
+
+        int length = PriceFormatter.writeKorFormat(buffer, 4, Integer.MIN_VALUE);
+
+        assertThat(length).isEqualTo(PriceFormatter.MAX_LENGTH);
+        assertThat(new String(buffer, 4, length, StandardCharsets.UTF_8)).isEqualTo("-2,147,483,648");
+    }
+
+    @Test
+    @DisplayName("캐시 대상 가격은 같은 문자열 인스턴스 반환 테스트")
+    void cachedPriceTest() {
+        assertThat(PriceFormatter.KorFormat(34_100)).isSameAs(PriceFormatter.KorFormat(34_100));
+    }
+
+    private void assertSameAsNumberFormat(int price) {
+        String expected = NUMBER_FORMAT.format(price);
+
+        assertThat(PriceFormatter.KorFormat(price)).isEqualTo(expected);
+        assertThat(PriceFormatter.appendKorFormat(new StringBuilder(), price).toString()).isEqualTo(expected);
+
+        byte[] buffer = new byte[PriceFormatter.MAX_LENGTH];
+        int length = PriceFormatter.writeKorFormat(buffer, 0, price);
+        assertThat(new String(buffer, 0, length, StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+}
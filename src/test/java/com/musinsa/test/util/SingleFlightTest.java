@@ -0,0 +1,169 @@
+package com.musinsa.test.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private SingleFlight<String> singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new SingleFlight<>("test");
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 호출이 한 번의 계산 결과를 함께 받는지 테스트")
+    void coalesceConcurrentCallsTest() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            started.countDown();
+            await(release);
+            return "result-" + loads.incrementAndGet();
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 1; i < CALLERS; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute("key", () -> "result-" + loads.incrementAndGet())));
+        }
+        waitForCoalesced(CALLERS - 1);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result-1");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result-1");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.leaderCount()).isEqualTo(1);
+        assertThat(singleFlight.coalescedCount()).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    @DisplayName("계산이 끝난 뒤의 호출과 다른 키의 호출은 다시 계산하는지 테스트")
+    void loadAgainAfterCompletionTest() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(singleFlight.execute("key", loads::incrementAndGet)).isEqualTo(1);
+        assertThat(singleFlight.execute("key", loads::incrementAndGet)).isEqualTo(2);
+        assertThat(singleFlight.execute("other", loads::incrementAndGet)).isEqualTo(3);
+
+        assertThat(singleFlight.leaderCount()).isEqualTo(3);
+        assertThat(singleFlight.coalescedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("계산 예외를 합류한 호출도 같은 예외로 받고, 다음 호출은 다시 계산하는지 테스트")
+    void propagateExceptionTest() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("조회 실패");
+
+        Future<Object> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            started.countDown();
+            await(release);
+            throw failure;
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<Object> follower = executor.submit(() -> singleFlight.execute("key", () -> "unused"));
+        waitForCoalesced(1);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThat(singleFlight.execute("key", () -> "retry")).isEqualTo("retry");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 안의 호출은 진행 중인 계산에 합류하지 않는지 테스트")
+    void bypassInWriteTransactionTest() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            started.countDown();
+            await(release);
+            return "committed";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        try {
+            assertThat(singleFlight.execute("key", () -> "uncommitted")).isEqualTo("uncommitted");
+        } finally {
+            TransactionSynchronizationManager.clear();
+            release.countDown();
+        }
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("committed");
+        assertThat(singleFlight.leaderCount()).isEqualTo(1);
+        assertThat(singleFlight.coalescedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("호출 수와 진행 중인 계산 수 메트릭 테스트")
+    void metricsTest() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        singleFlight.bindTo(registry);
+
+        singleFlight.execute("key", () -> {
+            assertThat(registry.get("catalog.singleflight.in.flight").tag("flight", "test").gauge().value()).isEqualTo(1);
+            return "result";
+        });
+
+        assertThat(registry.get("catalog.singleflight.calls").tags("flight", "test", "result", "leader").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("catalog.singleflight.calls").tags("flight", "test", "result", "coalesced").functionCounter().count())
+                .isZero();
+        assertThat(registry.get("catalog.singleflight.in.flight").tag("flight", "test").gauge().value()).isZero();
+    }
+
+    private void waitForCoalesced(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.coalescedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(singleFlight.coalescedCount()).isEqualTo(expected);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}